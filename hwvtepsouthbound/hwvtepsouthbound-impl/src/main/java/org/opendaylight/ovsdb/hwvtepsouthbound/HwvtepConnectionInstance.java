@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -47,6 +48,7 @@ import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.Operations;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
@@ -77,6 +79,8 @@ public class HwvtepConnectionInstance {
     private Registration deviceOwnershipCandidateRegistration;
     private HwvtepGlobalAugmentation initialCreatedData = null;
     private final HwvtepDeviceInfo deviceInfo;
+    private final DatabaseReplica replica = new DatabaseReplica(HwvtepSchemaConstants.HARDWARE_VTEP);
+    private volatile boolean replicaPopulated = false;
     private final DataBroker dataBroker;
     private final Operations ops;
     private final HwvtepConnectionManager hwvtepConnectionManager;
@@ -207,7 +211,11 @@ public class HwvtepConnectionInstance {
                             .with(new MonitorSelect(true, true, true, true)).build());
                 }
             }
-            this.callback.update(monitor(dbSchema, monitorRequests, callback), dbSchema);
+            // monitor_cond_since fills the connection's replica with the complete contents of the monitored tables and
+            // then applies each update3 diff to it, so that the callback still gets full rows and table reads can be
+            // served from the replica
+            this.callback.update(monitorCondSince(dbSchema, monitorRequests, callback), dbSchema);
+            replicaPopulated = true;
         } else {
             LOG.warn("No tables for schema {} for database {} for key {}",dbSchema,database,connectionInfo);
         }
@@ -251,6 +259,14 @@ public class HwvtepConnectionInstance {
         return null;
     }
 
+    public <E extends TableSchema<E>> TableUpdates monitorCondSince(final DatabaseSchema schema,
+            final List<MonitorRequest> monitorRequests, final MonitorCallBack monitorCallBack) {
+        // The replica starts empty, hence this always resynchronizes it with the complete contents of the monitored
+        // tables
+        return client.monitorCondSince(schema, monitorRequests, new MonitorHandle(UUID.randomUUID().toString()),
+            monitorCallBack, replica);
+    }
+
     public void cancelMonitor(final MonitorHandle handler) {
         client.cancelMonitor(handler);
     }
@@ -375,6 +391,20 @@ public class HwvtepConnectionInstance {
         return client;
     }
 
+    /**
+     * Return the local copy of the monitored tables, kept up to date by the monitor. It is empty until
+     * {@link #isReplicaPopulated()} returns true.
+     *
+     * @return the replica of the hardware_vtep database
+     */
+    public DatabaseReplica getReplica() {
+        return replica;
+    }
+
+    public boolean isReplicaPopulated() {
+        return replicaPopulated;
+    }
+
     public HwvtepTableReader getHwvtepTableReader() {
         return hwvtepTableReader;
     }
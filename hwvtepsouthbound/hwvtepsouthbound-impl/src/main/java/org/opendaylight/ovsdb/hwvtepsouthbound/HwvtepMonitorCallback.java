@@ -20,6 +20,8 @@ public class HwvtepMonitorCallback implements MonitorCallBack {
     private static final Logger LOG = LoggerFactory.getLogger(HwvtepMonitorCallback.class);
     private HwvtepConnectionInstance key;
     private TransactionInvoker txInvoker;
+    // Parts of the initial contents of the monitor received so far, written together with its reply
+    private TableUpdates initialParts;
 
     HwvtepMonitorCallback(HwvtepConnectionInstance key,TransactionInvoker txInvoker) {
         this.txInvoker = txInvoker;
@@ -29,10 +31,45 @@ public class HwvtepMonitorCallback implements MonitorCallBack {
     @Override
     public void update(TableUpdates result, DatabaseSchema dbSchema) {
         LOG.trace("result: {} dbSchema: {}", result, dbSchema.getName());
-        txInvoker.invoke(new HwvtepOperationalCommandAggregator(key, result, dbSchema));
+        txInvoker.invoke(new HwvtepOperationalCommandAggregator(key, completeInitialParts(result), dbSchema));
         LOG.trace("update exit");
     }
 
+    @Override
+    public boolean acceptsPartialUpdates() {
+        return true;
+    }
+
+    /**
+     * Collect a part of the initial contents of the monitor. Parts split tables at arbitrary rows, so that a logical
+     * switch may arrive in a later part than the MACs referencing it, hence they are written only together with the
+     * monitor reply.
+     *
+     * @param result part of the initial contents
+     * @param dbSchema database schema
+     */
+    @Override
+    public synchronized void partialUpdate(TableUpdates result, DatabaseSchema dbSchema) {
+        if (initialParts == null) {
+            initialParts = new TableUpdates();
+        }
+        initialParts.merge(result);
+    }
+
+    private synchronized TableUpdates completeInitialParts(TableUpdates result) {
+        final TableUpdates parts = initialParts;
+        if (parts == null) {
+            return result;
+        }
+        initialParts = null;
+        if (result == null) {
+            // The monitor has failed, its parts are not complete
+            return null;
+        }
+        parts.merge(result);
+        return parts;
+    }
+
     @Override
     public void exception(Throwable exception) {
         LOG.warn("exception", exception);
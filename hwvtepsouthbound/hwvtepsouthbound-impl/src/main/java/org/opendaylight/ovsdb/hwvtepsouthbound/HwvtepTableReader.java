@@ -25,12 +25,14 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.opendaylight.ovsdb.lib.message.TableUpdate;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.Column;
 import org.opendaylight.ovsdb.lib.notation.Condition;
 import org.opendaylight.ovsdb.lib.notation.Row;
 import org.opendaylight.ovsdb.lib.notation.UUID;
 import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.Select;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.lib.schema.typed.TypedBaseTable;
 import org.opendaylight.ovsdb.lib.schema.typed.TypedDatabaseSchema;
@@ -122,21 +124,25 @@ public class HwvtepTableReader {
             if (mcastMacsTable != null) {
                 tableBuilder.put(McastMacsRemote.class, mcastMacsTable);
                 whereBuilder.put(RemoteMcastMacs.class, new RemoteMcastMacWhereClauseGetter(mcastMacsTable));
+                addReplicaIndex(mcastMacsTable, mcastMacsTable.getLogicalSwitchColumn());
             }
             final UcastMacsRemote ucastMacsTable = dbSchema.getTypedRowWrapper(UcastMacsRemote.class, null);
             if (ucastMacsTable != null) {
                 tableBuilder.put(UcastMacsRemote.class, ucastMacsTable);
                 whereBuilder.put(RemoteUcastMacs.class, new RemoteUcastMacWhereClauseGetter(ucastMacsTable));
+                addReplicaIndex(ucastMacsTable, ucastMacsTable.getMacColumn(), ucastMacsTable.getLogicalSwitchColumn());
             }
             final LogicalSwitch lsTable = dbSchema.getTypedRowWrapper(LogicalSwitch.class, null);
             if (lsTable != null) {
                 tableBuilder.put(LogicalSwitch.class, lsTable);
                 whereBuilder.put(LogicalSwitches.class, new LogicalSwitchWhereClauseGetter(lsTable));
+                addReplicaIndex(lsTable, lsTable.getNameColumn());
             }
             final PhysicalLocator plTable = dbSchema.getTypedRowWrapper(PhysicalLocator.class, null);
             if (plTable != null) {
                 tableBuilder.put(PhysicalLocator.class, plTable);
                 whereBuilder.put(TerminationPoint.class, new LocatorWhereClauseGetter(plTable));
+                addReplicaIndex(plTable, plTable.getDstIpColumn());
             }
             final PhysicalPort physicalPort = dbSchema.getTypedRowWrapper(PhysicalPort.class, null);
             if (physicalPort != null) {
@@ -148,6 +154,17 @@ public class HwvtepTableReader {
         whereClauseGetters = whereBuilder.build();
     }
 
+    private void addReplicaIndex(final TypedBaseTable<?> table, final Column<?, ?>... columns) {
+        connectionInstance.getReplica().addIndex(table.getSchema().getName(), Arrays.stream(columns)
+            .map(column -> column.getSchema().getName())
+            .toArray(String[]::new));
+    }
+
+    private Optional<DatabaseReplica> populatedReplica() {
+        return connectionInstance.isReplicaPopulated() ? Optional.of(connectionInstance.getReplica())
+            : Optional.empty();
+    }
+
     @FunctionalInterface
     private interface WhereClauseGetter<T extends DataObject> extends Function<InstanceIdentifier<T>, List<Condition>> {
 
@@ -283,12 +300,27 @@ public class HwvtepTableReader {
                 return Optional.empty();
             }
 
+            final Optional<TypedBaseTable> replicated = populatedReplica()
+                .<TypedBaseTable>flatMap(replica -> replica.select(dbSchema, tableClass, conditions).stream()
+                    .findFirst())
+                .filter(row -> row.getUuid() != null);
+            if (replicated.isPresent()) {
+                return replicated;
+            }
+
             if (conditions.size() == 2) {
                 selectOperation.where(conditions.get(0)).and(conditions.get(1));
             } else {
                 selectOperation.where(conditions.get(0));
             }
         } else {
+            final Optional<TypedBaseTable> replicated = populatedReplica()
+                .map(replica -> (TypedBaseTable) replica.getTypedRow(dbSchema, tableClass, existingUUID))
+                .filter(row -> row.getUuid() != null);
+            if (replicated.isPresent()) {
+                return replicated;
+            }
+
             TypedBaseTable<?> table = tables.get(tableClass);
             LOG.info("Setting uuid condition {} ", existingUUID);
             selectOperation.where(table.getUuidColumn().getSchema().opEqual(existingUUID));
@@ -328,6 +360,11 @@ public class HwvtepTableReader {
         }
 
         final Class<? extends TypedBaseTable<?>> tableClass = TABLE_MAP.get(cls);
+        final Optional<DatabaseReplica> replica = populatedReplica();
+        if (replica.isPresent()) {
+            return new ArrayList<>(replica.orElseThrow().getTypedRows(dbSchema, tableClass));
+        }
+
         final GenericTableSchema hwvtepSchema = dbSchema.getTableSchema(tableClass);
         final Select<GenericTableSchema> selectOperation = connectionInstance.ops().select(hwvtepSchema);
         selectOperation.setColumns(hwvtepSchema.getColumnList());
@@ -361,6 +398,12 @@ public class HwvtepTableReader {
     }
 
     public TableUpdates readAllTables() throws ExecutionException, InterruptedException {
+        final Optional<DatabaseReplica> replica = populatedReplica();
+        if (replica.isPresent()) {
+            // The monitor keeps the replica in sync with the device, no need to read it again
+            return replica.orElseThrow().snapshot();
+        }
+
         TypedDatabaseSchema dbSchema = connectionInstance.getSchema(HwvtepSchemaConstants.HARDWARE_VTEP).get();
         List<Operation> operations = Arrays.stream(ALL_TABLES)
                 .map(tableClass -> dbSchema.getTableSchema(tableClass))
@@ -16,4 +16,27 @@ public interface MonitorCallBack {
     void update(TableUpdates result, DatabaseSchema dbSchema);
 
     void exception(Throwable throwable);
+
+    /**
+     * Indicate whether this callback accepts the initial contents of a monitor in parts, through
+     * {@link #partialUpdate(TableUpdates, DatabaseSchema)}. Rows are then handed out as they are received, so that
+     * the initial contents of a large database are never held in memory at once.
+     *
+     * @return true if this callback accepts partial updates
+     */
+    default boolean acceptsPartialUpdates() {
+        return false;
+    }
+
+    /**
+     * Receive a part of the initial contents of a monitor. Parts are delivered in order, before the monitor request
+     * returns. The rows returned by the monitor request are the final part, hence its return marks the end of the
+     * initial contents. Invoked only if {@link #acceptsPartialUpdates()} returns true.
+     *
+     * @param result part of the initial contents
+     * @param dbSchema database schema
+     */
+    default void partialUpdate(final TableUpdates result, final DatabaseSchema dbSchema) {
+        update(result, dbSchema);
+    }
 }
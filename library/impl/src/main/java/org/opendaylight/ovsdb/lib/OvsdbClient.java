@@ -14,7 +14,9 @@ import org.opendaylight.ovsdb.lib.message.TableUpdates;
 import org.opendaylight.ovsdb.lib.notation.Row;
 import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
+import org.opendaylight.ovsdb.lib.operations.TransactionBatchMode;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
@@ -55,6 +57,19 @@ public interface OvsdbClient {
      */
     ListenableFuture<List<OperationResult>> transact(DatabaseSchema dbSchema, List<Operation> operations);
 
+    /**
+     * Execute a batch of independent transactions without waiting for each of them to complete before sending the
+     * next one.
+     *
+     * @param builders transactions to execute
+     * @param mode how the transactions are submitted
+     * @return Future objects representing the results of each transaction, in the order of {@code builders}
+     * @throws IllegalArgumentException if {@code mode} is {@link TransactionBatchMode#PACK} and the transactions
+     *     target different databases or reuse a {@code uuid-name}
+     */
+    List<ListenableFuture<List<OperationResult>>> transact(List<TransactionBuilder> builders,
+        TransactionBatchMode mode);
+
     /**
      * ovsdb <a href="http://tools.ietf.org/html/draft-pfaff-ovsdb-proto-04#section-4.1.5">monitor</a> operation.
      * @param monitorRequests represents what needs to be monitored including a client specified monitor handle. This
@@ -103,6 +118,101 @@ public interface OvsdbClient {
                                                     MonitorCallBack callback,
                                                     int timeout);
 
+    /**
+     * ovsdb <a href="https://docs.openvswitch.org/en/latest/ref/ovsdb-server.7/#monitor-cond">monitor_cond</a>
+     * operation. This works like {@link #monitor(DatabaseSchema, List, MonitorHandle, MonitorCallBack)}, except the
+     * server only reports rows which match the conditions set in each {@link MonitorRequest}, see
+     * {@link MonitorRequest#getWhere()}. The conditions can later be changed through
+     * {@link #changeMonitorConditions(MonitorHandle, List)}.
+     *
+     * <p>The server reports updates in {@code update2} format, where modified rows carry only the changed columns.
+     * These are applied to a copy of the monitored rows kept for the lifetime of the monitor, so that both the
+     * returned updates and those passed to {@code callback} have the same form as {@code monitor} ones: new rows are
+     * complete and old rows of modified rows hold the previous values of the changed columns. Servers which do not
+     * support {@code monitor_cond} are monitored through {@code monitor} instead, unless some of the requests have
+     * conditions, which {@code monitor} cannot express. The monitor fails in that case.
+     *
+     * @param monitorRequests represents what needs to be monitored
+     * @param monitorHandle  A client specified monitor handle. This handle is used to later change the conditions of
+     *                       ({@link #changeMonitorConditions(MonitorHandle, List)}) or cancel
+     *                       ({@link #cancelMonitor(MonitorHandle)}) the monitor.
+     * @param callback receives the monitor response
+     */
+    <E extends TableSchema<E>> TableUpdates monitorCond(DatabaseSchema schema,
+                                                        List<MonitorRequest> monitorRequests,
+                                                        MonitorHandle monitorHandle,
+                                                        MonitorCallBack callback);
+
+    /**
+     * ovsdb <a href="https://docs.openvswitch.org/en/latest/ref/ovsdb-server.7/#monitor-cond">monitor_cond</a>
+     * operation. See {@link #monitorCond(DatabaseSchema, List, MonitorHandle, MonitorCallBack)}.
+     *
+     * @param monitorRequests represents what needs to be monitored
+     * @param monitorHandle  A client specified monitor handle.
+     * @param callback receives the monitor response
+     * @param timeout time in seconds for monitor transaction timeout
+     */
+    <E extends TableSchema<E>> TableUpdates monitorCond(DatabaseSchema schema,
+                                                        List<MonitorRequest> monitorRequests,
+                                                        MonitorHandle monitorHandle,
+                                                        MonitorCallBack callback,
+                                                        int timeout);
+
+    /**
+     * ovsdb <a href="https://docs.openvswitch.org/en/latest/ref/ovsdb-server.7/#monitor-cond-since">
+     * monitor_cond_since</a> operation. This works like
+     * {@link #monitorCond(DatabaseSchema, List, MonitorHandle, MonitorCallBack)}, except the server is asked to resume
+     * from the last transaction reflected in {@code replica}. If it can, only the changes committed since then are
+     * transferred, otherwise the server sends its complete contents. Servers which do not support this operation are
+     * monitored through {@code monitor_cond} or {@code monitor} instead.
+     *
+     * <p>In all cases {@code replica} is brought up to date with the server and the returned updates, as well as those
+     * passed to {@code callback}, describe the changes made to it in {@code table-updates} format, with full rows
+     * as new rows. A replica should only be reused with the same monitor requests.
+     *
+     * @param monitorRequests represents what needs to be monitored
+     * @param monitorHandle  A client specified monitor handle.
+     * @param callback receives the monitor response
+     * @param replica replica to resume from and to keep up to date
+     */
+    <E extends TableSchema<E>> TableUpdates monitorCondSince(DatabaseSchema schema,
+                                                             List<MonitorRequest> monitorRequests,
+                                                             MonitorHandle monitorHandle,
+                                                             MonitorCallBack callback,
+                                                             DatabaseReplica replica);
+
+    /**
+     * ovsdb <a href="https://docs.openvswitch.org/en/latest/ref/ovsdb-server.7/#monitor-cond-since">
+     * monitor_cond_since</a> operation. See
+     * {@link #monitorCondSince(DatabaseSchema, List, MonitorHandle, MonitorCallBack, DatabaseReplica)}.
+     *
+     * @param monitorRequests represents what needs to be monitored
+     * @param monitorHandle  A client specified monitor handle.
+     * @param callback receives the monitor response
+     * @param replica replica to resume from and to keep up to date
+     * @param timeout time in seconds for monitor transaction timeout
+     */
+    <E extends TableSchema<E>> TableUpdates monitorCondSince(DatabaseSchema schema,
+                                                             List<MonitorRequest> monitorRequests,
+                                                             MonitorHandle monitorHandle,
+                                                             MonitorCallBack callback,
+                                                             DatabaseReplica replica,
+                                                             int timeout);
+
+    /**
+     * ovsdb <a href="https://docs.openvswitch.org/en/latest/ref/ovsdb-server.7/#monitor-cond-change">
+     * monitor_cond_change</a> operation. Replaces the conditions of the tables present in {@code monitorRequests}
+     * with their {@link MonitorRequest#getWhere()}, a null value meaning all rows. The server reports rows which
+     * start matching as inserted and rows which stop matching as deleted, through the monitor's callback.
+     *
+     * @param monitorHandle Handle identifying a monitor established through
+     *                      {@link #monitorCond(DatabaseSchema, List, MonitorHandle, MonitorCallBack)}
+     * @param monitorRequests new conditions, only table names and conditions are used
+     * @return Future completing once the server has accepted the change
+     * @throws IllegalArgumentException if there is no conditional monitor for this handle
+     */
+    ListenableFuture<Void> changeMonitorConditions(MonitorHandle monitorHandle, List<MonitorRequest> monitorRequests);
+
     /**
      * Cancels an existing monitor method.
      * @param handler Handle identifying a specific monitor request that is being cancelled.
@@ -161,6 +271,17 @@ public interface OvsdbClient {
 
     void disconnect();
 
+    /**
+     * Suspend reading from this connection, so that TCP flow control pushes back on the remote end. Suspensions nest:
+     * reading resumes only once each of them has been undone by {@link #resumeReading()}.
+     */
+    void suspendReading();
+
+    /**
+     * Undo a previous {@link #suspendReading()}.
+     */
+    void resumeReading();
+
     TypedDatabaseSchema getDatabaseSchema(String dbName);
 
     /**
@@ -25,10 +25,6 @@ public class OvsdbConnectionInfo {
         ACTIVE, PASSIVE
     }
 
-    public enum SocketConnectionType {
-        SSL, NON_SSL
-    }
-
     @XmlTransient
     private Channel channel;
 
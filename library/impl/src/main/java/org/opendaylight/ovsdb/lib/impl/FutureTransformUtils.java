@@ -72,4 +72,46 @@ public final class FutureTransformUtils {
             return operationResults;
         }, MoreExecutors.directExecutor());
     }
+
+    /**
+     * Split the response of a single {@code transact} request, which packs the operations of several transactions,
+     * into per-transaction results. Since the request is atomic, each transaction whose own operations did not fail
+     * reports the first error of the request as an additional trailing result if any other operation failed, or if
+     * the request could not be committed.
+     *
+     * @param packedResponse transformed response of the packed request
+     * @param sizes number of operations of each transaction, in request order
+     * @return a future result for each transaction
+     */
+    public static List<ListenableFuture<List<OperationResult>>> sliceTransactResponse(
+            final ListenableFuture<List<OperationResult>> packedResponse, final List<Integer> sizes) {
+        final List<ListenableFuture<List<OperationResult>>> slices = new ArrayList<>(sizes.size());
+        int from = 0;
+        for (int size : sizes) {
+            final int start = from;
+            final int end = from + size;
+            slices.add(Futures.transform(packedResponse, results -> {
+                final List<OperationResult> slice = new ArrayList<>(
+                    results.subList(Math.min(start, results.size()), Math.min(end, results.size())));
+                while (slice.size() < size) {
+                    slice.add(new OperationResult());
+                }
+                if (slice.stream().allMatch(result -> result.getError() == null)) {
+                    results.stream().filter(result -> result.getError() != null).findFirst()
+                        .ifPresent(failed -> slice.add(abortedBy(failed)));
+                }
+                return slice;
+            }, MoreExecutors.directExecutor()));
+            from = end;
+        }
+        return slices;
+    }
+
+    private static OperationResult abortedBy(final OperationResult failed) {
+        final OperationResult result = new OperationResult();
+        result.setError(failed.getError());
+        result.setDetails("Aborted together with a batched transaction"
+            + (failed.getDetails() != null ? ": " + failed.getDetails() : ""));
+        return result;
+    }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Execution model for client-side work of {@link OvsdbClientImpl}, such as schema transformations and callbacks.
+ * Each connection gets its own {@link ConnectionExecutor}, which runs tasks one at a time and in submission order,
+ * on top of a backing executor shared by all connections. This bounds the number of threads regardless of the number
+ * of connected devices.
+ *
+ * <p>Connection executors bound to a channel also bound their queue: once it holds the configured number of
+ * tasks, reading from the channel is suspended until the queue drains to half of that. Tasks must therefore not wait
+ * for replies received on their own connection.
+ */
+public final class OvsdbClientExecutors implements AutoCloseable {
+    /**
+     * Kind of the backing executor.
+     */
+    public enum Model {
+        /**
+         * A fixed pool of platform threads, shared by all connections.
+         */
+        SHARED,
+        /**
+         * A new virtual thread for each task.
+         */
+        VIRTUAL;
+
+        /**
+         * Return the model with specified name, ignoring case.
+         *
+         * @param name model name
+         * @return a model
+         * @throws IllegalArgumentException if the name does not match any model
+         */
+        public static @NonNull Model ofName(final String name) {
+            for (Model model : values()) {
+                if (model.name().equalsIgnoreCase(name.trim())) {
+                    return model;
+                }
+            }
+            throw new IllegalArgumentException("Unknown client executor model " + name);
+        }
+    }
+
+    /**
+     * A per-connection executor, which executes tasks sequentially on the shared backing executor.
+     */
+    public final class ConnectionExecutor implements Executor {
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final AtomicBoolean readPaused = new AtomicBoolean();
+        private final Executor sequential = MoreExecutors.newSequentialExecutor(backing);
+        private final @Nullable ReadThrottle throttle;
+
+        ConnectionExecutor(final @Nullable ReadThrottle throttle) {
+            this.throttle = throttle;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            requireNonNull(command);
+            enqueued();
+            try {
+                sequential.execute(() -> {
+                    dequeued();
+                    command.run();
+                });
+            } catch (RejectedExecutionException e) {
+                dequeued();
+                throw e;
+            }
+        }
+
+        /**
+         * Return the number of tasks submitted to this executor which have not started yet.
+         *
+         * @return current queue depth
+         */
+        public int getQueueDepth() {
+            return queueDepth.get();
+        }
+
+        /**
+         * Return true if reading from the channel is suspended because the queue is full.
+         *
+         * @return true if reading is suspended
+         */
+        public boolean isReadPaused() {
+            return readPaused.get();
+        }
+
+        private void enqueued() {
+            final int depth = queueDepth.incrementAndGet();
+            peakQueueDepth.accumulateAndGet(totalQueueDepth.incrementAndGet(), Math::max);
+            if (throttle != null && queueLimit > 0 && depth >= queueLimit && readPaused.compareAndSet(false, true)) {
+                LOG.debug("Suspending reads from {} with {} pending tasks", throttle.channel(), depth);
+                throttle.suspend();
+                // The queue may have drained before we have suspended reads
+                maybeResume(queueDepth.get());
+            }
+        }
+
+        private void dequeued() {
+            totalQueueDepth.decrementAndGet();
+            maybeResume(queueDepth.decrementAndGet());
+        }
+
+        private void maybeResume(final int depth) {
+            if (depth <= queueLimit / 2 && readPaused.compareAndSet(true, false)) {
+                LOG.debug("Resuming reads from {}", throttle.channel());
+                throttle.resume();
+            }
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(OvsdbClientExecutors.class);
+
+    private final AtomicInteger totalQueueDepth = new AtomicInteger();
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+    private final @NonNull ExecutorService backing;
+    private final @NonNull Model model;
+    private final int queueLimit;
+
+    /**
+     * Create a new instance.
+     *
+     * @param model backing executor model
+     * @param threads number of threads of a {@link Model#SHARED} pool, 0 to use the number of available processors,
+     *                ignored for {@link Model#VIRTUAL}
+     * @param queueLimit number of pending tasks of a connection at which reading from its channel is suspended,
+     *                   0 to never suspend reads
+     */
+    public OvsdbClientExecutors(final Model model, final int threads, final int queueLimit) {
+        this.model = requireNonNull(model);
+        this.queueLimit = queueLimit;
+        backing = switch (model) {
+            case SHARED -> Executors.newFixedThreadPool(
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                new ThreadFactoryBuilder().setNameFormat("OVSDB-client-%d").setDaemon(true).build());
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("OVSDB-client-", 0).factory());
+        };
+    }
+
+    /**
+     * Return the model of the backing executor.
+     *
+     * @return backing executor model
+     */
+    public @NonNull Model getModel() {
+        return model;
+    }
+
+    /**
+     * Create a new executor for a single connection, which does not suspend reads.
+     *
+     * @return a new {@link ConnectionExecutor}
+     */
+    public @NonNull ConnectionExecutor newConnectionExecutor() {
+        return new ConnectionExecutor(null);
+    }
+
+    /**
+     * Create a new executor for a single connection, which suspends reading from its channel while its queue is full.
+     *
+     * @param throttle read throttle of the connection channel
+     * @return a new {@link ConnectionExecutor}
+     */
+    @NonNull ConnectionExecutor newConnectionExecutor(final ReadThrottle throttle) {
+        return new ConnectionExecutor(requireNonNull(throttle));
+    }
+
+    /**
+     * Return the number of tasks submitted to all connection executors which have not started yet.
+     *
+     * @return current queue depth
+     */
+    public int getQueueDepth() {
+        return totalQueueDepth.get();
+    }
+
+    /**
+     * Return the highest value {@link #getQueueDepth()} has reached.
+     *
+     * @return peak queue depth
+     */
+    public int getPeakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    @Override
+    public void close() {
+        backing.shutdown();
+    }
+}
@@ -7,7 +7,12 @@
  */
 package org.opendaylight.ovsdb.lib.impl;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
@@ -15,21 +20,25 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.channel.Channel;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
 import org.opendaylight.ovsdb.lib.LockAquisitionCallback;
 import org.opendaylight.ovsdb.lib.LockStolenCallback;
@@ -38,8 +47,8 @@ import org.opendaylight.ovsdb.lib.MonitorHandle;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
-import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.SocketConnectionType;
 import org.opendaylight.ovsdb.lib.error.ParsingException;
+import org.opendaylight.ovsdb.lib.jsonrpc.Params;
 import org.opendaylight.ovsdb.lib.message.MonitorRequest;
 import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
 import org.opendaylight.ovsdb.lib.message.TableUpdate;
@@ -47,12 +56,16 @@ import org.opendaylight.ovsdb.lib.message.TableUpdates;
 import org.opendaylight.ovsdb.lib.message.TransactBuilder;
 import org.opendaylight.ovsdb.lib.message.UpdateNotification;
 import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.operations.Insert;
 import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
+import org.opendaylight.ovsdb.lib.operations.TransactionBatchMode;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.DatabaseSchemaRegistry;
 import org.opendaylight.ovsdb.lib.schema.typed.TypedBaseTable;
 import org.opendaylight.ovsdb.lib.schema.typed.TypedDatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.typed.TypedReflections;
@@ -62,60 +75,32 @@ import org.slf4j.LoggerFactory;
 public class OvsdbClientImpl implements OvsdbClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(OvsdbClientImpl.class);
-    private ExecutorService executorService;
+    private final Executor executor;
+    private final ReadThrottle throttle;
     private OvsdbRPC rpc;
-    private final Map<String, TypedDatabaseSchema> schemas = new HashMap<>();
-    private final Map<String, CallbackContext> monitorCallbacks = new HashMap<>();
+    private final Map<String, TypedDatabaseSchema> schemas = new ConcurrentHashMap<>();
+    private final Map<String, CallbackContext> monitorCallbacks = new ConcurrentHashMap<>();
     private OvsdbRPC.Callback rpcCallback;
     private OvsdbConnectionInfo connectionInfo;
     private Channel channel;
     private boolean isConnectionPublished;
     private static final int NO_TIMEOUT = -1;
-
-    private static final ThreadFactory THREAD_FACTORY_SSL =
-        new ThreadFactoryBuilder().setNameFormat("OVSDB-PassiveConnection-SSL-%d").build();
-    private static final ThreadFactory THREAD_FACTORY_NON_SSL =
-        new ThreadFactoryBuilder().setNameFormat("OVSDB-PassiveConnection-Non-SSL-%d").build();
+    // Per ovsdb-server(7), the all-zero UUID requests the complete contents from monitor_cond_since
+    private static final String NO_TRANSACTION_ID = "00000000-0000-0000-0000-000000000000";
 
     public OvsdbClientImpl(final OvsdbRPC rpc, final Channel channel, final ConnectionType type,
-        final SocketConnectionType socketConnType) {
+        final OvsdbClientExecutors executors) {
         this.rpc = rpc;
-        ThreadFactory threadFactory =
-            getThreadFactory(type, socketConnType, channel.remoteAddress().toString());
-        this.executorService = Executors.newCachedThreadPool(threadFactory);
+        this.throttle = new ReadThrottle(channel);
+        this.executor = executors.newConnectionExecutor(throttle);
         this.channel = channel;
         this.connectionInfo = new OvsdbConnectionInfo(channel, type);
     }
 
-    /**
-     * Generate the threadFactory based on ACTIVE, PASSIVE (SSL/NON-SSL) connection type.
-     * @param type ACTIVE or PASSIVE {@link ConnectionType}
-     * @param socketConnType SSL or NON-SSL {@link SocketConnectionType}
-     * @param executorNameArgs Additional args to append to thread name format
-     * @return {@link ThreadFactory}
-     */
-    private ThreadFactory getThreadFactory(final ConnectionType type,
-        final SocketConnectionType socketConnType, final String executorNameArgs) {
-        if (type == ConnectionType.PASSIVE) {
-            switch (socketConnType) {
-                case SSL:
-                    return THREAD_FACTORY_SSL;
-                case NON_SSL:
-                    return THREAD_FACTORY_NON_SSL;
-                default:
-                    return Executors.defaultThreadFactory();
-            }
-        } else if (type == ConnectionType.ACTIVE) {
-            ThreadFactory threadFactorySSL =
-                new ThreadFactoryBuilder().setNameFormat("OVSDB-ActiveConn-" + executorNameArgs + "-%d")
-                    .build();
-            return threadFactorySSL;
-        }
-        // Default case
-        return Executors.defaultThreadFactory();
-    }
-
+    // For tests only: there is no channel to throttle, hence suspending and resuming reading does nothing
     OvsdbClientImpl() {
+        executor = MoreExecutors.directExecutor();
+        throttle = null;
     }
 
     void setupUpdateListener() {
@@ -123,17 +108,18 @@ public class OvsdbClientImpl implements OvsdbClient {
             OvsdbRPC.Callback temp = new OvsdbRPC.Callback() {
                 @Override
                 public void update(final Object node, final UpdateNotification updateNotification) {
-                    String key = updateNotification.getContext();
-                    CallbackContext callbackContext = monitorCallbacks.get(key);
-                    MonitorCallBack monitorCallBack = callbackContext.monitorCallBack;
-                    if (monitorCallBack == null) {
-                        //ignore ?
-                        LOG.info("callback received with context {}, but no known handler. Ignoring!", key);
-                        return;
-                    }
-                    TableUpdates updates = transformingCallback(updateNotification.getUpdates(),
-                            callbackContext.schema);
-                    monitorCallBack.update(updates, callbackContext.schema);
+                    executor.execute(() -> updateMonitor(updateNotification, false));
+                }
+
+                @Override
+                public void update2(final Object node, final UpdateNotification updateNotification) {
+                    executor.execute(() -> updateMonitor(updateNotification, true));
+                }
+
+                @Override
+                public void update3(final Object node, final UpdateNotification updateNotification) {
+                    // update3 differs from update2 only by carrying the transaction id
+                    executor.execute(() -> updateMonitor(updateNotification, true));
                 }
 
                 @Override
@@ -152,22 +138,71 @@ public class OvsdbClientImpl implements OvsdbClient {
     }
 
 
+    private void updateMonitor(final UpdateNotification updateNotification, final boolean update2) {
+        final String key = updateNotification.getContext();
+        final CallbackContext callbackContext = monitorCallbacks.get(key);
+        if (callbackContext == null || callbackContext.monitorCallBack == null) {
+            LOG.info("callback received with context {}, but no known handler. Ignoring!", key);
+            return;
+        }
+
+        final TableUpdates decoded = transformingCallback(updateNotification.getUpdates(), callbackContext.schema,
+            callbackContext.monitoredColumns, update2);
+        final DatabaseReplica replica = callbackContext.replica;
+        final TableUpdates updates;
+        if (replica == null || decoded == null) {
+            updates = decoded;
+        } else if (update2) {
+            updates = replica.applyDiffs(decoded, updateNotification.getLastTransactionId());
+        } else {
+            updates = replica.applyUpdates(decoded);
+        }
+        callbackContext.monitorCallBack.update(updates, callbackContext.schema);
+    }
+
     protected TableUpdates transformingCallback(final JsonNode tableUpdatesJson, final DatabaseSchema dbSchema) {
-        //todo(ashwin): we should move all the JSON parsing logic to a utility class
-        if (tableUpdatesJson instanceof ObjectNode) {
-            Map<String, TableUpdate> tableUpdateMap = new HashMap<>();
-            ObjectNode updatesJson = (ObjectNode) tableUpdatesJson;
-            for (Iterator<Map.Entry<String,JsonNode>> itr = updatesJson.fields(); itr.hasNext();) {
-                Map.Entry<String, JsonNode> entry = itr.next();
+        return transformingCallback(tableUpdatesJson, dbSchema, Map.of(), false);
+    }
+
+    /**
+     * Decode a {@code table-updates} object in a single pass over its tokens, building rows directly from the
+     * negotiated schema. Tables unknown to the schema and columns not being monitored are skipped.
+     *
+     * @param tableUpdatesJson the {@code table-updates} object
+     * @param dbSchema database schema the monitor was registered with
+     * @param monitoredColumns monitored columns, keyed by table name. Tables which are not present are not filtered.
+     * @param update2 true if {@code tableUpdatesJson} is a {@code table-updates2} object
+     * @return decoded table updates, or null if {@code tableUpdatesJson} is not an object
+     */
+    private TableUpdates transformingCallback(final JsonNode tableUpdatesJson, final DatabaseSchema dbSchema,
+            final Map<String, Set<String>> monitoredColumns, final boolean update2) {
+        if (!(tableUpdatesJson instanceof ObjectNode)) {
+            return null;
+        }
 
-                DatabaseSchema databaseSchema = this.schemas.get(dbSchema.getName());
-                TableSchema table = databaseSchema.table(entry.getKey(), TableSchema.class);
-                tableUpdateMap.put(entry.getKey(), table.updatesFromJson(entry.getValue()));
+        final DatabaseSchema known = schemas.get(dbSchema.getName());
+        final DatabaseSchema databaseSchema = known != null ? known : dbSchema;
+        final Map<String, TableUpdate> tableUpdateMap = new HashMap<>();
+        try (JsonParser parser = tableUpdatesJson.traverse()) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String tableName = parser.currentName();
+                parser.nextToken();
+                if (!databaseSchema.hasTable(tableName)) {
+                    LOG.debug("Ignoring updates to unknown table {}", tableName);
+                    parser.skipChildren();
+                    continue;
+                }
 
+                final TableSchema table = databaseSchema.table(tableName, TableSchema.class);
+                final Set<String> columns = monitoredColumns.get(tableName);
+                tableUpdateMap.put(tableName, update2 ? table.updates2FromJson(parser, columns)
+                    : table.updatesFromJson(parser, columns));
             }
-            return new TableUpdates(tableUpdateMap);
+        } catch (IOException e) {
+            throw new ParsingException("Failed to decode table updates", e);
         }
-        return null;
+        return new TableUpdates(tableUpdateMap);
     }
 
     @Override
@@ -183,6 +218,43 @@ public class OvsdbClientImpl implements OvsdbClient {
         return FutureTransformUtils.transformTransactResponse(rpc.transact(builder), operations);
     }
 
+    @Override
+    public List<ListenableFuture<List<OperationResult>>> transact(final List<TransactionBuilder> builders,
+            final TransactionBatchMode mode) {
+        return switch (mode) {
+            case PACK -> transactPacked(builders);
+            case PIPELINE -> builders.stream()
+                .map(builder -> transact(builder.getDatabaseSchema(), builder.getOperations()))
+                .collect(Collectors.toList());
+        };
+    }
+
+    private List<ListenableFuture<List<OperationResult>>> transactPacked(final List<TransactionBuilder> builders) {
+        if (builders.isEmpty()) {
+            return List.of();
+        }
+
+        final DatabaseSchema dbSchema = builders.get(0).getDatabaseSchema();
+        final List<Operation> operations = new ArrayList<>();
+        final List<Integer> sizes = new ArrayList<>(builders.size());
+        final Set<String> uuidNames = new HashSet<>();
+        for (TransactionBuilder builder : builders) {
+            checkArgument(dbSchema.getName().equals(builder.getDatabaseSchema().getName()),
+                "Cannot pack transactions on %s and %s", dbSchema.getName(), builder.getDatabaseSchema().getName());
+            for (Operation operation : builder.getOperations()) {
+                if (operation instanceof Insert<?> insert && insert.getUuidName() != null) {
+                    checkArgument(uuidNames.add(insert.getUuidName()), "Cannot pack transactions using uuid-name %s",
+                        insert.getUuidName());
+                }
+            }
+            operations.addAll(builder.getOperations());
+            sizes.add(builder.getOperations().size());
+        }
+
+        LOG.debug("Packing {} transactions into one with {} operations", builders.size(), operations.size());
+        return FutureTransformUtils.sliceTransactResponse(transact(dbSchema, operations), sizes);
+    }
+
     @Override
     public <E extends TableSchema<E>> TableUpdates monitor(final DatabaseSchema dbSchema,
                                                            final List<MonitorRequest> monitorRequest,
@@ -212,30 +284,195 @@ public class OvsdbClientImpl implements OvsdbClient {
                                                            final MonitorHandle monitorHandle,
                                                            final MonitorCallBack callback,
                                                            final int timeout) {
-        final ImmutableMap<String, MonitorRequest> reqMap = Maps.uniqueIndex(monitorRequest,
-                MonitorRequest::getTableName);
+        return awaitMonitor(startMonitor(dbSchema, uniqueIndex(monitorRequest), monitorHandle, callback, false, null),
+            dbSchema, timeout);
+    }
 
-        registerCallback(monitorHandle, callback, dbSchema);
+    @Override
+    public <E extends TableSchema<E>> TableUpdates monitorCond(final DatabaseSchema dbSchema,
+                                                               final List<MonitorRequest> monitorRequest,
+                                                               final MonitorHandle monitorHandle,
+                                                               final MonitorCallBack callback) {
+        return monitorCond(dbSchema, monitorRequest, monitorHandle, callback, NO_TIMEOUT);
+    }
 
-        final ListenableFuture<JsonNode> monitor = rpc.monitor(
-            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap));
-        final JsonNode result;
+    @Override
+    public <E extends TableSchema<E>> TableUpdates monitorCond(final DatabaseSchema dbSchema,
+                                                               final List<MonitorRequest> monitorRequest,
+                                                               final MonitorHandle monitorHandle,
+                                                               final MonitorCallBack callback,
+                                                               final int timeout) {
+        // update2 notifications carry only the modified columns, hence we keep a copy of the monitored rows to apply
+        // them to and report complete rows
+        return awaitMonitor(startMonitorCond(dbSchema, uniqueIndex(monitorRequest), monitorHandle, callback,
+            new DatabaseReplica(dbSchema.getName()), null), dbSchema, timeout);
+    }
+
+    @Override
+    public <E extends TableSchema<E>> TableUpdates monitorCondSince(final DatabaseSchema dbSchema,
+                                                                    final List<MonitorRequest> monitorRequest,
+                                                                    final MonitorHandle monitorHandle,
+                                                                    final MonitorCallBack callback,
+                                                                    final DatabaseReplica replica) {
+        return monitorCondSince(dbSchema, monitorRequest, monitorHandle, callback, replica, NO_TIMEOUT);
+    }
+
+    @Override
+    public <E extends TableSchema<E>> TableUpdates monitorCondSince(final DatabaseSchema dbSchema,
+                                                                    final List<MonitorRequest> monitorRequest,
+                                                                    final MonitorHandle monitorHandle,
+                                                                    final MonitorCallBack callback,
+                                                                    final DatabaseReplica replica,
+                                                                    final int timeout) {
+        checkArgument(dbSchema.getName().equals(replica.getDatabaseName()), "Replica of %s cannot track %s",
+            replica.getDatabaseName(), dbSchema.getName());
+        final ImmutableMap<String, MonitorRequest> reqMap = uniqueIndex(monitorRequest);
+        final Map<String, Set<String>> monitoredColumns = monitoredColumns(monitorRequest);
+        registerCallback(monitorHandle, callback, dbSchema, monitoredColumns, true, replica);
+
+        final String lastTxnId = replica.getLastTransactionId();
+        final Params params = () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap,
+            lastTxnId != null ? lastTxnId : NO_TRANSACTION_ID);
+        final PartialMonitorReply partial = PartialMonitorReply.accepts(callback, replica)
+            ? new PartialMonitorReply(dbSchema, monitoredColumns, callback, true, replica, true) : null;
+        final ListenableFuture<JsonNode> monitor = partial != null ? rpc.monitor_cond_since(params, partial)
+            : rpc.monitor_cond_since(params);
+
+        // The reply is applied to the replica on the connection executor, before any subsequent update3 notification
+        return awaitMonitor(Futures.transformAsync(monitor, result -> {
+            if (result instanceof ArrayNode reply && reply.size() == 3) {
+                final TableUpdates updates = transformingCallback(reply.get(2), dbSchema, monitoredColumns, true);
+                if (updates != null) {
+                    final String txnId = reply.get(1).asText();
+                    if (partial != null) {
+                        // The replica was empty, hence the reply consists of inserted rows either way
+                        return Futures.immediateFuture(replica.applyDiffs(updates, txnId));
+                    }
+                    if (reply.get(0).asBoolean()) {
+                        LOG.debug("Resumed monitoring {} after transaction {}", dbSchema.getName(), lastTxnId);
+                        return Futures.immediateFuture(replica.applyDiffs(updates, txnId));
+                    }
+                    LOG.debug("Cannot resume monitoring {} after transaction {}, resynchronizing",
+                        dbSchema.getName(), lastTxnId);
+                    return Futures.immediateFuture(replica.reset(updates, txnId));
+                }
+            }
+
+            LOG.info("monitor_cond_since failed with {}, falling back to monitor_cond", result);
+            return startMonitorCond(dbSchema, reqMap, monitorHandle, callback, replica, replica);
+        }, executor), dbSchema, timeout);
+    }
+
+    /**
+     * Start a {@code monitor_cond}, falling back to {@code monitor} if the server does not support it. As
+     * {@code monitor} has no conditions, the fallback fails if any of the requests has some.
+     *
+     * @param replica replica to apply {@code monitor_cond} updates to
+     * @param plainReplica replica to apply {@code monitor} updates to, or null if they should not be tracked
+     */
+    private ListenableFuture<TableUpdates> startMonitorCond(final DatabaseSchema dbSchema,
+            final ImmutableMap<String, MonitorRequest> reqMap, final MonitorHandle monitorHandle,
+            final MonitorCallBack callback, final DatabaseReplica replica, final DatabaseReplica plainReplica) {
+        return Futures.transformAsync(startMonitor(dbSchema, reqMap, monitorHandle, callback, true, replica),
+            updates -> {
+                if (updates != null) {
+                    return Futures.immediateFuture(updates);
+                }
+                if (reqMap.values().stream().anyMatch(request -> request.getWhere() != null)) {
+                    // monitor requests cannot carry conditions and monitoring all rows instead would flood the callback
+                    monitorCallbacks.remove(monitorHandle.getId());
+                    return Futures.immediateFailedFuture(new UnsupportedOperationException("monitor_cond failed on "
+                        + dbSchema.getName() + ", cannot fall back to monitor with conditions"));
+                }
+                LOG.info("monitor_cond failed on {}, falling back to monitor", dbSchema.getName());
+                return startMonitor(dbSchema, reqMap, monitorHandle, callback, false, plainReplica);
+            }, MoreExecutors.directExecutor());
+    }
+
+    private ListenableFuture<TableUpdates> startMonitor(final DatabaseSchema dbSchema,
+            final ImmutableMap<String, MonitorRequest> reqMap, final MonitorHandle monitorHandle,
+            final MonitorCallBack callback, final boolean conditional, final DatabaseReplica replica) {
+        final Map<String, Set<String>> monitoredColumns = monitoredColumns(reqMap.values());
+        registerCallback(monitorHandle, callback, dbSchema, monitoredColumns, conditional, replica);
+
+        final Params params = () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap);
+        final ListenableFuture<JsonNode> monitor;
+        final PartialMonitorReply partial;
+        if (PartialMonitorReply.accepts(callback, replica)) {
+            partial = new PartialMonitorReply(dbSchema, monitoredColumns, callback, conditional, replica, false);
+            monitor = conditional ? rpc.monitor_cond(params, partial) : rpc.monitor(params, partial);
+        } else {
+            partial = null;
+            monitor = conditional ? rpc.monitor_cond(params) : rpc.monitor(params);
+        }
+
+        return Futures.transform(monitor, result -> {
+            final TableUpdates updates = transformingCallback(result, dbSchema, monitoredColumns, conditional);
+            if (replica == null || updates == null) {
+                return updates;
+            }
+            if (partial != null) {
+                // The replica was empty and already holds the parts delivered so far
+                return conditional ? replica.applyDiffs(updates, null) : replica.applyUpdates(updates);
+            }
+            return replica.reset(updates, null);
+        }, executor);
+    }
+
+    private static TableUpdates awaitMonitor(final ListenableFuture<TableUpdates> monitor,
+            final DatabaseSchema dbSchema, final int timeout) {
         try {
             if (timeout == NO_TIMEOUT) {
-                result = monitor.get();
-            } else {
-                result = monitor.get(timeout, TimeUnit.SECONDS);
+                return monitor.get();
             }
+            return monitor.get(timeout, TimeUnit.SECONDS);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             LOG.warn("Failed to monitor {}", dbSchema, e);
             return null;
         }
-        return transformingCallback(result, dbSchema);
+    }
+
+    private static ImmutableMap<String, MonitorRequest> uniqueIndex(final List<MonitorRequest> monitorRequests) {
+        return Maps.uniqueIndex(monitorRequests, MonitorRequest::getTableName);
+    }
+
+    @Override
+    public ListenableFuture<Void> changeMonitorConditions(final MonitorHandle monitorHandle,
+            final List<MonitorRequest> monitorRequests) {
+        final CallbackContext callbackContext = monitorCallbacks.get(monitorHandle.getId());
+        checkArgument(callbackContext != null && callbackContext.conditional, "No conditional monitor for %s",
+            monitorHandle.getId());
+
+        // <monitor-cond-change-request> carries only the new conditions, as columns cannot be changed. We always send
+        // an explicit condition, as an absent "where" member would be interpreted as true anyway.
+        final Map<String, List<Map<String, List<?>>>> changes = new HashMap<>();
+        for (MonitorRequest request : monitorRequests) {
+            final List<?> where = request.getWhere() != null ? request.getWhere() : List.of(Boolean.TRUE);
+            changes.put(request.getTableName(), List.of(Map.of("where", where)));
+        }
+
+        return Futures.transform(rpc.monitor_cond_change(
+            () -> Arrays.asList(monitorHandle.getId(), monitorHandle.getId(), changes)),
+            result -> null, MoreExecutors.directExecutor());
+    }
+
+    private static Map<String, Set<String>> monitoredColumns(final Collection<MonitorRequest> monitorRequests) {
+        final Map<String, Set<String>> ret = new HashMap<>();
+        for (MonitorRequest request : monitorRequests) {
+            // Per RFC 7047 section 4.1.5, omitted columns mean all columns are monitored
+            final Set<String> columns = request.getColumns();
+            if (columns != null && !columns.isEmpty()) {
+                ret.put(request.getTableName(), columns);
+            }
+        }
+        return ret;
     }
 
     private void registerCallback(final MonitorHandle monitorHandle, final MonitorCallBack callback,
-            final DatabaseSchema schema) {
-        this.monitorCallbacks.put(monitorHandle.getId(), new CallbackContext(callback, schema));
+            final DatabaseSchema schema, final Map<String, Set<String>> monitoredColumns, final boolean conditional,
+            final DatabaseReplica replica) {
+        this.monitorCallbacks.put(monitorHandle.getId(),
+            new CallbackContext(callback, schema, monitoredColumns, conditional, replica));
         setupUpdateListener();
     }
 
@@ -335,7 +572,7 @@ public class OvsdbClientImpl implements OvsdbClient {
             final TypedDatabaseSchema typedSchema = TypedDatabaseSchema.of(dbSchema.withInternallyGeneratedColumns());
             final TypedDatabaseSchema raced = schemas.putIfAbsent(database, typedSchema);
             return raced != null ? raced : typedSchema;
-        }, executorService);
+        }, executor);
     }
 
     private ListenableFuture<Map<String, DatabaseSchema>> getSchemaFromDevice(final List<String> dbNames) {
@@ -355,7 +592,7 @@ public class OvsdbClientImpl implements OvsdbClient {
 
         Futures.transform(rpc.get_schema(Collections.singletonList(dbNames.get(0))), jsonNode -> {
             try {
-                schema.put(dbNames.get(0), DatabaseSchema.fromJson(dbNames.get(0), jsonNode));
+                schema.put(dbNames.get(0), DatabaseSchemaRegistry.fromJson(dbNames.get(0), jsonNode));
                 if (schema.size() > 1 && !sfuture.isCancelled()) {
                     populateSchema(dbNames.subList(1, dbNames.size()), schema, sfuture);
                 } else if (schema.size() == 1) {
@@ -373,13 +610,75 @@ public class OvsdbClientImpl implements OvsdbClient {
         this.rpc = rpc;
     }
 
+    /**
+     * Delivers the initial contents of a monitor in parts, as they are received. Parts are decoded and applied to the
+     * replica, if any, on the connection executor, hence in order and before the remaining rows.
+     */
+    private final class PartialMonitorReply implements Consumer<JsonNode> {
+        private final DatabaseSchema dbSchema;
+        private final Map<String, Set<String>> monitoredColumns;
+        private final MonitorCallBack callback;
+        private final boolean update2;
+        private final DatabaseReplica replica;
+        private final boolean since;
+
+        PartialMonitorReply(final DatabaseSchema dbSchema, final Map<String, Set<String>> monitoredColumns,
+                final MonitorCallBack callback, final boolean update2, final DatabaseReplica replica,
+                final boolean since) {
+            this.dbSchema = dbSchema;
+            this.monitoredColumns = monitoredColumns;
+            this.callback = callback;
+            this.update2 = update2;
+            this.replica = replica;
+            this.since = since;
+        }
+
+        /**
+         * Check whether a monitor can be delivered in parts. A non-empty replica needs the complete contents to find
+         * out which rows have been deleted, hence it is not eligible.
+         */
+        static boolean accepts(final MonitorCallBack callback, final DatabaseReplica replica) {
+            return callback != null && callback.acceptsPartialUpdates() && (replica == null || replica.size() == 0);
+        }
+
+        @Override
+        public void accept(final JsonNode result) {
+            executor.execute(() -> deliver(since ? result.get(2) : result));
+        }
+
+        private void deliver(final JsonNode json) {
+            final TableUpdates decoded = transformingCallback(json, dbSchema, monitoredColumns, update2);
+            if (decoded == null) {
+                return;
+            }
+
+            final TableUpdates updates;
+            if (replica == null) {
+                updates = decoded;
+            } else if (update2) {
+                updates = replica.applyDiffs(decoded, null);
+            } else {
+                updates = replica.applyUpdates(decoded);
+            }
+            callback.partialUpdate(updates, dbSchema);
+        }
+    }
+
     static class CallbackContext {
         MonitorCallBack monitorCallBack;
         DatabaseSchema schema;
+        Map<String, Set<String>> monitoredColumns;
+        boolean conditional;
+        DatabaseReplica replica;
 
-        CallbackContext(final MonitorCallBack monitorCallBack, final DatabaseSchema schema) {
+        CallbackContext(final MonitorCallBack monitorCallBack, final DatabaseSchema schema,
+                final Map<String, Set<String>> monitoredColumns, final boolean conditional,
+                final DatabaseReplica replica) {
             this.monitorCallBack = monitorCallBack;
             this.schema = schema;
+            this.monitoredColumns = monitoredColumns;
+            this.conditional = conditional;
+            this.replica = replica;
         }
     }
 
@@ -454,7 +753,20 @@ public class OvsdbClientImpl implements OvsdbClient {
     @Override
     public void disconnect() {
         channel.disconnect();
-        executorService.shutdown();
+    }
+
+    @Override
+    public void suspendReading() {
+        if (throttle != null) {
+            throttle.suspend();
+        }
+    }
+
+    @Override
+    public void resumeReading() {
+        if (throttle != null) {
+            throttle.resume();
+        }
     }
 
     @Override
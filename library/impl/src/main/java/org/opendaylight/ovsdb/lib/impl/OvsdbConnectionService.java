@@ -18,14 +18,14 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.handler.codec.string.StringEncoder;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import java.net.InetAddress;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -49,11 +49,12 @@ import org.opendaylight.aaa.cert.api.ICertificateManager;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
-import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.SocketConnectionType;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionListener;
 import org.opendaylight.ovsdb.lib.jsonrpc.ExceptionHandler;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcDecoder;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcEncoder;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcEndpoint;
+import org.opendaylight.ovsdb.lib.jsonrpc.NonBlockingJsonRpcDecoder;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -95,15 +96,28 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         boolean use$_$ssl() default false;
         @AttributeDefinition
         int json$_$rpc$_$decoder$_$max$_$frame$_$length() default DEFAULT_JSON_RPC_DECODER_MAX_FRAME_LENGTH;
+        @AttributeDefinition
+        boolean json$_$rpc$_$decoder$_$non$_$blocking() default false;
+        @AttributeDefinition(min = "0")
+        int json$_$rpc$_$decoder$_$partial$_$result$_$rows() default 0;
+        @AttributeDefinition
+        int json$_$rpc$_$flush$_$consolidation$_$limit() default 0;
+        @AttributeDefinition
+        String client$_$executor$_$model() default DEFAULT_CLIENT_EXECUTOR_MODEL;
+        @AttributeDefinition(min = "0")
+        int client$_$executor$_$threads() default 0;
+        @AttributeDefinition(min = "0")
+        int client$_$executor$_$queue$_$limit() default DEFAULT_CLIENT_EXECUTOR_QUEUE_LIMIT;
     }
 
     private class ClientChannelInitializer extends ChannelInitializer<SocketChannel> {
         @Override
         public void initChannel(final SocketChannel channel) throws Exception {
+            addFlushConsolidation(channel);
             channel.pipeline().addLast(
                 //new LoggingHandler(LogLevel.INFO),
-                new JsonRpcDecoder(jsonRpcDecoderMaxFrameLength),
-                UTF8_ENCODER,
+                newJsonRpcDecoder(),
+                JSON_RPC_ENCODER,
                 new IdleStateHandler(IDLE_READER_TIMEOUT, 0, 0),
                 new ReadTimeoutHandler(READ_TIMEOUT),
                 new ExceptionHandler(OvsdbConnectionService.this));
@@ -144,9 +158,10 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         }
 
         void initChannelImpl(final SocketChannel channel) {
+            addFlushConsolidation(channel);
             channel.pipeline().addLast(
-                new JsonRpcDecoder(jsonRpcDecoderMaxFrameLength),
-                UTF8_ENCODER,
+                newJsonRpcDecoder(),
+                JSON_RPC_ENCODER,
                 new IdleStateHandler(IDLE_READER_TIMEOUT, 0, 0),
                 new ReadTimeoutHandler(READ_TIMEOUT),
                 new ExceptionHandler(OvsdbConnectionService.this));
@@ -207,8 +222,10 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
     private static final int DEFAULT_LISTENER_PORT = 6640;
     private static final int DEFAULT_RPC_TASK_TIMEOUT = 1000;
     private static final int DEFAULT_JSON_RPC_DECODER_MAX_FRAME_LENGTH = 100000;
+    private static final String DEFAULT_CLIENT_EXECUTOR_MODEL = "shared";
+    private static final int DEFAULT_CLIENT_EXECUTOR_QUEUE_LIMIT = 1024;
 
-    private static final StringEncoder UTF8_ENCODER = new StringEncoder(StandardCharsets.UTF_8);
+    private static final JsonRpcEncoder JSON_RPC_ENCODER = new JsonRpcEncoder();
 
     private static final ScheduledExecutorService EXECUTOR_SERVICE = Executors.newScheduledThreadPool(10,
             new ThreadFactoryBuilder().setNameFormat("OVSDBPassiveConnServ-%d").build());
@@ -230,7 +247,12 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
     private final ICertificateManager certManagerSrv;
 
     private final boolean useSSL;
+    private final int ovsdbRpcTaskTimeout;
     private final int jsonRpcDecoderMaxFrameLength;
+    private final boolean jsonRpcDecoderNonBlocking;
+    private final int jsonRpcDecoderPartialResultRows;
+    private final int jsonRpcFlushConsolidationLimit;
+    private final OvsdbClientExecutors clientExecutors;
 
     private final AtomicBoolean singletonCreated = new AtomicBoolean(false);
     private volatile Channel serverChannel;
@@ -242,7 +264,8 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
     public OvsdbConnectionService(final NettyBootstrapFactory bootstrapFactory,
             final ICertificateManager certManagerSrv) {
         this(bootstrapFactory, certManagerSrv, DEFAULT_LISTENER_IP, DEFAULT_LISTENER_PORT, DEFAULT_RPC_TASK_TIMEOUT,
-            false, DEFAULT_JSON_RPC_DECODER_MAX_FRAME_LENGTH);
+            false, DEFAULT_JSON_RPC_DECODER_MAX_FRAME_LENGTH, false, 0, 0, DEFAULT_CLIENT_EXECUTOR_MODEL, 0,
+            DEFAULT_CLIENT_EXECUTOR_QUEUE_LIMIT);
     }
 
     @Activate
@@ -251,24 +274,59 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
             final Configuration configuration) {
         this(bootstrapFactory, certManagerSrv, configuration.ovsdb$_$listener$_$ip(),
             configuration.ovsdb$_$listener$_$port(), configuration.ovsdb$_$rpc$_$task$_$timeout(),
-            configuration.use$_$ssl(), configuration.json$_$rpc$_$decoder$_$max$_$frame$_$length());
+            configuration.use$_$ssl(), configuration.json$_$rpc$_$decoder$_$max$_$frame$_$length(),
+            configuration.json$_$rpc$_$decoder$_$non$_$blocking(),
+            configuration.json$_$rpc$_$decoder$_$partial$_$result$_$rows(),
+            configuration.json$_$rpc$_$flush$_$consolidation$_$limit(), configuration.client$_$executor$_$model(),
+            configuration.client$_$executor$_$threads(), configuration.client$_$executor$_$queue$_$limit());
     }
 
     public OvsdbConnectionService(final NettyBootstrapFactory bootstrapFactory,
             final ICertificateManager certManagerSrv, final String listenerIp, final int listenerPort,
-            final int ovsdbRpcTaskTimeout, final boolean useSSL, final int jsonRpcDecoderMaxFrameLength) {
+            final int ovsdbRpcTaskTimeout, final boolean useSSL, final int jsonRpcDecoderMaxFrameLength,
+            final boolean jsonRpcDecoderNonBlocking, final int jsonRpcDecoderPartialResultRows,
+            final int jsonRpcFlushConsolidationLimit,
+            final String clientExecutorModel, final int clientExecutorThreads, final int clientExecutorQueueLimit) {
         this.bootstrapFactory = requireNonNull(bootstrapFactory);
         this.certManagerSrv = requireNonNull(certManagerSrv);
         this.listenerIp = requireNonNull(listenerIp);
         this.listenerPort = listenerPort;
         this.useSSL = useSSL;
+        this.ovsdbRpcTaskTimeout = ovsdbRpcTaskTimeout;
         this.jsonRpcDecoderMaxFrameLength = jsonRpcDecoderMaxFrameLength;
+        this.jsonRpcDecoderNonBlocking = jsonRpcDecoderNonBlocking;
+        this.jsonRpcDecoderPartialResultRows = jsonRpcDecoderPartialResultRows;
+        this.jsonRpcFlushConsolidationLimit = jsonRpcFlushConsolidationLimit;
+        clientExecutors = new OvsdbClientExecutors(OvsdbClientExecutors.Model.ofName(clientExecutorModel),
+            clientExecutorThreads, clientExecutorQueueLimit);
 
-        // FIXME: static state!
-        JsonRpcEndpoint.setReaperInterval(ovsdbRpcTaskTimeout);
+        LOG.info("Ovsdb Rpc Task interval is set to {} millisecond", ovsdbRpcTaskTimeout);
         LOG.info("OVSDB IP for listening connection is set to : {}", listenerIp);
         LOG.info("OVSDB port for listening connection is set to : {}", listenerPort);
         LOG.info("Json Rpc Decoder Max Frame Length set to : {}", jsonRpcDecoderMaxFrameLength);
+        LOG.info("Json Rpc Decoder non-blocking parsing is set to : {}", jsonRpcDecoderNonBlocking);
+        LOG.info("Json Rpc Decoder partial result rows set to : {}", jsonRpcDecoderPartialResultRows);
+        LOG.info("Json Rpc flush consolidation limit is set to : {}", jsonRpcFlushConsolidationLimit);
+        LOG.info("Client executor model is set to : {} ({} threads)", clientExecutors.getModel(),
+            clientExecutorThreads);
+        LOG.info("Client executor queue limit is set to : {}", clientExecutorQueueLimit);
+    }
+
+    /**
+     * Batch outbound flushes, so that messages written during a single event loop task, such as replies to a burst
+     * of echo requests or pipelined transactions, end up in a single socket write and, with TLS, in a single record.
+     * This must be added after the SSL handler, if any.
+     */
+    private void addFlushConsolidation(final SocketChannel channel) {
+        if (jsonRpcFlushConsolidationLimit > 0) {
+            channel.pipeline().addLast(new FlushConsolidationHandler(jsonRpcFlushConsolidationLimit, true));
+        }
+    }
+
+    private ByteToMessageDecoder newJsonRpcDecoder() {
+        return jsonRpcDecoderNonBlocking
+            ? new NonBlockingJsonRpcDecoder(jsonRpcDecoderMaxFrameLength, jsonRpcDecoderPartialResultRows)
+                : new JsonRpcDecoder(jsonRpcDecoderMaxFrameLength);
     }
 
     /**
@@ -309,7 +367,7 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
             throw throwable;
         }
 
-        return getChannelClient(future.channel(), ConnectionType.ACTIVE, SocketConnectionType.SSL);
+        return getChannelClient(future.channel(), ConnectionType.ACTIVE);
     }
 
     @Override
@@ -352,13 +410,16 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         CONNECTION_LISTENERS.remove(listener);
     }
 
-    private static OvsdbClient getChannelClient(final Channel channel, final ConnectionType type,
-            final SocketConnectionType socketConnType) {
+    private OvsdbClient getChannelClient(final Channel channel, final ConnectionType type) {
 
-        JsonRpcEndpoint endpoint = new JsonRpcEndpoint(channel);
+        JsonRpcEndpoint endpoint = new JsonRpcEndpoint(channel, ovsdbRpcTaskTimeout);
         channel.pipeline().addLast(endpoint);
+        final NonBlockingJsonRpcDecoder decoder = channel.pipeline().get(NonBlockingJsonRpcDecoder.class);
+        if (decoder != null) {
+            decoder.setPartialResultFilter(endpoint::acceptsPartialResults);
+        }
 
-        OvsdbClientImpl client = new OvsdbClientImpl(endpoint, channel, type, socketConnType);
+        OvsdbClientImpl client = new OvsdbClientImpl(endpoint, channel, type, clientExecutors);
         client.setConnectionPublished(true);
         CONNECTIONS.put(client, channel);
         channel.closeFuture().addListener(new ChannelConnectionHandler(client));
@@ -484,7 +545,7 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         }, CONNECTION_NOTIFIER_SERVICE);
     }
 
-    private static void handleNewPassiveConnection(final Channel channel) {
+    private void handleNewPassiveConnection(final Channel channel) {
         if (!channel.isOpen()) {
             LOG.warn("Channel {} is not open, skipped further processing of the connection.",channel);
             return;
@@ -521,8 +582,7 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
                                 try {
                                     sslHandler.engine().getSession().getPeerCertificates();
                                     //Handshake done. Notify listener.
-                                    OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE,
-                                        SocketConnectionType.SSL);
+                                    OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE);
                                     handleNewPassiveConnection(client);
                                 } catch (SSLPeerUnverifiedException e) {
                                     //Trust manager is still checking peer certificate. Retry later
@@ -570,8 +630,7 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
                     RETRY_PERIOD, TimeUnit.MILLISECONDS);
         } else {
             EXECUTOR_SERVICE.execute(() -> {
-                OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE,
-                    SocketConnectionType.NON_SSL);
+                OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE);
                 handleNewPassiveConnection(client);
             });
         }
@@ -595,8 +654,17 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
 
     @Override
     public void close() throws Exception {
+        clientExecutors.close();
         LOG.info("OvsdbConnectionService closed");
-        JsonRpcEndpoint.close();
+    }
+
+    /**
+     * Return the executors running client-side work of all connections, for example to report their queue depth.
+     *
+     * @return client executors
+     */
+    public OvsdbClientExecutors getClientExecutors() {
+        return clientExecutors;
     }
 
     @Override
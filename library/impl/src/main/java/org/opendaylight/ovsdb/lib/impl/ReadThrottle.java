@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static com.google.common.base.Verify.verify;
+import static java.util.Objects.requireNonNull;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Controls {@code autoRead} of a channel on behalf of multiple parties, each of which may suspend reading. Reading
+ * is resumed once all suspensions have been undone. The setting is always applied on the channel's event loop from
+ * the current count, so that concurrent suspensions and resumptions cannot leave it stale.
+ */
+final class ReadThrottle {
+    private final AtomicInteger suspensions = new AtomicInteger();
+    private final Channel channel;
+
+    ReadThrottle(final Channel channel) {
+        this.channel = requireNonNull(channel);
+    }
+
+    void suspend() {
+        if (suspensions.getAndIncrement() == 0) {
+            update();
+        }
+    }
+
+    void resume() {
+        final int prev = suspensions.getAndDecrement();
+        verify(prev > 0, "Unbalanced resume of %s", channel);
+        if (prev == 1) {
+            update();
+        }
+    }
+
+    boolean isSuspended() {
+        return suspensions.get() != 0;
+    }
+
+    Channel channel() {
+        return channel;
+    }
+
+    private void update() {
+        final EventLoop eventLoop = channel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            apply();
+        } else {
+            eventLoop.execute(this::apply);
+        }
+    }
+
+    private void apply() {
+        channel.config().setAutoRead(suspensions.get() == 0);
+    }
+}
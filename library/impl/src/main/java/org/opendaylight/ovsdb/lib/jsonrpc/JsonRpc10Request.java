@@ -14,19 +14,19 @@ import java.util.List;
 
 public class JsonRpc10Request {
 
-    String id;
+    long id;
     String method;
     List<Object> params = new ArrayList<>();
 
-    public JsonRpc10Request(String id) {
+    public JsonRpc10Request(long id) {
         setId(id);
     }
 
-    public String getId() {
+    public long getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(long id) {
         this.id = id;
     }
 
@@ -32,10 +32,13 @@ import org.slf4j.LoggerFactory;
  * The stream is framed first by inspecting the json for valid end marker (left curly)
  * and is passed to a Json parser (jackson) for converting into an object model.
  *
- * <p>There are no JSON parsers that I am aware of that does non blocking parsing.
- * This approach avoids having to run json parser over and over again on the entire
+ * <p>This approach avoids having to run json parser over and over again on the entire
  * stream waiting for input. Parser is invoked only when we know of a full JSON message
  * in the stream.
+ *
+ * <p>See {@link NonBlockingJsonRpcDecoder} for an alternative which frames and parses the
+ * stream in a single pass. Both decoders emit each message as a {@link JsonNode} tree, for
+ * the reasons outlined there.
  */
 public class JsonRpcDecoder extends ByteToMessageDecoder {
     private static final Logger LOG = LoggerFactory.getLogger(JsonRpcDecoder.class);
@@ -71,14 +74,7 @@ public class JsonRpcDecoder extends ByteToMessageDecoder {
             }
 
             skipSpaces(buf);
-
-            byte[] buff = new byte[4];
-            buf.getBytes(buf.readerIndex(), buff);
-            ByteSourceJsonBootstrapper strapper = new ByteSourceJsonBootstrapper(jacksonIOContext, buff, 0, 4);
-            JsonEncoding jsonEncoding = strapper.detectEncoding();
-            if (!JsonEncoding.UTF8.equals(jsonEncoding)) {
-                throw new InvalidEncodingException(jsonEncoding.getJavaName(), "currently only UTF-8 is supported");
-            }
+            checkEncoding(jacksonIOContext, buf);
         }
 
         int index = lastRecordBytes + buf.readerIndex();
@@ -142,7 +138,17 @@ public class JsonRpcDecoder extends ByteToMessageDecoder {
         return recordsRead;
     }
 
-    private static void skipSpaces(final ByteBuf byteBuf) throws IOException {
+    static void checkEncoding(final IOContext ioContext, final ByteBuf buf) throws IOException {
+        byte[] buff = new byte[4];
+        buf.getBytes(buf.readerIndex(), buff);
+        ByteSourceJsonBootstrapper strapper = new ByteSourceJsonBootstrapper(ioContext, buff, 0, 4);
+        JsonEncoding jsonEncoding = strapper.detectEncoding();
+        if (!JsonEncoding.UTF8.equals(jsonEncoding)) {
+            throw new InvalidEncodingException(jsonEncoding.getJavaName(), "currently only UTF-8 is supported");
+        }
+    }
+
+    static void skipSpaces(final ByteBuf byteBuf) throws IOException {
         while (byteBuf.isReadable()) {
             int ch = byteBuf.getByte(byteBuf.readerIndex()) & 0xFF;
             if (!(ch == ' ' || ch == '\r' || ch == '\n' || ch == '\t')) {
@@ -8,20 +8,40 @@
 
 package org.opendaylight.ovsdb.lib.jsonrpc;
 
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToMessageEncoder;
-import java.util.List;
+import io.netty.handler.codec.MessageToByteEncoder;
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
- * Created with IntelliJ IDEA.
- * User: araveendrann
- * Date: 10/6/13
- * Time: 11:19 PM
- * To change this template use File | Settings | File Templates.
+ * JSON RPC 1.0 encoder. Serializes {@link JsonRpc10Request}s and {@link JsonRpc10Response}s as UTF-8 directly into
+ * the outbound {@link ByteBuf}, which is allocated from the channel's allocator, without going through an intermediate
+ * {@link String}. Any other message is passed through unchanged.
  */
-public class JsonRpcEncoder extends MessageToMessageEncoder<Object> {
+@Sharable
+public class JsonRpcEncoder extends MessageToByteEncoder<Object> {
+    private static final ObjectWriter WRITER = new ObjectMapper().setSerializationInclusion(Include.NON_NULL).writer();
+
+    public JsonRpcEncoder() {
+        // Direct buffers avoid a copy when the payload is written to the socket
+        super(true);
+    }
+
     @Override
-    protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
+    public boolean acceptOutboundMessage(final Object msg) {
+        return msg instanceof JsonRpc10Request || msg instanceof JsonRpc10Response;
+    }
 
+    @Override
+    protected void encode(final ChannelHandlerContext ctx, final Object msg, final ByteBuf out) throws IOException {
+        try (OutputStream os = new ByteBufOutputStream(out)) {
+            WRITER.writeValue(os, msg);
+        }
     }
 }
@@ -7,31 +7,30 @@
  */
 package org.opendaylight.ovsdb.lib.jsonrpc;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.google.common.base.Strings;
-import com.google.common.util.concurrent.Futures;
+import com.google.common.primitives.Longs;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoop;
+import io.netty.util.collection.LongObjectHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import org.opendaylight.ovsdb.lib.error.UnsupportedArgumentException;
 import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
 import org.opendaylight.ovsdb.lib.message.Response;
@@ -43,12 +42,7 @@ import org.slf4j.LoggerFactory;
 public class JsonRpcEndpoint extends ChannelInboundHandlerAdapter implements OvsdbRPC {
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonRpcEndpoint.class);
-    private static final int REAPER_THREADS = 3;
-    private static final ThreadFactory FUTURE_REAPER_THREAD_FACTORY = new ThreadFactoryBuilder()
-            .setNameFormat("OVSDB-Lib-Future-Reaper-%d")
-            .setDaemon(true).build();
-    private static final ScheduledExecutorService FUTURE_REAPER_SERVICE
-            = Executors.newScheduledThreadPool(REAPER_THREADS, FUTURE_REAPER_THREAD_FACTORY);
+    public static final int DEFAULT_RPC_TIMEOUT_MILLIS = 1000;
 
     private static final JavaType JT_OBJECT = TypeFactory.defaultInstance().constructType(Object.class);
     private static final JavaType JT_JSON_NODE = TypeFactory.defaultInstance().constructType(JsonNode.class);
@@ -60,36 +54,63 @@ public class JsonRpcEndpoint extends ChannelInboundHandlerAdapter implements Ovs
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setSerializationInclusion(Include.NON_NULL);
 
-    private static int reaperInterval = 1000;
-
     private static final class CallContext {
         final JavaType resultType;
         final SettableFuture future;
+        final Consumer<JsonNode> partialResults;
+
+        Future<?> deadline;
 
-        CallContext(final JavaType resultType, final SettableFuture future) {
+        CallContext(final JavaType resultType, final SettableFuture future, final Consumer<JsonNode> partialResults) {
             this.resultType = resultType;
             this.future = future;
+            this.partialResults = partialResults;
         }
     }
 
-    private final Map<String, CallContext> methodContext = new ConcurrentHashMap<>();
+    // Pending calls, keyed by request id. Only ever accessed from the channel's event loop.
+    private final LongObjectHashMap<CallContext> methodContext = new LongObjectHashMap<>();
+    private final AtomicLong nextRequestId = new AtomicLong();
+    private final AtomicLong expiredCalls = new AtomicLong();
     private final Channel nettyChannel;
+    private final long rpcTimeoutMillis;
 
     private volatile Callback currentCallback = null;
 
     public JsonRpcEndpoint(final Channel channel) {
+        this(channel, DEFAULT_RPC_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Create a new endpoint. Outstanding calls are tracked on the channel's event loop: each call is failed if no
+     * response is received within {@code rpcTimeoutMillis} and its deadline is cancelled as soon as it completes.
+     *
+     * @param channel channel to the OVSDB server
+     * @param rpcTimeoutMillis maximum time to wait for a response, in milliseconds
+     */
+    public JsonRpcEndpoint(final Channel channel, final long rpcTimeoutMillis) {
         this.nettyChannel = requireNonNull(channel);
+        checkArgument(rpcTimeoutMillis > 0, "Invalid RPC timeout %s", rpcTimeoutMillis);
+        this.rpcTimeoutMillis = rpcTimeoutMillis;
     }
 
-    // FIXME: the reaper service should probably be split out
-    public static void setReaperInterval(final int interval) {
-        reaperInterval = interval;
-        LOG.info("Ovsdb Rpc Task interval is set to {} millisecond", reaperInterval);
+    /**
+     * Return the number of calls which have been sent and are waiting for a response. The value is not synchronized
+     * with the channel's event loop and may be slightly stale when read from other threads.
+     *
+     * @return number of outstanding calls
+     */
+    public int getOutstandingCalls() {
+        return methodContext.size();
     }
 
-    public static void close() {
-        LOG.info("Shutting down reaper executor service");
-        FUTURE_REAPER_SERVICE.shutdownNow();
+    /**
+     * Return the number of calls which have been cancelled because no response was received before their deadline.
+     *
+     * @return number of expired calls
+     */
+    public long getExpiredCalls() {
+        return expiredCalls.get();
     }
 
     @Override
@@ -107,6 +128,48 @@ public class JsonRpcEndpoint extends ChannelInboundHandlerAdapter implements Ovs
         return sendRequest(JT_JSON_NODE, "monitor", equest);
     }
 
+    @Override
+    public ListenableFuture<JsonNode> monitor(final Params request, final Consumer<JsonNode> partialResults) {
+        return sendRequest(JT_JSON_NODE, "monitor", request, requireNonNull(partialResults));
+    }
+
+    @Override
+    public ListenableFuture<JsonNode> monitor_cond(final Params request) {
+        return sendRequest(JT_JSON_NODE, "monitor_cond", request);
+    }
+
+    @Override
+    public ListenableFuture<JsonNode> monitor_cond(final Params request, final Consumer<JsonNode> partialResults) {
+        return sendRequest(JT_JSON_NODE, "monitor_cond", request, requireNonNull(partialResults));
+    }
+
+    @Override
+    public ListenableFuture<JsonNode> monitor_cond_change(final Params request) {
+        return sendRequest(JT_JSON_NODE, "monitor_cond_change", request);
+    }
+
+    @Override
+    public ListenableFuture<JsonNode> monitor_cond_since(final Params request) {
+        return sendRequest(JT_JSON_NODE, "monitor_cond_since", request);
+    }
+
+    @Override
+    public ListenableFuture<JsonNode> monitor_cond_since(final Params request,
+            final Consumer<JsonNode> partialResults) {
+        return sendRequest(JT_JSON_NODE, "monitor_cond_since", request, requireNonNull(partialResults));
+    }
+
+    /**
+     * Check whether the result of a request may be delivered in parts. Must be invoked on the channel's event loop.
+     *
+     * @param requestId request id
+     * @return true if the request is outstanding and accepts partial results
+     */
+    public boolean acceptsPartialResults(final long requestId) {
+        final CallContext callContext = methodContext.get(requestId);
+        return callContext != null && callContext.partialResults != null;
+    }
+
     @Override
     public ListenableFuture<List<String>> list_dbs() {
         return sendRequest(JT_LIST_STRING, "list_dbs");
@@ -154,6 +217,10 @@ public class JsonRpcEndpoint extends ChannelInboundHandlerAdapter implements Ovs
 
     @Override
     public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+        if (msg instanceof JsonRpcPartialResult partial) {
+            handlePartialResult(partial);
+            return;
+        }
         if (!(msg instanceof JsonNode)) {
             LOG.debug("Unexpected message {}, closing channel {}", msg, nettyChannel);
             ctx.channel().close();
@@ -222,15 +289,35 @@ public class JsonRpcEndpoint extends ChannelInboundHandlerAdapter implements Ovs
         }
 
         switch (method) {
-            case "update": {
-                final UpdateNotification arg;
-                try {
-                    arg = OBJECT_MAPPER.convertValue(params, UpdateNotification.class);
-                } catch (IllegalArgumentException e) {
-                    return reportedMalformedParameters(requestId, e);
+            case "update":
+            case "update2": {
+                // Avoid a round-trip through ObjectMapper: the updates are decoded directly by the callback
+                if (params == null || !params.isArray() || params.size() != 2) {
+                    return reportedMalformedParameters(requestId,
+                        new IllegalArgumentException("Expected [<json-value>, <table-updates>], got " + params));
                 }
 
-                callback.update(nettyChannel, arg);
+                final UpdateNotification arg = new UpdateNotification();
+                arg.setContext(params.get(0).asText());
+                arg.setUpdates(params.get(1));
+                if ("update2".equals(method)) {
+                    callback.update2(nettyChannel, arg);
+                } else {
+                    callback.update(nettyChannel, arg);
+                }
+                return true;
+            }
+            case "update3": {
+                if (params == null || !params.isArray() || params.size() != 3) {
+                    return reportedMalformedParameters(requestId, new IllegalArgumentException(
+                        "Expected [<json-value>, <last-txn-id>, <table-updates2>], got " + params));
+                }
+
+                final UpdateNotification arg = new UpdateNotification();
+                arg.setContext(params.get(0).asText());
+                arg.setLastTransactionId(params.get(1).asText());
+                arg.setUpdates(params.get(2));
+                callback.update3(nettyChannel, arg);
                 return true;
             }
             case "locked": {
@@ -274,21 +361,30 @@ public class JsonRpcEndpoint extends ChannelInboundHandlerAdapter implements Ovs
         JsonRpc10Response response = new JsonRpc10Response(requestId);
         response.setError(error);
 
-        final String jsonString;
-        try {
-            jsonString = OBJECT_MAPPER.writeValueAsString(response);
-        } catch (JsonProcessingException e) {
-            LOG.error("Exception while processing JSON response {}", response, e);
-            return;
-        }
-
-        nettyChannel.writeAndFlush(jsonString);
+        nettyChannel.writeAndFlush(response).addListener(future -> {
+            if (!future.isSuccess()) {
+                LOG.error("Exception while sending JSON response {}", response, future.cause());
+            }
+        });
     }
 
     private void handleResponse(final JsonNode response, final JsonNode result) {
         LOG.trace("Response : {}", response);
-        final String requestId = response.get("id").asText();
-        final CallContext returnCtxt = methodContext.remove(requestId);
+        final JsonNode id = response.get("id");
+        final long requestId;
+        if (id != null && id.isIntegralNumber() && id.canConvertToLong()) {
+            // Fast path: we always send numeric ids and servers echo them back as-is
+            requestId = id.longValue();
+        } else {
+            final Long parsed = id == null ? null : Longs.tryParse(id.asText());
+            if (parsed == null) {
+                LOG.debug("Ignoring response with unrecognized id {}", id);
+                return;
+            }
+            requestId = parsed;
+        }
+
+        final CallContext returnCtxt = removeCall(requestId);
         if (returnCtxt == null) {
             LOG.debug("Ignoring response for unknown request {}", requestId);
             return;
@@ -305,49 +401,97 @@ public class JsonRpcEndpoint extends ChannelInboundHandlerAdapter implements Ovs
         }
     }
 
-    private <T> ListenableFuture<T> sendRequest(final JsonRpc10Request request, final JavaType resultType) {
-        final String requestString;
-        try {
-            requestString = OBJECT_MAPPER.writeValueAsString(request);
-        } catch (JsonProcessingException e) {
-            return Futures.immediateFailedFuture(e);
+    private void handlePartialResult(final JsonRpcPartialResult partial) {
+        final long requestId = partial.requestId();
+        final CallContext callContext = methodContext.get(requestId);
+        if (callContext == null || callContext.partialResults == null) {
+            LOG.debug("Ignoring partial result for unexpected request {}", requestId);
+            return;
         }
-        LOG.trace("getClient Request : {}", requestString);
 
-        final SettableFuture<T> sf = SettableFuture.create();
-        methodContext.put(request.getId(), new CallContext(resultType, sf));
-        FUTURE_REAPER_SERVICE.schedule(() -> {
-            CallContext cc = methodContext.remove(request.getId());
-            if (cc != null) {
-                if (cc.future.isDone() || cc.future.isCancelled()) {
-                    return;
-                }
-                cc.future.cancel(false);
+        // The response is still being received, hence the call has not timed out yet
+        callContext.deadline.cancel(false);
+        callContext.deadline = scheduleExpiry(requestId);
+        callContext.partialResults.accept(partial.result());
+    }
+
+    private CallContext removeCall(final long requestId) {
+        final CallContext callContext = methodContext.remove(requestId);
+        if (callContext != null) {
+            callContext.deadline.cancel(false);
+        }
+        return callContext;
+    }
+
+    private void expireCall(final long requestId) {
+        final CallContext callContext = methodContext.remove(requestId);
+        if (callContext != null) {
+            expiredCalls.incrementAndGet();
+            LOG.debug("Request {} timed out after {}ms on {}", requestId, rpcTimeoutMillis, nettyChannel);
+            callContext.future.cancel(false);
+        }
+    }
+
+    private void startCall(final JsonRpc10Request request, final CallContext callContext) {
+        final long requestId = request.getId();
+        methodContext.put(requestId, callContext);
+        callContext.deadline = scheduleExpiry(requestId);
+
+        // Serialization happens in JsonRpcEncoder, hence encoding failures are reported through the write future
+        nettyChannel.writeAndFlush(request).addListener(future -> {
+            if (!future.isSuccess() && removeCall(requestId) != null) {
+                callContext.future.setException(future.cause());
             }
-        }, reaperInterval, TimeUnit.MILLISECONDS);
+        });
+    }
 
-        nettyChannel.writeAndFlush(requestString);
+    private Future<?> scheduleExpiry(final long requestId) {
+        return nettyChannel.eventLoop().schedule(() -> expireCall(requestId), rpcTimeoutMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    private <T> ListenableFuture<T> sendRequest(final JsonRpc10Request request, final JavaType resultType,
+            final Consumer<JsonNode> partialResults) {
+        LOG.trace("getClient Request : {}", request);
+
+        final SettableFuture<T> sf = SettableFuture.create();
+        final CallContext callContext = new CallContext(resultType, sf, partialResults);
+        final EventLoop eventLoop = nettyChannel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            startCall(request, callContext);
+        } else {
+            try {
+                eventLoop.execute(() -> startCall(request, callContext));
+            } catch (RejectedExecutionException e) {
+                sf.setException(e);
+            }
+        }
         return sf;
     }
 
     private <T> ListenableFuture<T> sendRequest(final JavaType resultType, final String method) {
-        return sendRequest(createRequest(method), resultType);
+        return sendRequest(createRequest(method), resultType, null);
     }
 
     private <T> ListenableFuture<T> sendRequest(final JavaType resultType, final String method, final List params) {
         final JsonRpc10Request request = createRequest(method);
         request.setParams(params);
-        return sendRequest(request, resultType);
+        return sendRequest(request, resultType, null);
     }
 
     private <T> ListenableFuture<T> sendRequest(final JavaType resultType, final String method, final Params params) {
+        return sendRequest(resultType, method, params, null);
+    }
+
+    private <T> ListenableFuture<T> sendRequest(final JavaType resultType, final String method, final Params params,
+            final Consumer<JsonNode> partialResults) {
         final JsonRpc10Request request = createRequest(method);
         request.setParams(params.params());
-        return sendRequest(request, resultType);
+        return sendRequest(request, resultType, partialResults);
     }
 
-    private static JsonRpc10Request createRequest(final String method) {
-        JsonRpc10Request request = new JsonRpc10Request(UUID.randomUUID().toString());
+    private JsonRpc10Request createRequest(final String method) {
+        JsonRpc10Request request = new JsonRpc10Request(nextRequestId.incrementAndGet());
         request.setMethod(method);
         return request;
     }
@@ -0,0 +1,25 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A batch of rows split off the result of a response which is still being received, as emitted by
+ * {@link NonBlockingJsonRpcDecoder}. The batch has the same shape as the complete result.
+ *
+ * @param requestId id of the request being responded to
+ * @param result partial result
+ */
+public record JsonRpcPartialResult(long requestId, JsonNode result) {
+    public JsonRpcPartialResult {
+        requireNonNull(result);
+    }
+}
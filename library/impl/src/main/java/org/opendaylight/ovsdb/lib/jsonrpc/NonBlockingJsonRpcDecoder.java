@@ -0,0 +1,312 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.primitives.Longs;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.function.LongPredicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JSON RPC 1.0 compatible decoder built on top of Jackson's non-blocking parser. Unlike {@link JsonRpcDecoder}, this
+ * decoder does not look for message boundaries ahead of parsing: every byte received is fed to the parser exactly
+ * once, parser state is retained across partial reads and each top-level JSON value is emitted as soon as its final
+ * token has been seen.
+ *
+ * <p>Since the input is consumed as it arrives, the cumulation buffer never holds more than a single read's worth of
+ * data, even while a multi-megabyte message is being received.
+ *
+ * <p>The parsed message itself can also be kept small: when constructed with a positive batch size, results of
+ * requests accepted by {@link #setPartialResultFilter(LongPredicate)} are split into {@link JsonRpcPartialResult}s as
+ * they are parsed. Such results are expected to be {@code table-updates} objects, or arrays holding one as their third
+ * element, as is the case for {@code monitor_cond_since}. Every time the configured number of rows has been parsed,
+ * they are detached from the message and emitted. The message itself is emitted as usual, holding the remaining rows.
+ * This requires the response {@code id} to precede its {@code result}, as it does in replies sent by ovsdb-server.
+ *
+ * <p>Messages are emitted as {@link JsonNode} trees rather than decoded straight into their final form. Doing the
+ * latter would require knowing how to decode {@code params} or {@code result} while they are being parsed, but
+ * JSON-RPC does not order members, so {@code method} or {@code id} may well arrive after them. It would also require
+ * every schema type to decode from a parser which may run out of input at any token. Instead, {@link JsonRpcEndpoint}
+ * dispatches on the tree and table updates are then decoded from a {@link JsonNode#traverse()} token stream over it,
+ * building rows directly without any further intermediate representation. Large replies are bounded by splitting
+ * their results, see above.
+ */
+public class NonBlockingJsonRpcDecoder extends ByteToMessageDecoder {
+    private static final Logger LOG = LoggerFactory.getLogger(NonBlockingJsonRpcDecoder.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+    private final IOContext jacksonIOContext = new IOContext(new BufferRecycler(), (Object) null, false);
+    private final Deque<ContainerNode<?>> containers = new ArrayDeque<>();
+    private final int maxFrameLength;
+    private final int partialResultRows;
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+
+    //Indicates if the frame limit warning was issued
+    private boolean maxFrameLimitWasReached = false;
+    private boolean encodingChecked = false;
+    // name of the field whose value is being parsed, valid only directly inside an ObjectNode
+    private String fieldName;
+    // parser byte offset at which the message being parsed started
+    private long recordStart;
+
+    private int recordsRead;
+
+    // Requests whose results may be split, consulted when a result starts
+    private volatile LongPredicate partialResultFilter = requestId -> false;
+    // id of the message being parsed, valid if responseIdSeen
+    private long responseId;
+    private boolean responseIdSeen;
+    // result being split, and its table-updates object along with the container depth at which it is parsed
+    private ContainerNode<?> splitResult;
+    private ObjectNode splitUpdates;
+    private int splitUpdatesDepth;
+    private int splitRows;
+
+    public NonBlockingJsonRpcDecoder(final int maxFrameLength) {
+        this(maxFrameLength, 0);
+    }
+
+    /**
+     * Create a new decoder.
+     *
+     * @param maxFrameLength message length above which a warning is issued
+     * @param partialResultRows number of rows after which a result is split, 0 to never split results
+     */
+    public NonBlockingJsonRpcDecoder(final int maxFrameLength, final int partialResultRows) {
+        this.maxFrameLength = maxFrameLength;
+        this.partialResultRows = partialResultRows;
+        try {
+            parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to instantiate non-blocking parser", e);
+        }
+        feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    @Override
+    protected void decode(final ChannelHandlerContext ctx, final ByteBuf buf, final List<Object> out)
+            throws IOException {
+        LOG.trace("readable bytes {}, records read {}, incomplete record depth {}", buf.readableBytes(),
+            recordsRead, containers.size());
+
+        if (!encodingChecked) {
+            JsonRpcDecoder.skipSpaces(buf);
+            if (buf.readableBytes() < 4) {
+                return; //wait for more data
+            }
+            JsonRpcDecoder.checkEncoding(jacksonIOContext, buf);
+            encodingChecked = true;
+        }
+
+        final int readable = buf.readableBytes();
+        for (ByteBuffer nioBuffer : buf.nioBuffers()) {
+            feeder.feedInput(nioBuffer);
+            parseAvailable(out);
+        }
+        // The parser has consumed all of the input, retaining whatever it needs for the current token
+        buf.skipBytes(readable);
+
+        if (!containers.isEmpty() && !maxFrameLimitWasReached
+                && parser.currentLocation().getByteOffset() - recordStart >= maxFrameLength) {
+            //We do not want to issue a log message on every extent of the buffer
+            //hence logging only once
+            maxFrameLimitWasReached = true;
+            LOG.warn("***** OVSDB Frame limit of {} bytes has been reached! *****", maxFrameLength);
+        }
+    }
+
+    @Override
+    protected void handlerRemoved0(final ChannelHandlerContext ctx) throws Exception {
+        parser.close();
+        containers.clear();
+    }
+
+    public int getRecordsRead() {
+        return recordsRead;
+    }
+
+    /**
+     * Set the filter selecting requests whose results may be split. The filter is invoked on the channel's event loop
+     * when the result of a response starts.
+     *
+     * @param filter filter of request ids
+     */
+    public void setPartialResultFilter(final LongPredicate filter) {
+        partialResultFilter = requireNonNull(filter);
+    }
+
+    private void parseAvailable(final List<Object> out) throws IOException {
+        for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.NOT_AVAILABLE;
+                token = parser.nextToken()) {
+            switch (token) {
+                case START_OBJECT:
+                    startContainer(nodeFactory.objectNode());
+                    break;
+                case START_ARRAY:
+                    startContainer(nodeFactory.arrayNode());
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    final ContainerNode<?> finished = containers.pop();
+                    if (containers.isEmpty()) {
+                        out.add(finished);
+                        recordsRead++;
+                    } else if (splitUpdates != null) {
+                        endSplitContainer(finished, out);
+                    }
+                    break;
+                case FIELD_NAME:
+                    fieldName = parser.currentName();
+                    break;
+                case VALUE_STRING:
+                    addValue(nodeFactory.textNode(parser.getText()));
+                    break;
+                case VALUE_NUMBER_INT:
+                    addValue(intNode());
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    addValue(nodeFactory.numberNode(parser.getDoubleValue()));
+                    break;
+                case VALUE_TRUE:
+                    addValue(nodeFactory.booleanNode(true));
+                    break;
+                case VALUE_FALSE:
+                    addValue(nodeFactory.booleanNode(false));
+                    break;
+                case VALUE_NULL:
+                    addValue(nodeFactory.nullNode());
+                    break;
+                default:
+                    LOG.debug("Ignoring unexpected token {}", token);
+                    break;
+            }
+        }
+    }
+
+    private JsonNode intNode() throws IOException {
+        switch (parser.getNumberType()) {
+            case INT:
+                return nodeFactory.numberNode(parser.getIntValue());
+            case LONG:
+                return nodeFactory.numberNode(parser.getLongValue());
+            default:
+                return nodeFactory.numberNode(parser.getBigIntegerValue());
+        }
+    }
+
+    private void startContainer(final ContainerNode<?> container) {
+        if (containers.isEmpty()) {
+            recordStart = parser.currentTokenLocation().getByteOffset();
+            responseIdSeen = false;
+            splitResult = null;
+            splitUpdates = null;
+        } else {
+            addValue(container);
+        }
+        containers.push(container);
+
+        if (partialResultRows > 0) {
+            if (containers.size() == 2) {
+                if ("result".equals(fieldName) && responseIdSeen && partialResultFilter.test(responseId)) {
+                    splitResult = container;
+                    startSplitUpdates(container);
+                }
+            } else if (containers.size() == 3 && splitResult instanceof ArrayNode array && array.size() == 3
+                    && array.get(2) == container) {
+                // monitor_cond_since reply: [<found>, <last-txn-id>, <table-updates2>]
+                startSplitUpdates(container);
+            }
+        }
+    }
+
+    private void startSplitUpdates(final ContainerNode<?> container) {
+        if (container instanceof ObjectNode object) {
+            splitUpdates = object;
+            splitUpdatesDepth = containers.size();
+            splitRows = 0;
+        }
+    }
+
+    private void endSplitContainer(final ContainerNode<?> finished, final List<Object> out) {
+        final int depth = containers.size();
+        if (depth < splitUpdatesDepth) {
+            // The table-updates object has ended, the rest is emitted with the message
+            splitUpdates = null;
+        } else if (depth == splitUpdatesDepth + 1 && ++splitRows >= partialResultRows) {
+            out.add(new JsonRpcPartialResult(responseId, detachRows()));
+            splitRows = 0;
+        }
+    }
+
+    private JsonNode detachRows() {
+        final ObjectNode rows = nodeFactory.objectNode();
+        for (Entry<String, JsonNode> table : splitUpdates.properties()) {
+            if (table.getValue() instanceof ObjectNode tableRows && !tableRows.isEmpty()) {
+                // Tables are retained, as the last one is still being parsed
+                rows.set(table.getKey(), nodeFactory.objectNode().setAll(tableRows));
+                tableRows.removeAll();
+            }
+        }
+        if (splitResult instanceof ArrayNode array) {
+            return nodeFactory.arrayNode().add(array.get(0)).add(array.get(1)).add(rows);
+        }
+        return rows;
+    }
+
+    private void addValue(final JsonNode value) {
+        if (containers.size() == 1 && "id".equals(fieldName)) {
+            noteResponseId(value);
+        }
+
+        final ContainerNode<?> parent = containers.peek();
+        if (parent instanceof ObjectNode) {
+            ((ObjectNode) parent).set(fieldName, value);
+        } else if (parent instanceof ArrayNode) {
+            ((ArrayNode) parent).add(value);
+        } else {
+            LOG.debug("Ignoring top-level scalar {}", value);
+        }
+    }
+
+    private void noteResponseId(final JsonNode value) {
+        if (value.isIntegralNumber() && value.canConvertToLong()) {
+            responseId = value.longValue();
+            responseIdSeen = true;
+        } else if (value.isTextual()) {
+            final Long parsed = Longs.tryParse(value.textValue());
+            if (parsed != null) {
+                responseId = parsed;
+                responseIdSeen = true;
+            }
+        }
+    }
+}
@@ -9,7 +9,9 @@ package org.opendaylight.ovsdb.lib.message;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
 import java.util.Set;
+import org.opendaylight.ovsdb.lib.notation.Condition;
 
 /**
  * MonitorRequest.
@@ -22,6 +24,7 @@ public class MonitorRequest {
     @JsonIgnore String tableName;
     Set<String> columns;
     MonitorSelect select;
+    List<Condition> where;
 
     public MonitorRequest() {
     }
@@ -51,6 +54,20 @@ public class MonitorRequest {
         this.select = select;
     }
 
+    /**
+     * Return the conditions restricting the rows monitored by a {@code monitor_cond} request. A row is monitored if
+     * it matches any of the conditions, hence an empty list matches no rows. A null list matches all rows.
+     *
+     * @return conditions, or null
+     */
+    public List<Condition> getWhere() {
+        return where;
+    }
+
+    public void setWhere(final List<Condition> where) {
+        this.where = where;
+    }
+
     public Set<String> getColumns() {
         return columns;
     }
@@ -8,9 +8,11 @@
 
 package org.opendaylight.ovsdb.lib.message;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import org.opendaylight.ovsdb.lib.notation.Condition;
 import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
 
@@ -19,6 +21,7 @@ public class MonitorRequestBuilder<E extends TableSchema<E>> {
     private final E tableSchema;
     private final Collection<String> columns = new HashSet<>();
     private MonitorSelect select;
+    private List<Condition> conditions;
 
     public MonitorRequestBuilder(E tableSchema) {
         this.tableSchema = tableSchema;
@@ -55,9 +58,43 @@ public class MonitorRequestBuilder<E extends TableSchema<E>> {
         return this;
     }
 
+    /**
+     * Add a condition restricting the rows monitored by {@code monitor_cond}. Unlike transaction conditions, monitor
+     * conditions are disjunctive: a row is monitored if it matches any of them.
+     *
+     * @param condition condition to add
+     * @return this builder
+     */
+    public MonitorRequestBuilder<E> addCondition(final Condition condition) {
+        if (conditions == null) {
+            conditions = new ArrayList<>();
+        }
+        conditions.add(condition);
+        return this;
+    }
+
+    /**
+     * Set the conditions restricting the rows monitored by {@code monitor_cond}, replacing any previously added. An
+     * empty collection results in no rows being monitored, until the conditions are changed.
+     *
+     * @param where conditions to set
+     * @return this builder
+     */
+    public MonitorRequestBuilder<E> where(final Collection<Condition> where) {
+        this.conditions = new ArrayList<>(where);
+        return this;
+    }
+
+    public List<Condition> getConditions() {
+        return this.conditions;
+    }
+
     public MonitorRequest build() {
         MonitorRequest request = new MonitorRequest(tableSchema.getName(), new HashSet<>(this.columns));
         request.setSelect(select == null ? new MonitorSelect() : select);
+        if (conditions != null) {
+            request.setWhere(new ArrayList<>(conditions));
+        }
         return request;
     }
 }
@@ -11,6 +11,7 @@ package org.opendaylight.ovsdb.lib.message;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
+import java.util.function.Consumer;
 import org.opendaylight.ovsdb.lib.jsonrpc.Params;
 
 public interface OvsdbRPC {
@@ -24,6 +25,50 @@ public interface OvsdbRPC {
 
     ListenableFuture<JsonNode> monitor(Params equest);
 
+    /**
+     * Same as {@link #monitor(Params)}, except the rows of the reply may be handed to {@code partialResults} in
+     * batches as they are received. Each batch has the same shape as the complete reply. The returned future then
+     * completes with the rows which have not been handed out.
+     *
+     * @param request monitor request
+     * @param partialResults consumer of partial replies, invoked on the channel's event loop
+     * @return future reply
+     */
+    default ListenableFuture<JsonNode> monitor(final Params request, final Consumer<JsonNode> partialResults) {
+        return monitor(request);
+    }
+
+    ListenableFuture<JsonNode> monitor_cond(Params request);
+
+    /**
+     * Same as {@link #monitor_cond(Params)}, except the rows of the reply may be handed to {@code partialResults}, as
+     * per {@link #monitor(Params, Consumer)}.
+     *
+     * @param request monitor request
+     * @param partialResults consumer of partial replies, invoked on the channel's event loop
+     * @return future reply
+     */
+    default ListenableFuture<JsonNode> monitor_cond(final Params request, final Consumer<JsonNode> partialResults) {
+        return monitor_cond(request);
+    }
+
+    ListenableFuture<JsonNode> monitor_cond_change(Params request);
+
+    ListenableFuture<JsonNode> monitor_cond_since(Params request);
+
+    /**
+     * Same as {@link #monitor_cond_since(Params)}, except the rows of the reply may be handed to
+     * {@code partialResults}, as per {@link #monitor(Params, Consumer)}.
+     *
+     * @param request monitor request
+     * @param partialResults consumer of partial replies, invoked on the channel's event loop
+     * @return future reply
+     */
+    default ListenableFuture<JsonNode> monitor_cond_since(final Params request,
+            final Consumer<JsonNode> partialResults) {
+        return monitor_cond_since(request);
+    }
+
     ListenableFuture<List<String>> list_dbs();
 
     ListenableFuture<List<JsonNode>> transact(TransactBuilder transact);
@@ -44,6 +89,10 @@ public interface OvsdbRPC {
     interface Callback {
         void update(Object context, UpdateNotification upadateNotification);
 
+        void update2(Object context, UpdateNotification updateNotification);
+
+        void update3(Object context, UpdateNotification updateNotification);
+
         void locked(Object context, List<String> ids);
 
         void stolen(Object context, List<String> ids);
@@ -9,8 +9,10 @@ package org.opendaylight.ovsdb.lib.message;
 
 import java.util.HashMap;
 import java.util.Map;
+import org.opendaylight.ovsdb.lib.notation.Column;
 import org.opendaylight.ovsdb.lib.notation.Row;
 import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
 
 public class TableUpdate<E extends TableSchema<E>> {
@@ -53,6 +55,41 @@ public class TableUpdate<E extends TableSchema<E>> {
         rows.put(uuid, new RowUpdate<>(uuid, oldRow, newRow));
     }
 
+    /**
+     * Merge an update which immediately follows this one into this update, so that this update describes the net
+     * change. Rows inserted and then deleted are dropped, rows inserted and then modified remain insertions, and the
+     * old row of a modified or deleted row reports each column as it was before the first update.
+     *
+     * @param next the following update
+     */
+    public void merge(final TableUpdate<E> next) {
+        for (RowUpdate<E> update : next.rows.values()) {
+            final UUID uuid = update.getUuid();
+            final RowUpdate<E> prev = rows.get(uuid);
+            if (prev == null) {
+                rows.put(uuid, update);
+            } else if (prev.getOld() == null && update.getNew() == null) {
+                rows.remove(uuid);
+            } else {
+                rows.put(uuid, new RowUpdate<>(uuid, mergeOld(prev.getOld(), update.getOld()), update.getNew()));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends TableSchema<E>> Row<E> mergeOld(final Row<E> first, final Row<E> second) {
+        if (first == null || second == null) {
+            return first;
+        }
+
+        final Row<E> ret = new Row<>(second.getTableSchema());
+        final Row.ColumnVisitor<E, RuntimeException> copy = (schema, data) ->
+            ret.addColumn(schema.getName(), new Column<>((ColumnSchema<E, Object>) schema, data));
+        second.forEachColumn(copy);
+        first.forEachColumn(copy);
+        return ret;
+    }
+
     public Row<E> getOld(final UUID uuid) {
         RowUpdate<E> rowUpdate = rows.get(uuid);
         return rowUpdate != null ? rowUpdate.getOld() : null;
@@ -30,6 +30,28 @@ public class TableUpdates extends Response {
         return map;
     }
 
+    /**
+     * Merge updates which immediately follow these ones into these updates, so that they describe the net change.
+     * {@code next} is not modified. Typed rows are decoded from each update only once, hence updates have to be merged
+     * before rows are extracted from them.
+     *
+     * @param next the following updates
+     * @see TableUpdate#merge(TableUpdate)
+     */
+    @SuppressWarnings("unchecked")
+    public void merge(final TableUpdates next) {
+        next.map.forEach((table, update) -> {
+            final TableUpdate prev = map.get(table);
+            if (prev == null) {
+                final TableUpdate copy = new TableUpdate();
+                copy.merge(update);
+                map.put(table, copy);
+            } else {
+                prev.merge(update);
+            }
+        });
+    }
+
     @Override
     public String toString() {
         return "TableUpdates [map=" + map + ", error=" + error + ", details="
@@ -24,6 +24,7 @@ public class UpdateNotification {
     private DatabaseSchema databaseSchema;
     private TableUpdates update;
     private JsonNode updatesJson;
+    private String lastTransactionId;
 
     public String getContext() {
         return context;
@@ -54,6 +55,20 @@ public class UpdateNotification {
         return updatesJson;
     }
 
+    /**
+     * Return the transaction id carried by an {@code update3} notification.
+     *
+     * @return the id of the last transaction reflected by this notification, or null if it is not an
+     *         {@code update3} notification
+     */
+    public String getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    public void setLastTransactionId(String lastTransactionId) {
+        this.lastTransactionId = lastTransactionId;
+    }
+
     public DatabaseSchema getDatabaseSchema() {
         return databaseSchema;
     }
@@ -25,6 +25,12 @@ public class Column<E extends TableSchema<E>, D> {
         return anotherSchema.validate(data);
     }
 
+    /**
+     * Return the value of this column. Set and map values decoded from the wire are immutable and may be shared
+     * between rows, callers wishing to modify them need to make a copy first.
+     *
+     * @return the value of this column
+     */
     public D getData() {
         return data;
     }
@@ -48,6 +54,10 @@ public class Column<E extends TableSchema<E>, D> {
 
     @Override
     public int hashCode() {
+        return hashCode(schema, data);
+    }
+
+    static int hashCode(ColumnSchema<?, ?> schema, Object data) {
         final int prime = 31;
         int result = 1;
         result = prime * result + ((data == null) ? 0 : data.hashCode());
@@ -10,6 +10,7 @@ package org.opendaylight.ovsdb.lib.notation;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.ForwardingMap;
+import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
 import java.util.Map;
 import org.opendaylight.ovsdb.lib.notation.json.Converter;
@@ -18,14 +19,51 @@ import org.opendaylight.ovsdb.lib.notation.json.OvsdbMapSerializer;
 @JsonDeserialize(converter = Converter.MapConverter.class)
 @JsonSerialize(using = OvsdbMapSerializer.class)
 public class OvsdbMap<K, V> extends ForwardingMap<K, V> {
-    private final Map<K, V> target = new HashMap<>();
+    /**
+     * Builder of immutable maps, as produced when decoding values. The resulting maps are compact: there is a single
+     * empty instance and small maps do not carry a HashMap's per-entry nodes.
+     */
+    public static final class Builder<K, V> {
+        private final ImmutableMap.Builder<K, V> builder = ImmutableMap.builder();
 
-    public OvsdbMap() {
+        Builder() {
+            // Hidden on purpose
+        }
+
+        /**
+         * Add an entry, replacing any previous entry with the same key. Entries with a null key or value, which
+         * cannot be expressed in OVSDB, are ignored.
+         *
+         * @param key entry key
+         * @param value entry value
+         * @return this builder
+         */
+        public Builder<K, V> put(final K key, final V value) {
+            if (key != null && value != null) {
+                builder.put(key, value);
+            }
+            return this;
+        }
+
+        public OvsdbMap<K, V> build() {
+            return of(builder.buildKeepingLast());
+        }
+    }
 
+    private static final OvsdbMap<?, ?> EMPTY = new OvsdbMap<>(ImmutableMap.of(), true);
+
+    private final Map<K, V> target;
+
+    public OvsdbMap() {
+        target = new HashMap<>();
     }
 
     public OvsdbMap(Map<K, V> value) {
-        this.target.putAll(value);
+        target = new HashMap<>(value);
+    }
+
+    private OvsdbMap(final Map<K, V> value, final boolean wrap) {
+        target = value;
     }
 
     @Override
@@ -33,7 +71,28 @@ public class OvsdbMap<K, V> extends ForwardingMap<K, V> {
         return target;
     }
 
+    /**
+     * Wrap a map, without copying it. The caller hands {@code value} over and must not modify it afterwards.
+     *
+     * @param value map to wrap
+     * @return an OvsdbMap backed by {@code value}, or {@code value} itself if it already is an OvsdbMap
+     */
     public static <K,V> OvsdbMap<K,V> fromMap(Map<K, V> value) {
-        return new OvsdbMap<>(value);
+        return value instanceof OvsdbMap<K, V> map ? map : new OvsdbMap<>(value, true);
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Return an immutable map with the specified entries.
+     *
+     * @param entries entries of the map
+     * @return an immutable OvsdbMap
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> OvsdbMap<K, V> of(ImmutableMap<K, V> entries) {
+        return entries.isEmpty() ? (OvsdbMap<K, V>) EMPTY : new OvsdbMap<>(entries, true);
     }
 }
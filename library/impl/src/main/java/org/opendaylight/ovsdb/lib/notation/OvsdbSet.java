@@ -10,6 +10,7 @@ package org.opendaylight.ovsdb.lib.notation;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.ForwardingSet;
+import com.google.common.collect.ImmutableSet;
 import java.util.HashSet;
 import java.util.Set;
 import org.opendaylight.ovsdb.lib.notation.json.Converter;
@@ -18,6 +19,36 @@ import org.opendaylight.ovsdb.lib.notation.json.OvsdbSetSerializer;
 @JsonDeserialize(converter = Converter.SetConverter.class)
 @JsonSerialize(using = OvsdbSetSerializer.class)
 public class OvsdbSet<T> extends ForwardingSet<T> {
+    /**
+     * Builder of immutable sets, as produced when decoding values. The resulting sets are compact: there is a single
+     * empty instance and small sets do not carry a HashSet's per-element nodes.
+     */
+    public static final class Builder<T> {
+        private final ImmutableSet.Builder<T> builder = ImmutableSet.builder();
+
+        Builder() {
+            // Hidden on purpose
+        }
+
+        /**
+         * Add an element. Null elements, which cannot be expressed in OVSDB, are ignored.
+         *
+         * @param element element to add
+         * @return this builder
+         */
+        public Builder<T> add(final T element) {
+            if (element != null) {
+                builder.add(element);
+            }
+            return this;
+        }
+
+        public OvsdbSet<T> build() {
+            return of(builder.build());
+        }
+    }
+
+    private static final OvsdbSet<?> EMPTY = new OvsdbSet<>(ImmutableSet.of());
 
     Set<T> target = new HashSet<>();
 
@@ -34,7 +65,28 @@ public class OvsdbSet<T> extends ForwardingSet<T> {
         return target;
     }
 
+    /**
+     * Wrap a set, without copying it. The caller hands {@code value} over and must not modify it afterwards.
+     *
+     * @param value set to wrap
+     * @return an OvsdbSet backed by {@code value}, or {@code value} itself if it already is an OvsdbSet
+     */
     public static <D> OvsdbSet<D> fromSet(Set<D> value) {
-        return new OvsdbSet<>(value);
+        return value instanceof OvsdbSet<D> set ? set : new OvsdbSet<>(value);
+    }
+
+    public static <D> Builder<D> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Return an immutable set with the specified elements.
+     *
+     * @param elements elements of the set
+     * @return an immutable OvsdbSet
+     */
+    @SuppressWarnings("unchecked")
+    public static <D> OvsdbSet<D> of(ImmutableSet<D> elements) {
+        return elements.isEmpty() ? (OvsdbSet<D>) EMPTY : new OvsdbSet<>(elements);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2014, 2017 EBay Software Foundation and others. All rights reserved.
+ * Copyright (c) 2013, 2015 EBay Software Foundation and others. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v1.0 which accompanies this distribution,
@@ -9,58 +9,254 @@ package org.opendaylight.ovsdb.lib.notation;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.opendaylight.ovsdb.lib.notation.json.RowSerializer;
 import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
 
+/**
+ * A row of a table. Column data is stored in a flat array, at the column ordinals assigned by the table schema, see
+ * {@link TableSchema#getColumnOrdinal(String)}. Columns which the table schema does not know about, which includes
+ * all columns of a row without a table schema, are kept separately.
+ *
+ * <p>{@link Column} objects handed out by this class are detached views: they can be freely retained, but modifying
+ * them has no effect on the row. Use {@link #addColumn(String, Column)} or {@link #setData(int, Object)} instead.
+ *
+ * <p>Rows are populated by a single thread, but may then be shared, for example by a {@code DatabaseReplica}. Reading
+ * a shared row and switching its table schema through {@link #setTableSchema(TableSchema)} is safe from any thread.
+ */
 @JsonSerialize(using = RowSerializer.class)
 public class Row<E extends TableSchema<E>> {
+    /**
+     * Callback for {@link #forEachColumn(ColumnVisitor)}.
+     */
+    @FunctionalInterface
+    public interface ColumnVisitor<E extends TableSchema<E>, X extends Exception> {
+
+        void visit(ColumnSchema<E, ?> schema, Object data) throws X;
+    }
+
+    /**
+     * Table schema and the data laid out for it. These are replaced together, so that readers never observe data laid
+     * out for a different table schema.
+     */
+    private static final class Layout<E extends TableSchema<E>> {
+        final TableSchema<E> tableSchema;
+        final Object[] values;
+        Map<String, Column<E, ?>> extraColumns;
+
+        Layout(final TableSchema<E> tableSchema, final Object[] values,
+                final Map<String, Column<E, ?>> extraColumns) {
+            this.tableSchema = tableSchema;
+            this.values = values;
+            this.extraColumns = extraColumns;
+        }
+
+        Layout(final TableSchema<E> tableSchema) {
+            this(tableSchema, tableSchema == null ? EMPTY : new Object[tableSchema.getColumnCount()], null);
+        }
+
+        int ordinal(final String columnName) {
+            return tableSchema == null ? -1 : tableSchema.getColumnOrdinal(columnName);
+        }
+
+        void addColumn(final String columnName, final Column<E, ?> data) {
+            final int ordinal = ordinal(columnName);
+            if (ordinal < 0) {
+                if (extraColumns == null) {
+                    extraColumns = new HashMap<>();
+                }
+                extraColumns.put(columnName, data);
+            } else {
+                values[ordinal] = wrap(data.getData());
+            }
+        }
+    }
+
+    /**
+     * Returned by {@link #getData(TableSchema, int)} when the row is not laid out for the expected table schema.
+     */
+    public static final Object LAYOUT_MISMATCH = new Object();
+
+    private static final Object[] EMPTY = new Object[0];
+    // Marks a present column with null data, as null slots are absent columns
+    private static final Object NULL_DATA = new Object();
+
     @JsonIgnore
-    private TableSchema<E> tableSchema;
-    protected Map<String, Column<E, ?>> columns = new HashMap<>();
+    private volatile Layout<E> layout;
 
     public Row() {
-
+        layout = new Layout<>(null);
     }
 
     public Row(TableSchema<E> tableSchema) {
-        this.tableSchema = tableSchema;
+        layout = new Layout<>(tableSchema);
     }
 
     public Row(TableSchema<E> tableSchema, List<Column<E, ?>> columns) {
-        this.tableSchema = tableSchema;
+        this(tableSchema);
         for (Column<E, ?> column : columns) {
-            this.columns.put(column.getSchema().getName(), column);
+            addColumn(column.getSchema().getName(), column);
         }
     }
 
     public <D> Column<E, D> getColumn(ColumnSchema<E, D> schema) {
-        return (Column<E, D>) columns.get(schema.getName());
+        final String name = schema.getName();
+        final Layout<E> local = layout;
+        final int ordinal = local.ordinal(name);
+        if (ordinal < 0) {
+            return local.extraColumns == null ? null : (Column<E, D>) local.extraColumns.get(name);
+        }
+
+        final Object value = ordinal < local.values.length ? local.values[ordinal] : null;
+        return value == null ? null : new Column<>(schema, value == NULL_DATA ? null : (D) value);
     }
 
     public Collection<Column<E, ?>> getColumns() {
-        return columns.values();
+        final List<Column<E, ?>> ret = new ArrayList<>();
+        forEachColumn((schema, data) -> ret.add(new Column<>((ColumnSchema<E, Object>) schema, data)));
+        return ret;
+    }
+
+    /**
+     * Invoke a visitor for each column present in this row, without instantiating {@link Column} views.
+     *
+     * @param visitor visitor to invoke
+     * @throws X when thrown by the visitor
+     */
+    public <X extends Exception> void forEachColumn(final ColumnVisitor<E, X> visitor) throws X {
+        forEachColumn(layout, visitor);
+    }
+
+    private static <E extends TableSchema<E>, X extends Exception> void forEachColumn(final Layout<E> local,
+            final ColumnVisitor<E, X> visitor) throws X {
+        final TableSchema<E> schema = local.tableSchema;
+        final int count = schema == null ? 0 : Math.min(local.values.length, schema.getColumnCount());
+        for (int i = 0; i < count; ++i) {
+            final Object value = local.values[i];
+            if (value != null) {
+                visitor.visit(schema.getColumnSchema(i), value == NULL_DATA ? null : value);
+            }
+        }
+        if (local.extraColumns != null) {
+            for (Column<E, ?> column : local.extraColumns.values()) {
+                visitor.visit(column.getSchema(), column.getData());
+            }
+        }
     }
 
     public void addColumn(String columnName, Column<E, ?> data) {
-        this.columns.put(columnName, data);
+        layout.addColumn(columnName, data);
+    }
+
+    /**
+     * Return the data of a column, identified by its ordinal in {@link #getTableSchema()}.
+     *
+     * @param ordinal column ordinal
+     * @return column data, or null if the column is not present
+     */
+    public Object getData(final int ordinal) {
+        final Object[] local = layout.values;
+        final Object value = ordinal < local.length ? local[ordinal] : null;
+        return value == NULL_DATA ? null : value;
+    }
+
+    /**
+     * Set the data of a column, identified by its ordinal in {@link #getTableSchema()}.
+     *
+     * @param ordinal column ordinal
+     * @param data column data
+     * @throws IndexOutOfBoundsException if the ordinal is not valid
+     */
+    public void setData(final int ordinal, final Object data) {
+        layout.values[ordinal] = wrap(data);
+    }
+
+    /**
+     * Return the data of a column, identified by its ordinal in the table schema the caller expects this row to be
+     * laid out for. The schema check and the access are done against the same layout, so that a concurrent
+     * {@link #setTableSchema(TableSchema)} cannot make the ordinal refer to a different column.
+     *
+     * @param expected expected table schema
+     * @param ordinal column ordinal in the expected table schema
+     * @return column data, null if the column is not present, or {@link #LAYOUT_MISMATCH} if this row is laid out for
+     *         another table schema
+     */
+    public Object getData(final TableSchema<E> expected, final int ordinal) {
+        final Layout<E> local = layout;
+        if (local.tableSchema != expected) {
+            return LAYOUT_MISMATCH;
+        }
+        final Object value = ordinal < local.values.length ? local.values[ordinal] : null;
+        return value == NULL_DATA ? null : value;
+    }
+
+    /**
+     * Set the data of a column, identified by its ordinal in the table schema the caller expects this row to be laid
+     * out for. The schema check and the access are done against the same layout, see
+     * {@link #getData(TableSchema, int)}.
+     *
+     * @param expected expected table schema
+     * @param ordinal column ordinal in the expected table schema
+     * @param data column data
+     * @return true if the data has been set, false if this row is laid out for another table schema
+     */
+    public boolean setData(final TableSchema<E> expected, final int ordinal, final Object data) {
+        final Layout<E> local = layout;
+        if (local.tableSchema != expected) {
+            return false;
+        }
+        local.values[ordinal] = wrap(data);
+        return true;
     }
 
     public TableSchema<E> getTableSchema() {
-        return tableSchema;
+        return layout.tableSchema;
     }
 
+    /**
+     * Switch this row to a different table schema. The data is laid out for the new schema in a new array, which is
+     * then published together with the schema, so this method does not disturb concurrent readers.
+     *
+     * @param tableSchema new table schema
+     */
     public void setTableSchema(TableSchema<E> tableSchema) {
-        this.tableSchema = tableSchema;
+        final Layout<E> previous = layout;
+        if (tableSchema == previous.tableSchema) {
+            return;
+        }
+
+        final int prefix = previous.tableSchema == null ? 0 : commonLayout(previous.tableSchema, tableSchema);
+        if (prefix == previous.values.length && previous.extraColumns == null) {
+            // Same or extended layout, typically after TableSchema.withInternallyGeneratedColumns(). Existing ordinals
+            // remain valid, hence the data can be shared unless the new schema has more columns.
+            layout = new Layout<>(tableSchema, tableSchema == null || tableSchema.getColumnCount() == prefix
+                ? previous.values : Arrays.copyOf(previous.values, tableSchema.getColumnCount()), null);
+            return;
+        }
+
+        final Layout<E> next = new Layout<>(tableSchema);
+        forEachColumn(previous,
+            (schema, data) -> next.addColumn(schema.getName(), new Column<>((ColumnSchema<E, Object>) schema, data)));
+        layout = next;
     }
 
     @Override
     public String toString() {
-        return "Row [columns=" + columns + "]";
+        final StringBuilder sb = new StringBuilder("Row [columns={");
+        forEachColumn((schema, data) -> {
+            if (sb.charAt(sb.length() - 1) != '{') {
+                sb.append(", ");
+            }
+            sb.append(schema.getName()).append("=[").append(schema.getName()).append('=').append(data).append(']');
+        });
+        return sb.append("}]").toString();
     }
 
     /**
@@ -71,10 +267,9 @@ public class Row<E extends TableSchema<E>> {
      */
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((columns == null) ? 0 : columns.hashCode());
-        return result;
+        final int[] result = new int[1];
+        forEachColumn((schema, data) -> result[0] += schema.getName().hashCode() ^ Column.hashCode(schema, data));
+        return 31 + result[0];
     }
 
     /**
@@ -94,14 +289,36 @@ public class Row<E extends TableSchema<E>> {
         if (getClass() != obj.getClass()) {
             return false;
         }
-        Row other = (Row) obj;
-        if (columns == null) {
-            if (other.columns != null) {
-                return false;
-            }
-        } else if (!columns.equals(other.columns)) {
-            return false;
+        final Layout<E> local = layout;
+        final Layout<E> otherLayout = ((Row<E>) obj).layout;
+        if (local.tableSchema == otherLayout.tableSchema) {
+            return Arrays.equals(local.values, otherLayout.values)
+                && Objects.equals(local.extraColumns, otherLayout.extraColumns);
         }
-        return true;
+        return toMap().equals(((Row<E>) obj).toMap());
+    }
+
+    private Map<String, Column<E, ?>> toMap() {
+        final Map<String, Column<E, ?>> ret = new HashMap<>();
+        for (Column<E, ?> column : getColumns()) {
+            ret.put(column.getSchema().getName(), column);
+        }
+        return ret;
+    }
+
+    private static Object wrap(final Object data) {
+        return data == null ? NULL_DATA : data;
+    }
+
+    private static int commonLayout(final TableSchema<?> previous, final TableSchema<?> next) {
+        if (next == null) {
+            return 0;
+        }
+        final int max = Math.min(previous.getColumnCount(), next.getColumnCount());
+        int ret = 0;
+        while (ret < max && previous.getColumnSchema(ret).getName().equals(next.getColumnSchema(ret).getName())) {
+            ret++;
+        }
+        return ret;
     }
 }
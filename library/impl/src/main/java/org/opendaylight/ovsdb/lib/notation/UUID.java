@@ -9,54 +9,169 @@ package org.opendaylight.ovsdb.lib.notation;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.nio.CharBuffer;
+import java.util.Objects;
 import org.opendaylight.ovsdb.lib.notation.json.UUIDSerializer;
 import org.opendaylight.ovsdb.lib.notation.json.UUIDStringConverter;
 
 /**
  * Handles both uuid and named-uuid.
+ *
+ * <p>A uuid is held as two longs, its canonical string form is computed only when it is asked for and then cached.
+ * Hexadecimal digits are accepted in either case, the string form always uses lower case. Any string which is not a
+ * canonical uuid is a named-uuid, which is held as-is.
  */
 @JsonDeserialize(contentConverter = UUIDStringConverter.class)
 @JsonSerialize(using = UUIDSerializer.class)
 public class UUID {
+    private static final int LENGTH = 36;
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
 
-    String val;
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final boolean named;
+    // The named-uuid, or the cached string form of a uuid
+    private String val;
 
-    public UUID(String value) {
-        this.val = value;
+    public UUID(final String value) {
+        named = !isCanonical(value);
+        if (named) {
+            mostSigBits = 0;
+            leastSigBits = 0;
+            val = value;
+        } else {
+            mostSigBits = parseBits(value, 0, 18);
+            leastSigBits = parseBits(value, 19, LENGTH);
+        }
+    }
+
+    public UUID(final long mostSigBits, final long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        named = false;
+    }
+
+    /**
+     * Create a UUID from a range of characters, without going through an intermediate string if they hold a
+     * canonical uuid.
+     *
+     * @param chars character buffer
+     * @param offset offset of the first character
+     * @param length number of characters
+     * @return a uuid or a named-uuid
+     */
+    public static UUID fromChars(final char[] chars, final int offset, final int length) {
+        final CharBuffer value = CharBuffer.wrap(chars, offset, length);
+        return isCanonical(value) ? new UUID(parseBits(value, 0, 18), parseBits(value, 19, LENGTH))
+            : new UUID(value.toString());
+    }
+
+    public long getMostSignificantBits() {
+        return mostSigBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSigBits;
+    }
+
+    /**
+     * Check whether this is a named-uuid, i.e. a symbolic name valid only within a single transaction.
+     *
+     * @return true for a named-uuid
+     */
+    public boolean isNamed() {
+        return named;
+    }
+
+    /**
+     * Return the string form of this uuid without caching it.
+     *
+     * @return characters of the string form
+     */
+    public char[] toCharArray() {
+        final String str = val;
+        if (str != null || named) {
+            return str == null ? new char[0] : str.toCharArray();
+        }
+
+        final char[] ret = new char[LENGTH];
+        formatBits(ret, 0, 18, mostSigBits);
+        ret[18] = '-';
+        formatBits(ret, 19, LENGTH, leastSigBits);
+        return ret;
     }
 
     @Override
     public String toString() {
-        return val;
+        String ret = val;
+        if (ret == null && !named) {
+            ret = new String(toCharArray());
+            val = ret;
+        }
+        return ret;
     }
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((val == null) ? 0 : val.hashCode());
-        return result;
+        return named ? Objects.hashCode(val) : Long.hashCode(mostSigBits ^ leastSigBits);
     }
 
     @Override
-    public boolean equals(Object obj) {
+    public boolean equals(final Object obj) {
         if (this == obj) {
             return true;
         }
-        if (obj == null) {
+        if (obj == null || getClass() != obj.getClass()) {
             return false;
         }
-        if (getClass() != obj.getClass()) {
+        final UUID other = (UUID) obj;
+        if (named) {
+            return other.named && Objects.equals(val, other.val);
+        }
+        return !other.named && mostSigBits == other.mostSigBits && leastSigBits == other.leastSigBits;
+    }
+
+    private static boolean isCanonical(final CharSequence value) {
+        if (value == null || value.length() != LENGTH) {
             return false;
         }
-        UUID other = (UUID) obj;
-        if (val == null) {
-            if (other.val != null) {
+        for (int i = 0; i < LENGTH; ++i) {
+            final char ch = value.charAt(i);
+            if (isDash(i) ? ch != '-' : hexDigit(ch) < 0) {
                 return false;
             }
-        } else if (!val.equals(other.val)) {
-            return false;
         }
         return true;
     }
+
+    private static boolean isDash(final int index) {
+        return index == 8 || index == 13 || index == 18 || index == 23;
+    }
+
+    private static int hexDigit(final char ch) {
+        // Character.digit() would also accept non-ASCII digits
+        return ch < 128 ? Character.digit(ch, 16) : -1;
+    }
+
+    private static long parseBits(final CharSequence value, final int from, final int to) {
+        long ret = 0;
+        for (int i = from; i < to; ++i) {
+            if (!isDash(i)) {
+                ret = ret << 4 | hexDigit(value.charAt(i));
+            }
+        }
+        return ret;
+    }
+
+    private static void formatBits(final char[] chars, final int from, final int to, final long bits) {
+        long remaining = bits;
+        for (int i = to - 1; i >= from; --i) {
+            if (isDash(i)) {
+                chars[i] = '-';
+            } else {
+                chars[i] = DIGITS[(int) remaining & 0xF];
+                remaining >>>= 4;
+            }
+        }
+    }
 }
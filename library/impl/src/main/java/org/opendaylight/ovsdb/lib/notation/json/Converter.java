@@ -54,7 +54,7 @@ public final class Converter {
         public OvsdbMap<Object, Object> deserialize(final JsonNode node) {
             if (node.isArray() && node.size() == 2) {
                 if (node.get(0).isTextual() && "map".equals(node.get(0).asText())) {
-                    OvsdbMap<Object, Object> map = new OvsdbMap<>();
+                    final OvsdbMap.Builder<Object, Object> map = OvsdbMap.builder();
                     for (JsonNode pairNode : node.get(1)) {
                         if (pairNode.isArray() && node.size() == 2) {
                             Object key = atomDeser.deserialize(pairNode.get(0));
@@ -62,7 +62,7 @@ public final class Converter {
                             map.put(key, value);
                         }
                     }
-                    return map;
+                    return map.build();
                 } else if (node.size() == 0) {
                     return null;
                 }
@@ -73,25 +73,21 @@ public final class Converter {
 
     static class SetDeser {
         public OvsdbSet<Object> deserialize(final JsonNode node) {
-            OvsdbSet<Object> set = new OvsdbSet<>();
+            final OvsdbSet.Builder<Object> set = OvsdbSet.builder();
             if (node.isArray()) {
                 if (node.size() == 2) {
                     if (node.get(0).isTextual() && "set".equals(node.get(0).asText())) {
                         for (JsonNode atomNode : node.get(1)) {
                             set.add(atomDeser.deserialize(atomNode));
                         }
-                        return set;
+                        return set.build();
                     }
                 } else if (node.size() == 0) {
                     return null;
                 }
             }
             //treat the whole thing as a single Atom
-            Object atom = atomDeser.deserialize(node);
-            if (null != atom) {
-                set.add(atom);
-            }
-            return set;
+            return set.add(atomDeser.deserialize(node)).build();
         }
     }
 
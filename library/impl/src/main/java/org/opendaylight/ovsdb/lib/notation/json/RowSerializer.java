@@ -12,8 +12,6 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
-import java.util.Collection;
-import org.opendaylight.ovsdb.lib.notation.Column;
 import org.opendaylight.ovsdb.lib.notation.Row;
 
 public class RowSerializer extends JsonSerializer<Row> {
@@ -21,10 +19,7 @@ public class RowSerializer extends JsonSerializer<Row> {
     public void serialize(Row row, JsonGenerator generator,
         SerializerProvider provider) throws IOException {
         generator.writeStartObject();
-        Collection<Column> columns = row.getColumns();
-        for (Column<?,?> column : columns) {
-            generator.writeObjectField(column.getSchema().getName(), column.getData());
-        }
+        ((Row<?>) row).forEachColumn((schema, data) -> generator.writeObjectField(schema.getName(), data));
         generator.writeEndObject();
     }
 }
@@ -20,13 +20,14 @@ public class UUIDSerializer extends JsonSerializer<UUID> {
     public void serialize(UUID value, JsonGenerator generator,
         SerializerProvider provider) throws IOException {
         generator.writeStartArray();
-        try {
-            java.util.UUID.fromString(value.toString());
-            generator.writeString("uuid");
-        } catch (IllegalArgumentException ex) {
+        if (value.isNamed()) {
             generator.writeString("named-uuid");
+            generator.writeString(value.toString());
+        } else {
+            generator.writeString("uuid");
+            final char[] chars = value.toCharArray();
+            generator.writeString(chars, 0, chars.length);
         }
-        generator.writeString(value.toString());
         generator.writeEndArray();
     }
 }
@@ -0,0 +1,27 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.operations;
+
+/**
+ * How {@link org.opendaylight.ovsdb.lib.OvsdbClient#transact(java.util.List, TransactionBatchMode)} submits a batch of
+ * independent {@link TransactionBuilder}s.
+ */
+public enum TransactionBatchMode {
+    /**
+     * Pack the operations of all builders into a single {@code transact} request. This costs a single round trip and
+     * a single commit on the device, but the builders are no longer independent: the request is atomic, hence if any
+     * operation fails, none of the builders takes effect and each of them reports an error. All builders must target
+     * the same database and must not use the same {@code uuid-name}.
+     */
+    PACK,
+    /**
+     * Send one {@code transact} request per builder, back-to-back without waiting for replies. Each builder commits
+     * or fails on its own.
+     */
+    PIPELINE;
+}
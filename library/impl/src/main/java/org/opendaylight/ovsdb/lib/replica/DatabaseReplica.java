@@ -0,0 +1,473 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.replica;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdate.RowUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.Column;
+import org.opendaylight.ovsdb.lib.notation.Condition;
+import org.opendaylight.ovsdb.lib.notation.Function;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+import org.opendaylight.ovsdb.lib.schema.TableSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.TypedBaseTable;
+import org.opendaylight.ovsdb.lib.schema.typed.TypedDatabaseSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A local copy of the monitored rows of a database, along with the id of the last transaction they reflect. Updates
+ * received from the server are applied to the replica, which turns them into the RFC 7047 {@code table-updates}
+ * representation: inserted rows carry only a new row, deleted rows carry only the full old row and modified rows
+ * carry the previous values of the changed columns as the old row and the complete resulting row as the new row.
+ *
+ * <p>A replica is meant to outlive the connection it was populated from: passing it to
+ * {@link org.opendaylight.ovsdb.lib.OvsdbClient#monitorCondSince} on a new connection allows the server to send only
+ * the changes committed since {@link #getLastTransactionId()}.
+ *
+ * <p>Rows can be looked up by UUID, iterated per table or selected by column values. Selections matching the columns
+ * of an index declared through {@link #addIndex(String, String...)} are answered from that index, without scanning
+ * the table.
+ *
+ * <p>Rows handed out by this class are shared with the replica and must not be modified.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class DatabaseReplica {
+    private static final Logger LOG = LoggerFactory.getLogger(DatabaseReplica.class);
+
+    private final Map<String, List<ReplicaIndex>> indexes = new HashMap<>();
+    private final String databaseName;
+    private Map<String, Map<UUID, Row>> tables = new HashMap<>();
+    private String lastTransactionId;
+
+    public DatabaseReplica(final String databaseName) {
+        this.databaseName = requireNonNull(databaseName);
+    }
+
+    public String getDatabaseName() {
+        return databaseName;
+    }
+
+    /**
+     * Return the id of the last transaction reflected in this replica.
+     *
+     * @return transaction id, or null if the replica is empty or was last updated by a server which does not report
+     *         transaction ids
+     */
+    public synchronized String getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    /**
+     * Return the current state of a row.
+     *
+     * @param table table schema
+     * @param uuid row UUID
+     * @return the row, or null if it is not present
+     */
+    public synchronized <E extends TableSchema<E>> Row<E> getRow(final TableSchema<E> table, final UUID uuid) {
+        final Map<UUID, Row> rows = tables.get(table.getName());
+        return rows == null ? null : rows.get(uuid);
+    }
+
+    /**
+     * Return the current state of a row as a typed row.
+     *
+     * @param dbSchema typed database schema
+     * @param klazz typed table class
+     * @param uuid row UUID
+     * @return the typed row, or null if it is not present
+     */
+    public <T extends TypedBaseTable<?>> T getTypedRow(final TypedDatabaseSchema dbSchema, final Class<T> klazz,
+            final UUID uuid) {
+        final Row<GenericTableSchema> row = getRow(dbSchema.getTableSchema(klazz), uuid);
+        return row == null ? null : dbSchema.getTypedRowWrapper(klazz, row);
+    }
+
+    /**
+     * Return the current rows of a table. The returned list is a snapshot, which is not affected by subsequent
+     * updates to this replica.
+     *
+     * @param table table schema
+     * @return rows of the table
+     */
+    public synchronized <E extends TableSchema<E>> List<Row<E>> getRows(final TableSchema<E> table) {
+        final Map<UUID, Row> rows = tables.get(table.getName());
+        return rows == null ? List.of() : List.copyOf((Collection) rows.values());
+    }
+
+    /**
+     * Return the current rows of a table as typed rows. The returned list is a snapshot, which is not affected by
+     * subsequent updates to this replica.
+     *
+     * @param dbSchema typed database schema
+     * @param klazz typed table class
+     * @return typed rows of the table
+     */
+    public <T extends TypedBaseTable<?>> List<T> getTypedRows(final TypedDatabaseSchema dbSchema,
+            final Class<T> klazz) {
+        return wrap(dbSchema, klazz, getRows(dbSchema.getTableSchema(klazz)));
+    }
+
+    /**
+     * Declare a secondary index over some columns of a table. Declaring an index which already exists has no effect.
+     *
+     * @param tableName table name
+     * @param columns indexed column names
+     */
+    public synchronized void addIndex(final String tableName, final String... columns) {
+        final List<ReplicaIndex> tableIndexes = indexes.computeIfAbsent(tableName, k -> new ArrayList<>());
+        for (ReplicaIndex index : tableIndexes) {
+            if (index.getColumns().equals(List.of(columns))) {
+                return;
+            }
+        }
+
+        final ReplicaIndex index = new ReplicaIndex(columns);
+        for (Entry<UUID, Row> row : tables.getOrDefault(tableName, Map.of()).entrySet()) {
+            index.add(row.getKey(), row.getValue());
+        }
+        tableIndexes.add(index);
+    }
+
+    /**
+     * Return the rows of a table matching all of the specified conditions. Only {@link Function#EQUALS} conditions
+     * are supported. If the conditions refer to exactly the columns of a declared index, the rows are looked up in
+     * that index, otherwise the table is scanned.
+     *
+     * @param table table schema
+     * @param conditions conditions the rows need to match
+     * @return matching rows
+     * @throws IllegalArgumentException if a condition uses an unsupported function
+     */
+    public synchronized <E extends TableSchema<E>> List<Row<E>> select(final TableSchema<E> table,
+            final List<Condition> conditions) {
+        final Map<String, Object> values = new HashMap<>();
+        for (Condition condition : conditions) {
+            if (condition.getFunction() != Function.EQUALS) {
+                throw new IllegalArgumentException("Unsupported condition function " + condition.getFunction());
+            }
+            values.put(condition.getColumn(), ReplicaIndex.normalize(condition.getValue()));
+        }
+
+        final Map<UUID, Row> rows = tables.getOrDefault(table.getName(), Map.of());
+        final List<Row<E>> ret = new ArrayList<>();
+        for (ReplicaIndex index : indexes.getOrDefault(table.getName(), List.of())) {
+            if (index.covers(values.keySet())) {
+                final List<Object> key = new ArrayList<>(index.getColumns().size());
+                for (String column : index.getColumns()) {
+                    key.add(values.get(column));
+                }
+                for (UUID uuid : index.get(key)) {
+                    ret.add(rows.get(uuid));
+                }
+                return ret;
+            }
+        }
+
+        for (Row row : rows.values()) {
+            if (matches(row, values)) {
+                ret.add(row);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Return the rows of a table matching all of the specified conditions as typed rows, as per
+     * {@link #select(TableSchema, List)}.
+     *
+     * @param dbSchema typed database schema
+     * @param klazz typed table class
+     * @param conditions conditions the rows need to match
+     * @return matching typed rows
+     * @throws IllegalArgumentException if a condition uses an unsupported function
+     */
+    public <T extends TypedBaseTable<?>> List<T> select(final TypedDatabaseSchema dbSchema, final Class<T> klazz,
+            final List<Condition> conditions) {
+        return wrap(dbSchema, klazz, select(dbSchema.getTableSchema(klazz), conditions));
+    }
+
+    /**
+     * Return the number of rows in this replica.
+     *
+     * @return number of rows
+     */
+    public synchronized int size() {
+        int ret = 0;
+        for (Map<UUID, Row> rows : tables.values()) {
+            ret += rows.size();
+        }
+        return ret;
+    }
+
+    /**
+     * Return the contents of this replica as a set of inserted rows, suitable for populating a consumer which does
+     * not hold any previous state.
+     *
+     * @return all rows, reported as inserted
+     */
+    public synchronized TableUpdates snapshot() {
+        final Map<String, TableUpdate> ret = new HashMap<>();
+        for (Entry<String, Map<UUID, Row>> table : tables.entrySet()) {
+            ret.put(table.getKey(), snapshot(table.getValue()));
+        }
+        return new TableUpdates(ret);
+    }
+
+    /**
+     * Return the current rows of a table as a set of inserted rows, as per {@link #snapshot()}.
+     *
+     * @param table table schema
+     * @return all rows of the table, reported as inserted
+     */
+    public synchronized <E extends TableSchema<E>> TableUpdate<E> snapshot(final TableSchema<E> table) {
+        return snapshot(tables.getOrDefault(table.getName(), Map.of()));
+    }
+
+    private static TableUpdate snapshot(final Map<UUID, Row> rows) {
+        final TableUpdate update = new TableUpdate<>();
+        for (Entry<UUID, Row> row : rows.entrySet()) {
+            update.addRow(row.getKey(), null, row.getValue());
+        }
+        return update;
+    }
+
+    /**
+     * Discard all rows and the last transaction id.
+     */
+    public synchronized void clear() {
+        tables = new HashMap<>();
+        for (List<ReplicaIndex> tableIndexes : indexes.values()) {
+            tableIndexes.forEach(ReplicaIndex::clear);
+        }
+        lastTransactionId = null;
+    }
+
+    /**
+     * Apply updates in {@code table-updates} format, as reported by {@code monitor} and {@code update}. Servers
+     * using this format do not report transaction ids, hence the last transaction id is cleared.
+     *
+     * @param updates decoded updates
+     * @return {@code updates}
+     */
+    public synchronized TableUpdates applyUpdates(final TableUpdates updates) {
+        for (Entry<String, TableUpdate> entry : updates.getUpdates().entrySet()) {
+            final String tableName = entry.getKey();
+            final Map<UUID, Row> rows = tables.computeIfAbsent(tableName, k -> new HashMap<>());
+            for (RowUpdate rowUpdate : (Iterable<RowUpdate>) entry.getValue().getRows().values()) {
+                final Row newRow = rowUpdate.getNew();
+                if (newRow == null) {
+                    removeRow(tableName, rows, rowUpdate.getUuid());
+                } else {
+                    final Row previous = rows.get(rowUpdate.getUuid());
+                    putRow(tableName, rows, rowUpdate.getUuid(), previous == null ? newRow : merge(previous, newRow));
+                }
+            }
+        }
+        lastTransactionId = null;
+        return updates;
+    }
+
+    /**
+     * Apply updates in {@code table-updates2} format, as decoded by
+     * {@link TableSchema#updates2FromJson(com.fasterxml.jackson.core.JsonParser, java.util.Set)}.
+     *
+     * @param updates decoded diffs
+     * @param transactionId id of the last transaction included in {@code updates}, or null if it is not known
+     * @return the effect of {@code updates} on this replica, in {@code table-updates} format
+     */
+    public synchronized TableUpdates applyDiffs(final TableUpdates updates, final String transactionId) {
+        final Map<String, TableUpdate> ret = new HashMap<>();
+        for (Entry<String, TableUpdate> entry : updates.getUpdates().entrySet()) {
+            final String tableName = entry.getKey();
+            final Map<UUID, Row> rows = tables.computeIfAbsent(tableName, k -> new HashMap<>());
+            final TableUpdate result = new TableUpdate<>();
+            for (RowUpdate rowUpdate : (Iterable<RowUpdate>) entry.getValue().getRows().values()) {
+                final UUID uuid = rowUpdate.getUuid();
+                final Row diffOld = rowUpdate.getOld();
+                final Row diffNew = rowUpdate.getNew();
+                if (diffOld == null) {
+                    // initial or insert
+                    if (diffNew != null) {
+                        result.addRow(uuid, putRow(tableName, rows, uuid, diffNew), diffNew);
+                    }
+                } else if (diffNew == null) {
+                    final Row previous = removeRow(tableName, rows, uuid);
+                    if (previous != null) {
+                        result.addRow(uuid, previous, null);
+                    }
+                } else {
+                    final Row previous = rows.get(uuid);
+                    if (previous == null) {
+                        LOG.warn("Ignoring modification of unknown row {} in {}", uuid, tableName);
+                        continue;
+                    }
+
+                    final Row merged = copy(previous);
+                    final Row changed = new Row<>(previous.getTableSchema());
+                    for (Column diff : (Iterable<Column>) diffNew.getColumns()) {
+                        final ColumnSchema schema = diff.getSchema();
+                        final Column old = previous.getColumn(schema);
+                        merged.addColumn(schema.getName(), new Column<>(schema,
+                            schema.getType().applyDiff(old == null ? null : old.getData(), diff.getData())));
+                        if (old != null) {
+                            changed.addColumn(schema.getName(), old);
+                        }
+                    }
+                    putRow(tableName, rows, uuid, merged);
+                    result.addRow(uuid, changed, merged);
+                }
+            }
+            ret.put(tableName, result);
+        }
+        lastTransactionId = transactionId;
+        return new TableUpdates(ret);
+    }
+
+    /**
+     * Replace the contents of this replica with a complete set of rows, as reported by the initial reply to a monitor
+     * request when the server cannot resume from {@link #getLastTransactionId()}.
+     *
+     * @param initial complete contents, all rows reported as inserted
+     * @param transactionId id of the last transaction included in {@code initial}, or null if it is not known
+     * @return the difference between the previous contents of this replica and {@code initial}, in
+     *         {@code table-updates} format. Rows which did not change are not reported.
+     */
+    public synchronized TableUpdates reset(final TableUpdates initial, final String transactionId) {
+        final Map<String, Map<UUID, Row>> previousTables = tables;
+        final Map<String, TableUpdate> ret = new HashMap<>();
+        tables = new HashMap<>();
+
+        for (Entry<String, TableUpdate> entry : initial.getUpdates().entrySet()) {
+            final String tableName = entry.getKey();
+            final Map<UUID, Row> previousRows = previousTables.containsKey(tableName)
+                ? previousTables.remove(tableName) : Map.of();
+            final Map<UUID, Row> rows = new HashMap<>();
+            final TableUpdate result = new TableUpdate<>();
+            for (RowUpdate rowUpdate : (Iterable<RowUpdate>) entry.getValue().getRows().values()) {
+                final UUID uuid = rowUpdate.getUuid();
+                final Row newRow = rowUpdate.getNew();
+                if (newRow == null) {
+                    continue;
+                }
+
+                rows.put(uuid, newRow);
+                final Row previous = previousRows.isEmpty() ? null : previousRows.remove(uuid);
+                if (previous == null) {
+                    result.addRow(uuid, null, newRow);
+                } else if (!previous.equals(newRow)) {
+                    result.addRow(uuid, changedColumns(previous, newRow), newRow);
+                }
+            }
+            addDeletes(result, previousRows);
+            tables.put(tableName, rows);
+            ret.put(tableName, result);
+        }
+
+        for (Entry<String, Map<UUID, Row>> entry : previousTables.entrySet()) {
+            final TableUpdate result = new TableUpdate<>();
+            addDeletes(result, entry.getValue());
+            ret.put(entry.getKey(), result);
+        }
+
+        for (Entry<String, List<ReplicaIndex>> entry : indexes.entrySet()) {
+            for (ReplicaIndex index : entry.getValue()) {
+                index.clear();
+                for (Entry<UUID, Row> row : tables.getOrDefault(entry.getKey(), Map.of()).entrySet()) {
+                    index.add(row.getKey(), row.getValue());
+                }
+            }
+        }
+
+        lastTransactionId = transactionId;
+        return new TableUpdates(ret);
+    }
+
+    private Row putRow(final String tableName, final Map<UUID, Row> rows, final UUID uuid, final Row row) {
+        final Row previous = rows.put(uuid, row);
+        for (ReplicaIndex index : indexes.getOrDefault(tableName, List.of())) {
+            if (previous != null) {
+                index.remove(uuid, previous);
+            }
+            index.add(uuid, row);
+        }
+        return previous;
+    }
+
+    private Row removeRow(final String tableName, final Map<UUID, Row> rows, final UUID uuid) {
+        final Row previous = rows.remove(uuid);
+        if (previous != null) {
+            for (ReplicaIndex index : indexes.getOrDefault(tableName, List.of())) {
+                index.remove(uuid, previous);
+            }
+        }
+        return previous;
+    }
+
+    private static boolean matches(final Row row, final Map<String, Object> values) {
+        for (Entry<String, Object> value : values.entrySet()) {
+            final ColumnSchema schema = row.getTableSchema().column(value.getKey());
+            final Column column = schema == null ? null : row.getColumn(schema);
+            if (!Objects.equals(value.getValue(), column == null ? null : ReplicaIndex.normalize(column.getData()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T extends TypedBaseTable<?>> List<T> wrap(final TypedDatabaseSchema dbSchema,
+            final Class<T> klazz, final List<Row<GenericTableSchema>> rows) {
+        final List<T> ret = new ArrayList<>(rows.size());
+        for (Row<GenericTableSchema> row : rows) {
+            ret.add(dbSchema.getTypedRowWrapper(klazz, row));
+        }
+        return ret;
+    }
+
+    private static void addDeletes(final TableUpdate result, final Map<UUID, Row> rows) {
+        for (Entry<UUID, Row> row : rows.entrySet()) {
+            result.addRow(row.getKey(), row.getValue(), null);
+        }
+    }
+
+    private static Row changedColumns(final Row previous, final Row current) {
+        final Row ret = new Row<>(previous.getTableSchema());
+        for (Column column : (Iterable<Column>) previous.getColumns()) {
+            final Column currentColumn = current.getColumn(column.getSchema());
+            if (currentColumn == null || !Objects.equals(column.getData(), currentColumn.getData())) {
+                ret.addColumn(column.getSchema().getName(), column);
+            }
+        }
+        return ret;
+    }
+
+    private static Row copy(final Row row) {
+        return new Row<>(row.getTableSchema(), new ArrayList<>(row.getColumns()));
+    }
+
+    private static Row merge(final Row previous, final Row update) {
+        final Row ret = copy(previous);
+        for (Column column : (Iterable<Column>) update.getColumns()) {
+            ret.addColumn(column.getSchema().getName(), column);
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.replica;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.ovsdb.lib.notation.Column;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
+import org.opendaylight.ovsdb.lib.schema.TableSchema;
+
+/**
+ * A secondary index over one or more columns of a replicated table. Optional columns, which carry a set of at most
+ * one element, are indexed by that element, or by null when they are empty.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+final class ReplicaIndex {
+    private final Map<List<Object>, Set<UUID>> entries = new HashMap<>();
+    private final List<String> columns;
+
+    ReplicaIndex(final String... columns) {
+        this.columns = List.of(columns);
+    }
+
+    List<String> getColumns() {
+        return columns;
+    }
+
+    boolean covers(final Collection<String> columnNames) {
+        return columns.size() == columnNames.size() && columns.containsAll(columnNames);
+    }
+
+    Set<UUID> get(final List<Object> key) {
+        return entries.getOrDefault(key, Set.of());
+    }
+
+    void add(final UUID uuid, final Row row) {
+        entries.computeIfAbsent(key(row), k -> new HashSet<>()).add(uuid);
+    }
+
+    void remove(final UUID uuid, final Row row) {
+        final List<Object> key = key(row);
+        final Set<UUID> uuids = entries.get(key);
+        if (uuids != null && uuids.remove(uuid) && uuids.isEmpty()) {
+            entries.remove(key);
+        }
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    private List<Object> key(final Row row) {
+        final TableSchema table = row.getTableSchema();
+        final Object[] ret = new Object[columns.size()];
+        for (int i = 0; i < ret.length; ++i) {
+            final ColumnSchema schema = table == null ? null : table.column(columns.get(i));
+            final Column column = schema == null ? null : row.getColumn(schema);
+            ret[i] = column == null ? null : normalize(column.getData());
+        }
+        // Arrays.asList() tolerates null elements, unlike List.of()
+        return Arrays.asList(ret);
+    }
+
+    static Object normalize(final Object value) {
+        if (value instanceof Set<?> set && set.size() <= 1) {
+            return set.isEmpty() ? null : set.iterator().next();
+        }
+        return value;
+    }
+}
@@ -7,7 +7,13 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 import org.opendaylight.ovsdb.lib.notation.OvsdbSet;
 
 final class AtomicColumnType extends ColumnType {
@@ -36,7 +42,7 @@ final class AtomicColumnType extends ColumnType {
     @Override
     public Object valueFromJson(final JsonNode value) {
         if (isMultiValued()) {
-            OvsdbSet<Object> result = new OvsdbSet<>();
+            final OvsdbSet.Builder<Object> result = OvsdbSet.builder();
             if (value.isArray()) {
                 if (value.size() == 2) {
                     if (value.get(0).isTextual() && "set".equals(value.get(0).asText())) {
@@ -50,9 +56,66 @@ final class AtomicColumnType extends ColumnType {
             } else {
                 result.add(getBaseType().toValue(value));
             }
-            return result;
+            return result.build();
         } else {
             return getBaseType().toValue(value);
         }
     }
+
+    @Override
+    public Object valueFromJson(final JsonParser parser) throws IOException {
+        if (!isMultiValued()) {
+            return getBaseType().toValue(parser);
+        }
+
+        final OvsdbSet.Builder<Object> result = OvsdbSet.builder();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            result.add(getBaseType().toValue(parser));
+            return result.build();
+        }
+
+        // Either ["set", [atoms...]] or a single tagged atom, like ["uuid", "..."]
+        final JsonToken first = parser.nextToken();
+        if (first == JsonToken.VALUE_STRING) {
+            final String tag = parser.getText();
+            if (!"set".equals(tag)) {
+                result.add(getBaseType().toValue(tag, parser));
+                return result.build();
+            }
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    result.add(getBaseType().toValue(parser));
+                }
+            } else if (parser.currentToken() == JsonToken.END_ARRAY) {
+                return result.build();
+            } else {
+                parser.skipChildren();
+            }
+            skipToEndArray(parser);
+        } else if (first != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            skipToEndArray(parser);
+        }
+        return result.build();
+    }
+
+    @Override
+    public Object defaultValue() {
+        return isMultiValued() ? OvsdbSet.of(ImmutableSet.of()) : getBaseType().defaultValue();
+    }
+
+    @Override
+    public Object applyDiff(final Object value, final Object diff) {
+        if (!isMultiValued() || !(diff instanceof Set<?> elements)) {
+            return diff;
+        }
+
+        final Set<Object> result = value instanceof Set<?> previous ? new HashSet<>(previous) : new HashSet<>();
+        for (Object element : elements) {
+            if (!result.remove(element)) {
+                result.add(element);
+            }
+        }
+        return OvsdbSet.of(ImmutableSet.copyOf(result));
+    }
 }
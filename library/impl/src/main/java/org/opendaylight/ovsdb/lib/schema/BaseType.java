@@ -7,12 +7,19 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import java.io.IOException;
 import org.opendaylight.ovsdb.lib.error.TyperException;
 import org.slf4j.Logger;
 
 public abstract class BaseType<E extends BaseType<E>> {
     private static final Logger LOG = org.slf4j.LoggerFactory.getLogger(BaseType.class);
+    private static final ObjectMapper TREE_MAPPER = new ObjectMapper();
 
     BaseType() {
         // Prevent external instantiation
@@ -47,8 +54,46 @@ public abstract class BaseType<E extends BaseType<E>> {
 
     public abstract Object toValue(JsonNode value);
 
+    /**
+     * Streaming equivalent of {@link #toValue(JsonNode)}. The parser is expected to be positioned at the first token
+     * of the value and is left positioned at its last token. The default implementation materializes the value as a
+     * tree, subclasses override this method to decode common encodings directly from tokens.
+     *
+     * @param parser the parser to read from
+     * @return decoded value
+     * @throws IOException if the parser fails
+     */
+    public Object toValue(final JsonParser parser) throws IOException {
+        return toValue((JsonNode) TREE_MAPPER.readTree(parser));
+    }
+
+    /**
+     * Decode a tagged array atom, such as {@code ["uuid", "..."]}, whose opening bracket and tag have already been
+     * consumed from the parser. The parser is left positioned at the closing bracket.
+     *
+     * @param tag the array tag
+     * @param parser the parser to read from, positioned at the tag
+     * @return decoded value
+     * @throws IOException if the parser fails
+     */
+    Object toValue(final String tag, final JsonParser parser) throws IOException {
+        final ArrayNode array = JsonNodeFactory.instance.arrayNode().add(tag);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            array.add((JsonNode) TREE_MAPPER.readTree(parser));
+        }
+        return toValue(array);
+    }
+
     public abstract void validate(Object value);
 
+    /**
+     * Return the default value of an atom of this type, as defined in RFC 7047 section 5.1: zero for numbers, false
+     * for booleans, an empty string and the all-zero UUID.
+     *
+     * @return default value
+     */
+    abstract Object defaultValue();
+
     // Find a simple singleton instance
     private static BaseType singletonFor(final String type) {
         switch (type) {
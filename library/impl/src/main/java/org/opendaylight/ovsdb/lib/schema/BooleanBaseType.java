@@ -7,7 +7,9 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
 
 final class BooleanBaseType extends BaseType<BooleanBaseType> {
     static final BooleanBaseType SINGLETON = new BooleanBaseType();
@@ -24,6 +26,16 @@ final class BooleanBaseType extends BaseType<BooleanBaseType> {
         return value.asBoolean();
     }
 
+    @Override
+    public Object toValue(final JsonParser parser) throws IOException {
+        return parser.currentToken().isScalarValue() ? parser.getValueAsBoolean() : super.toValue(parser);
+    }
+
+    @Override
+    Object defaultValue() {
+        return Boolean.FALSE;
+    }
+
     @Override
     public void validate(final Object value) {
 
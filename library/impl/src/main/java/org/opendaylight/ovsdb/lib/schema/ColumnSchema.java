@@ -7,7 +7,9 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -124,8 +126,13 @@ public class ColumnSchema<E extends TableSchema<E>, D> {
         return (D) this.getType().valueFromJson(value);
     }
 
+    public D valueFromJson(final JsonParser parser) throws IOException {
+        return (D) this.getType().valueFromJson(parser);
+    }
+
     public Object getNormalizeData(final D value) {
         Object untypedValue;
+        // Both wrap the value without copying it, and return OvsdbSet/OvsdbMap values as-is
         if (value instanceof Set) {
             untypedValue = OvsdbSet.fromSet((Set) value);
         } else if (value instanceof Map) {
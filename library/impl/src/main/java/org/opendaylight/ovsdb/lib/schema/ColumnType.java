@@ -7,8 +7,11 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableList;
+import java.io.IOException;
 import java.util.function.Function;
 import org.opendaylight.ovsdb.lib.error.TyperException;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonUtils;
@@ -84,6 +87,35 @@ public abstract class ColumnType {
 
     public abstract Object valueFromJson(JsonNode value);
 
+    /**
+     * Streaming equivalent of {@link #valueFromJson(JsonNode)}. The parser is expected to be positioned at the first
+     * token of the value and is left positioned at its last token.
+     *
+     * @param parser the parser to read from
+     * @return decoded value
+     * @throws IOException if the parser fails
+     */
+    public abstract Object valueFromJson(JsonParser parser) throws IOException;
+
+    /**
+     * Return the default value of a column of this type, as defined in RFC 7047 section 5.1: an empty set or map for
+     * columns which may hold any number of values other than exactly one, and the default atom otherwise.
+     *
+     * @return default value
+     */
+    public abstract Object defaultValue();
+
+    /**
+     * Apply a {@code modify} diff, as carried in {@code <row-update2>} and decoded by {@link #valueFromJson(JsonNode)},
+     * to a value of this type. Scalar diffs replace the value, set diffs toggle the presence of each element and map
+     * diffs add new keys, remove keys whose value matches and replace the value of the others.
+     *
+     * @param value previous value, or null to use {@link #defaultValue()}
+     * @param diff decoded diff
+     * @return a new value, {@code value} is not modified
+     */
+    public abstract Object applyDiff(Object value, Object diff);
+
     public void validate(final Object value) {
         baseType.validate(value);
     }
@@ -149,6 +181,19 @@ public abstract class ColumnType {
         return 1;
     }
 
+    /**
+     * Skip the remaining elements of an array. The parser is expected to be positioned either at the array's opening
+     * bracket or at the last token of one of its elements and is left positioned at the array's closing bracket.
+     */
+    static void skipToEndArray(final JsonParser parser) throws IOException {
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw new IOException("Unexpected end of input inside an array");
+            }
+            parser.skipChildren();
+        }
+    }
+
     static long minFromJson(final JsonNode json) {
         final JsonNode minNode = json.get("min");
         return minNode == null ? 1 : minNode.asLong();
@@ -10,6 +10,7 @@ package org.opendaylight.ovsdb.lib.schema;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.opendaylight.ovsdb.lib.error.BadSchemaException;
 import org.slf4j.Logger;
@@ -51,7 +52,8 @@ public class GenericTableSchema extends TableSchema<GenericTableSchema> {
             return this;
         }
 
-        final Map<String, ColumnSchema> columns = new HashMap<>(getColumnSchemas());
+        // Keep the existing columns first, so that rows keep their layout when they switch to the returned schema
+        final Map<String, ColumnSchema> columns = new LinkedHashMap<>(getColumnSchemas());
         columns.put(UUID_COLUMN_SCHMEMA.getName(), UUID_COLUMN_SCHMEMA);
         columns.put(VERSION_COLUMN_SCHMEMA.getName(), VERSION_COLUMN_SCHMEMA);
         return new GenericTableSchema(getName(), columns);
@@ -7,8 +7,10 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
 import java.util.Set;
 
 final class IntegerBaseType extends BaseType<IntegerBaseType> {
@@ -30,6 +32,16 @@ final class IntegerBaseType extends BaseType<IntegerBaseType> {
         return value.asLong();
     }
 
+    @Override
+    public Object toValue(final JsonParser parser) throws IOException {
+        return parser.currentToken().isScalarValue() ? parser.getValueAsLong() : super.toValue(parser);
+    }
+
+    @Override
+    Object defaultValue() {
+        return 0L;
+    }
+
     @Override
     public void validate(final Object value) {
 
@@ -7,7 +7,15 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import org.opendaylight.ovsdb.lib.notation.OvsdbMap;
 
 final class KeyValuedColumnType extends ColumnType {
@@ -38,7 +46,7 @@ final class KeyValuedColumnType extends ColumnType {
     public Object valueFromJson(final JsonNode node) {
         if (node.isArray() && node.size() == 2) {
             if (node.get(0).isTextual() && "map".equals(node.get(0).asText())) {
-                OvsdbMap<Object, Object> map = new OvsdbMap<>();
+                final OvsdbMap.Builder<Object, Object> map = OvsdbMap.builder();
                 for (JsonNode pairNode : node.get(1)) {
                     if (pairNode.isArray() && node.size() == 2) {
                         Object key = keyType.toValue(pairNode.get(0));
@@ -46,7 +54,7 @@ final class KeyValuedColumnType extends ColumnType {
                         map.put(key, value);
                     }
                 }
-                return map;
+                return map.build();
             } else if (node.size() == 0) {
                 return null;
             }
@@ -54,6 +62,72 @@ final class KeyValuedColumnType extends ColumnType {
         return null;
     }
 
+    @Override
+    public Object valueFromJson(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+
+        final JsonToken first = parser.nextToken();
+        if (first == JsonToken.END_ARRAY) {
+            return null;
+        }
+        if (first != JsonToken.VALUE_STRING || !"map".equals(parser.getText())) {
+            parser.skipChildren();
+            skipToEndArray(parser);
+            return null;
+        }
+
+        final OvsdbMap.Builder<Object, Object> map = OvsdbMap.builder();
+        final JsonToken pairs = parser.nextToken();
+        if (pairs == JsonToken.END_ARRAY) {
+            return map.build();
+        }
+        if (pairs == JsonToken.START_ARRAY) {
+            for (JsonToken pair = parser.nextToken(); pair != JsonToken.END_ARRAY; pair = parser.nextToken()) {
+                if (pair == JsonToken.START_ARRAY && parser.nextToken() != JsonToken.END_ARRAY) {
+                    final Object key = keyType.toValue(parser);
+                    if (parser.nextToken() != JsonToken.END_ARRAY) {
+                        map.put(key, getBaseType().toValue(parser));
+                        skipToEndArray(parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+        skipToEndArray(parser);
+        return map.build();
+    }
+
+    @Override
+    public Object defaultValue() {
+        return OvsdbMap.of(ImmutableMap.of());
+    }
+
+    @Override
+    public Object applyDiff(final Object value, final Object diff) {
+        if (!(diff instanceof Map<?, ?> pairs)) {
+            return diff;
+        }
+
+        final Map<Object, Object> result = value instanceof Map<?, ?> previous ? new HashMap<>(previous)
+            : new HashMap<>();
+        for (Entry<?, ?> pair : pairs.entrySet()) {
+            final Object key = pair.getKey();
+            final Object newValue = pair.getValue();
+            if (result.containsKey(key) && Objects.equals(result.get(key), newValue)) {
+                result.remove(key);
+            } else {
+                result.put(key, newValue);
+            }
+        }
+        return OvsdbMap.of(ImmutableMap.copyOf(result));
+    }
+
     @Override
     public String toString() {
         return "KeyValuedColumnType [keyType=" + keyType + " " + super.toString() + "]";
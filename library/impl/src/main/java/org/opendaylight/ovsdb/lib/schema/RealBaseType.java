@@ -7,8 +7,10 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
 import java.util.Set;
 
 final class RealBaseType extends BaseType<RealBaseType> {
@@ -30,6 +32,16 @@ final class RealBaseType extends BaseType<RealBaseType> {
         return value.asDouble();
     }
 
+    @Override
+    public Object toValue(final JsonParser parser) throws IOException {
+        return parser.currentToken().isScalarValue() ? parser.getValueAsDouble() : super.toValue(parser);
+    }
+
+    @Override
+    Object defaultValue() {
+        return 0.0;
+    }
+
     @Override
     public void validate(final Object value) {
 
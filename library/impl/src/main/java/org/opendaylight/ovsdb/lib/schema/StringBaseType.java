@@ -7,8 +7,10 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -33,6 +35,16 @@ final class StringBaseType extends BaseType<StringBaseType> {
         return value.asText();
     }
 
+    @Override
+    public Object toValue(final JsonParser parser) throws IOException {
+        return parser.currentToken().isScalarValue() ? parser.getText() : super.toValue(parser);
+    }
+
+    @Override
+    Object defaultValue() {
+        return "";
+    }
+
     @Override
     public void validate(final Object value) {
 
@@ -9,9 +9,12 @@ package org.opendaylight.ovsdb.lib.schema;
 
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
@@ -34,6 +37,9 @@ public abstract class TableSchema<E extends TableSchema<E>> {
 
     private final String name;
     private final ImmutableMap<String, ColumnSchema> columns;
+    // Column ordinals, defining the layout of Row storage
+    private final ImmutableMap<String, Integer> ordinals;
+    private final ColumnSchema[] columnsByOrdinal;
 
     private volatile List<String> columnList;
 
@@ -44,6 +50,14 @@ public abstract class TableSchema<E extends TableSchema<E>> {
     protected TableSchema(final String name, final Map<String, ColumnSchema> columns) {
         this.name = requireNonNull(name);
         this.columns = ImmutableMap.copyOf(columns);
+        columnsByOrdinal = this.columns.values().toArray(new ColumnSchema[0]);
+
+        final ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builderWithExpectedSize(
+            columnsByOrdinal.length);
+        for (int i = 0; i < columnsByOrdinal.length; ++i) {
+            builder.put(columnsByOrdinal[i].getName(), i);
+        }
+        ordinals = builder.build();
     }
 
     public Set<String> getColumns() {
@@ -67,6 +81,38 @@ public abstract class TableSchema<E extends TableSchema<E>> {
         return columns;
     }
 
+    /**
+     * Return the number of columns in this table.
+     *
+     * @return number of columns
+     */
+    public int getColumnCount() {
+        return columnsByOrdinal.length;
+    }
+
+    /**
+     * Return the ordinal of a column. Ordinals are assigned in the iteration order of {@link #getColumnSchemas()},
+     * from 0 to {@link #getColumnCount()} - 1, and determine where {@link Row} stores the column.
+     *
+     * @param column column name
+     * @return the ordinal, or -1 if this table does not have the column
+     */
+    public int getColumnOrdinal(final String column) {
+        final Integer ret = ordinals.get(column);
+        return ret == null ? -1 : ret;
+    }
+
+    /**
+     * Return the schema of the column with specified ordinal.
+     *
+     * @param ordinal column ordinal
+     * @return column schema
+     * @throws IndexOutOfBoundsException if the ordinal is not valid
+     */
+    public ColumnSchema<E, ?> getColumnSchema(final int ordinal) {
+        return columnsByOrdinal[ordinal];
+    }
+
     public boolean hasColumn(final String column) {
         return columns.containsKey(column);
     }
@@ -142,6 +188,99 @@ public abstract class TableSchema<E extends TableSchema<E>> {
         return tableUpdate;
     }
 
+    /**
+     * Streaming equivalent of {@link #updatesFromJson(JsonNode)}. Rows are built directly from the parser's tokens,
+     * with each column decoded according to its {@link ColumnType}. Columns which are not part of this schema or are
+     * not present in {@code monitoredColumns} are skipped without decoding their value.
+     *
+     * @param parser the parser to read from, positioned at the start of the {@code table-update} object
+     * @param monitoredColumns columns to retain, or null to retain all columns known to this schema
+     * @return decoded table update
+     * @throws IOException if the parser fails
+     */
+    public TableUpdate<E> updatesFromJson(final JsonParser parser, final Set<String> monitoredColumns)
+            throws IOException {
+        return decodeUpdates(parser, monitoredColumns);
+    }
+
+    /**
+     * Decode a {@code table-update2} object, as sent in replies to {@code monitor_cond} and in {@code update2}
+     * notifications. Rows reported as {@code initial} or {@code insert} are returned as new rows, with the monitored
+     * columns the server omitted because they hold their default value filled in, and rows reported as
+     * {@code delete} are returned as an empty old row. Rows reported as {@code modify} are returned with an empty
+     * old row and a new row holding only the modified columns, each as a diff against the previous value: for
+     * scalar columns this is the new value, for sets the elements added or removed, and for maps the pairs added,
+     * removed or updated.
+     *
+     * @param parser the parser to read from, positioned at the start of the {@code table-update2} object
+     * @param monitoredColumns columns to retain, or null to retain all columns known to this schema
+     * @return decoded table update
+     * @throws IOException if the parser fails
+     */
+    public TableUpdate<E> updates2FromJson(final JsonParser parser, final Set<String> monitoredColumns)
+            throws IOException {
+        return decodeUpdates(parser, monitoredColumns);
+    }
+
+    // The member names of <row-update> and <row-update2> are disjoint, hence we can decode both in one place
+    private TableUpdate<E> decodeUpdates(final JsonParser parser, final Set<String> monitoredColumns)
+            throws IOException {
+        final TableUpdate<E> tableUpdate = new TableUpdate<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final UUID uuid = new UUID(parser.currentName());
+            Row<E> oldRow = null;
+            Row<E> newRow = null;
+
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "new":
+                            newRow = createRow(parser, monitoredColumns);
+                            break;
+                        case "initial":
+                        case "insert":
+                            newRow = withDefaults(createRow(parser, monitoredColumns), monitoredColumns);
+                            break;
+                        case "old":
+                            oldRow = createRow(parser, monitoredColumns);
+                            break;
+                        case "modify":
+                            oldRow = new Row<>(this);
+                            newRow = createRow(parser, monitoredColumns);
+                            break;
+                        case "delete":
+                            oldRow = new Row<>(this);
+                            parser.skipChildren();
+                            break;
+                        default:
+                            parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+
+            tableUpdate.addRow(uuid, oldRow, newRow);
+        }
+        return tableUpdate;
+    }
+
+    private Row<E> withDefaults(final Row<E> row, final Set<String> monitoredColumns) {
+        if (row != null) {
+            for (ColumnSchema<E, Object> column : columns.values()) {
+                final String columnName = column.getName();
+                if (row.getColumn(column) == null && !UUID_COLUMN_SCHMEMA.getName().equals(columnName)
+                        && !VERSION_COLUMN_SCHMEMA.getName().equals(columnName)
+                        && (monitoredColumns == null || monitoredColumns.contains(columnName))) {
+                    row.addColumn(columnName, new Column<>(column, column.getType().defaultValue()));
+                }
+            }
+        }
+        return row;
+    }
+
     public Row<E> createRow(final ObjectNode rowNode) {
         List<Column<E, ?>> newColumns = new ArrayList<>();
         for (Iterator<Map.Entry<String, JsonNode>> iter = rowNode.fields(); iter.hasNext();) {
@@ -161,6 +300,37 @@ public abstract class TableSchema<E extends TableSchema<E>> {
         return new Row<>(this, newColumns);
     }
 
+    /**
+     * Streaming equivalent of {@link #createRow(ObjectNode)}.
+     *
+     * @param parser the parser to read from, positioned at the start of the {@code <row>} object
+     * @param monitoredColumns columns to retain, or null to retain all columns known to this schema
+     * @return decoded row, or null if the parser is not positioned at an object
+     * @throws IOException if the parser fails
+     */
+    public Row<E> createRow(final JsonParser parser, final Set<String> monitoredColumns) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        final List<Column<E, ?>> newColumns = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String columnName = parser.currentName();
+            parser.nextToken();
+
+            // See createRow(ObjectNode) for why we are checking for the schema being present
+            final ColumnSchema<E, Object> schema = monitoredColumns == null || monitoredColumns.contains(columnName)
+                ? column(columnName, Object.class) : null;
+            if (schema != null) {
+                newColumns.add(new Column<>(schema, schema.valueFromJson(parser)));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Row<>(this, newColumns);
+    }
+
     public List<Row<E>> createRows(final JsonNode rowsNode) {
         List<Row<E>> rows = new ArrayList<>();
         for (JsonNode rowNode : rowsNode.get("rows")) {
@@ -7,7 +7,10 @@
  */
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
 import org.opendaylight.ovsdb.lib.notation.ReferencedRow;
 import org.opendaylight.ovsdb.lib.notation.UUID;
 
@@ -16,6 +19,7 @@ final class UuidBaseType extends BaseType<UuidBaseType> {
     public enum RefType { strong, weak }
 
     static final UuidBaseType SINGLETON = new UuidBaseType(null, null);
+    private static final UUID DEFAULT_VALUE = new UUID(0, 0);
     static final BaseTypeFactory<UuidBaseType> FACTORY = new BaseTypeFactory<>() {
         @Override
         UuidBaseType create(final JsonNode typeDefinition) {
@@ -57,6 +61,43 @@ final class UuidBaseType extends BaseType<UuidBaseType> {
         return null;
     }
 
+    @Override
+    public Object toValue(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            // Expanded row, see above
+            return super.toValue(parser);
+        }
+
+        final JsonToken first = parser.nextToken();
+        if (first == JsonToken.VALUE_STRING) {
+            return toValue(parser.getText(), parser);
+        }
+        if (first != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            ColumnType.skipToEndArray(parser);
+        }
+        return null;
+    }
+
+    @Override
+    Object toValue(final String tag, final JsonParser parser) throws IOException {
+        final JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return null;
+        }
+
+        final UUID uuid = token == JsonToken.VALUE_STRING && "uuid".equals(tag)
+            ? UUID.fromChars(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength()) : null;
+        parser.skipChildren();
+        ColumnType.skipToEndArray(parser);
+        return uuid;
+    }
+
+    @Override
+    Object defaultValue() {
+        return DEFAULT_VALUE;
+    }
+
     @Override
     public void validate(final Object value) {
 
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+/**
+ * Base class of {@link TypedTable} interface implementations generated by the {@code TypedTableProcessor} annotation
+ * processor from the {@code library-processor} artifact. Each interface method is implemented by an invocation of
+ * {@link #invoke(int)} or {@link #invoke(int, Object[])}, which dispatch to the method's invoker through a plain array
+ * index. This avoids the {@link java.lang.reflect.Proxy} used for interfaces without a generated implementation, which
+ * needs to look up the invoked {@link java.lang.reflect.Method} for each call.
+ *
+ * <p>Method indices are assigned by sorting all abstract methods of the interface by their name and then by their
+ * number of parameters. Both the generator and {@link MethodDispatch} rely on this order.
+ */
+public abstract class AbstractTypedRow {
+    /**
+     * Suffix appended to the binary name of an interface to form the name of its generated implementation.
+     */
+    public static final String IMPLEMENTATION_SUFFIX = "$$TypedRow";
+
+    private final @NonNull TypedRowBinding binding;
+    private final @Nullable Row<GenericTableSchema> row;
+
+    protected AbstractTypedRow(final TypedRowBinding binding, final Row<GenericTableSchema> row) {
+        this.binding = requireNonNull(binding);
+        this.row = row;
+    }
+
+    protected final Object invoke(final int index) {
+        return binding.invoker(index).invokeMethod(row, this, null);
+    }
+
+    protected final Object invoke(final int index, final Object[] args) {
+        return binding.invoker(index).invokeMethod(row, this, args);
+    }
+
+    @Override
+    public final int hashCode() {
+        return row == null ? 0 : row.hashCode();
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        return this == obj || obj != null && getClass() == obj.getClass()
+            && Objects.equals(row, ((AbstractTypedRow) obj).row);
+    }
+
+    @Override
+    public final String toString() {
+        final String tableName = binding.getTableName();
+        return row == null ? tableName : tableName + " : " + row.toString();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ExecutionException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide registry of parsed database schemas, shared by all connections. Schemas are identified by their name,
+ * version and checksum, so that devices running the same OVS release share a single {@link TypedDatabaseSchema},
+ * including its typed row bindings. Schemas are held weakly and are parsed again once no connection uses them.
+ */
+public final class DatabaseSchemaRegistry {
+    private record Key(String name, String version, String cksum) {
+        Key {
+            requireNonNull(name);
+            requireNonNull(version);
+            requireNonNull(cksum);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(DatabaseSchemaRegistry.class);
+    private static final Cache<Key, TypedDatabaseSchema> SCHEMAS = CacheBuilder.newBuilder().weakValues().build();
+
+    private DatabaseSchemaRegistry() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Return the schema described by a {@code get_schema} reply, with internally generated columns, parsing it only if
+     * no equal schema is registered. Schemas without a checksum are never shared.
+     *
+     * @param dbName database name
+     * @param json {@code get_schema} result
+     * @return a typed database schema
+     * @throws org.opendaylight.ovsdb.lib.error.ParsingException if the schema cannot be parsed
+     */
+    public static @NonNull TypedDatabaseSchema fromJson(final String dbName, final JsonNode json) {
+        final JsonNode version = json.get("version");
+        final JsonNode cksum = json.get("cksum");
+        if (version == null || cksum == null || !cksum.isTextual()) {
+            return parse(dbName, json);
+        }
+
+        try {
+            return SCHEMAS.get(new Key(dbName, version.asText(), cksum.asText()), () -> {
+                LOG.debug("Registering schema {} version {} checksum {}", dbName, version, cksum);
+                return parse(dbName, json);
+            });
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException("Failed to parse schema " + dbName, e);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    private static @NonNull TypedDatabaseSchema parse(final String dbName, final JsonNode json) {
+        return TypedDatabaseSchema.of(DatabaseSchema.fromJson(dbName, json).withInternallyGeneratedColumns());
+    }
+}
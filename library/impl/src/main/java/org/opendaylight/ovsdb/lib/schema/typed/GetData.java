@@ -35,6 +35,10 @@ final class GetData<T> extends MethodDispatch.StrictColumnPrototype<T> {
 
         @Override
         Object invokeRowMethod(final Row<GenericTableSchema> row, final Object proxy, final Object[] args) {
+            final Object data = dataIn(row);
+            if (data != Row.LAYOUT_MISMATCH) {
+                return data;
+            }
             final Column<GenericTableSchema, T> column = row.getColumn(columnSchema());
             return column == null ? null : column.getData();
         }
@@ -13,18 +13,26 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Range;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.ovsdb.lib.error.ColumnSchemaNotFoundException;
 import org.opendaylight.ovsdb.lib.error.SchemaVersionMismatchException;
 import org.opendaylight.ovsdb.lib.error.TableSchemaNotFoundException;
 import org.opendaylight.ovsdb.lib.error.TyperException;
+import org.opendaylight.ovsdb.lib.error.UnsupportedMethodException;
 import org.opendaylight.ovsdb.lib.notation.Row;
 import org.opendaylight.ovsdb.lib.notation.Version;
 import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
@@ -40,8 +48,17 @@ import org.slf4j.LoggerFactory;
  * <p>Data operations are always invoked in the context of a runtime {@link DatabaseSchema}, i.e. for a particular
  * device or a device function. This class exposes {@link #bindToSchema(TypedDatabaseSchema)}, which will construct an
  * immutable mapping between a Method and its invocation handler.
+ *
+ * <p>If the Class has a generated implementation, see {@link AbstractTypedRow}, that mapping is flattened into an array
+ * indexed by method order. Otherwise rows are exposed through a {@link java.lang.reflect.Proxy}.
  */
 final class MethodDispatch {
+    private static final Logger LOG = LoggerFactory.getLogger(MethodDispatch.class);
+    private static final java.lang.invoke.MethodType CONSTRUCTOR_TYPE = java.lang.invoke.MethodType.methodType(
+        AbstractTypedRow.class, TypedRowBinding.class, Row.class);
+    private static final Comparator<Method> METHOD_ORDER = Comparator.comparing(Method::getName)
+        .thenComparingInt(Method::getParameterCount);
+
     abstract static class Invoker {
 
         abstract Object invokeMethod(Row<GenericTableSchema> row, Object proxy, Object[] args);
@@ -76,10 +93,12 @@ final class MethodDispatch {
 
     abstract static class ColumnInvoker<T> extends TableInvoker {
         private final ColumnSchema<GenericTableSchema, T> columnSchema;
+        private final int ordinal;
 
         ColumnInvoker(final GenericTableSchema tableSchema, final ColumnSchema<GenericTableSchema, T> columnSchema) {
             super(requireNonNull(tableSchema));
             this.columnSchema = columnSchema;
+            ordinal = columnSchema == null ? -1 : tableSchema.getColumnOrdinal(columnSchema.getName());
         }
 
         @Override
@@ -91,6 +110,27 @@ final class MethodDispatch {
             return columnSchema;
         }
 
+        /**
+         * Return the data of this column in a row, if the row uses the layout of the table this invoker is bound to.
+         *
+         * @param row row to access
+         * @return column data, or {@link Row#LAYOUT_MISMATCH} if the row needs to be accessed by column name
+         */
+        final Object dataIn(final @NonNull Row<GenericTableSchema> row) {
+            return ordinal < 0 ? Row.LAYOUT_MISMATCH : row.getData(tableSchema(), ordinal);
+        }
+
+        /**
+         * Set the data of this column in a row, if the row uses the layout of the table this invoker is bound to.
+         *
+         * @param row row to access
+         * @param data column data
+         * @return true if the data has been set, false if the row needs to be accessed by column name
+         */
+        final boolean setDataIn(final @NonNull Row<GenericTableSchema> row, final Object data) {
+            return ordinal >= 0 && row.setData(tableSchema(), ordinal, data);
+        }
+
         @Override
         Object invokeMethod(final Row<GenericTableSchema> row, final Object proxy, final Object[] args) {
             // When the row is null, that might indicate that the user maybe interested
@@ -231,6 +271,9 @@ final class MethodDispatch {
 
     private final @NonNull ImmutableMap<Method, Prototype> prototypes;
     private final @NonNull String tableName;
+    // Constructor of the generated implementation and the methods it implements, in index order
+    private final @Nullable MethodHandle constructor;
+    private final @NonNull ImmutableList<Method> methods;
 
     private MethodDispatch(final Class<?> key) {
         tableName = TypedReflections.getTableName(key);
@@ -243,15 +286,69 @@ final class MethodDispatch {
             }
         }
         prototypes = builder.build();
+
+        constructor = findConstructor(key);
+        methods = constructor == null ? ImmutableList.of() : indexedMethods(key);
     }
 
     static MethodDispatch forTarget(final Class<?> target) {
         return CACHE.getUnchecked(target);
     }
 
-    @NonNull TypedRowInvocationHandler bindToSchema(final TypedDatabaseSchema dbSchema) {
-        return new TypedRowInvocationHandler(tableName,
-            ImmutableMap.copyOf(Maps.transformValues(prototypes, prototype -> prototype.bindTo(dbSchema))));
+    @NonNull TypedRowFactory bindToSchema(final TypedDatabaseSchema dbSchema) {
+        final ImmutableMap<Method, Invoker> invokers =
+            ImmutableMap.copyOf(Maps.transformValues(prototypes, prototype -> prototype.bindTo(dbSchema)));
+        if (constructor == null) {
+            return new TypedRowInvocationHandler(tableName, invokers);
+        }
+
+        final Invoker[] indexed = new Invoker[methods.size()];
+        for (int i = 0; i < indexed.length; ++i) {
+            final Method method = methods.get(i);
+            final Invoker invoker = invokers.get(method);
+            indexed[i] = invoker != null ? invoker : new FailedInvoker() {
+                @Override
+                RuntimeException newException() {
+                    return new UnsupportedMethodException("Method not supported " + method.toString());
+                }
+            };
+        }
+        return new TypedRowBinding(tableName, constructor, indexed);
+    }
+
+    private static @Nullable MethodHandle findConstructor(final Class<?> key) {
+        final String implName = key.getName() + AbstractTypedRow.IMPLEMENTATION_SUFFIX;
+        final Class<?> impl;
+        try {
+            impl = Class.forName(implName, true, key.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            LOG.debug("No generated implementation of {}, falling back to a proxy", key, e);
+            return null;
+        }
+        if (!key.isAssignableFrom(impl) || !AbstractTypedRow.class.isAssignableFrom(impl)) {
+            LOG.warn("Ignoring {}, as it is not a generated implementation of {}", impl, key);
+            return null;
+        }
+
+        try {
+            return MethodHandles.publicLookup().findConstructor(impl, CONSTRUCTOR_TYPE.changeReturnType(void.class))
+                .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            LOG.warn("Cannot access constructor of {}, falling back to a proxy", impl, e);
+            return null;
+        }
+    }
+
+    private static @NonNull ImmutableList<Method> indexedMethods(final Class<?> key) {
+        // An interface may see the same method through multiple superinterfaces, use the most specific declaration
+        final Map<String, Method> unique = new LinkedHashMap<>();
+        for (Method method : key.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers())) {
+                unique.merge(method.getName() + '/' + method.getParameterCount(), method,
+                    (prev, next) -> prev.getDeclaringClass().isAssignableFrom(next.getDeclaringClass()) ? next : prev);
+            }
+        }
+        return unique.values().stream().sorted(METHOD_ORDER).collect(ImmutableList.toImmutableList());
     }
 
     private static @Nullable Prototype prototypeFor(final String tableName, final Method method) {
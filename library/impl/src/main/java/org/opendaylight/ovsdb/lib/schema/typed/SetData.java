@@ -34,7 +34,9 @@ final class SetData<T> extends MethodDispatch.ColumnPrototype<T> {
 
         @Override
         Object invokeRowMethod(final Row<GenericTableSchema> row, final Object proxy, final Object[] args) {
-            row.addColumn(columnName, new Column<>(columnSchema(), (T) args[0]));
+            if (!setDataIn(row, args[0])) {
+                row.addColumn(columnName, new Column<>(columnSchema(), (T) args[0]));
+            }
             return proxy;
         }
     }
@@ -83,7 +83,8 @@ public interface TypedDatabaseSchema extends DatabaseSchema {
      *
      * @param klazz Class for row type to be extracted
      * @param updates TableUpdates from which to extract rowUpdates
-     * @return Map&lt;UUID,T&gt; for the type of things being sought
+     * @return Map&lt;UUID,T&gt; for the type of things being sought. The map is unmodifiable and shared by all
+     *         extractions from {@code updates}, callers wishing to modify it need to make a copy first.
      */
     <T extends TypedBaseTable<?>> Map<UUID, T> extractRowsOld(Class<T> klazz, TableUpdates updates);
 
@@ -97,7 +98,8 @@ public interface TypedDatabaseSchema extends DatabaseSchema {
      *
      * @param klazz Class for row type to be extracted
      * @param updates TableUpdates from which to extract rowUpdates
-     * @return Map&lt;UUID,T&gt; for the type of things being sought
+     * @return Map&lt;UUID,T&gt; for the type of things being sought. The map is unmodifiable and shared by all
+     *         extractions from {@code updates}, callers wishing to modify it need to make a copy first.
      */
     <T extends TypedBaseTable<?>> Map<UUID,T> extractRowsRemoved(Class<T> klazz, TableUpdates updates);
 
@@ -111,7 +113,8 @@ public interface TypedDatabaseSchema extends DatabaseSchema {
      *
      * @param klazz Class for row type to be extracted
      * @param updates TableUpdates from which to extract rowUpdates
-     * @return Map&lt;UUID,T&gt; for the type of things being sought
+     * @return Map&lt;UUID,T&gt; for the type of things being sought. The map is unmodifiable and shared by all
+     *         extractions from {@code updates}, callers wishing to modify it need to make a copy first.
      */
     <T extends TypedBaseTable<?>> Map<UUID, T> extractRowsUpdated(Class<T> klazz, TableUpdates updates);
 }
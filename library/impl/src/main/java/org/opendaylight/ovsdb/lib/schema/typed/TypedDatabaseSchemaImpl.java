@@ -9,12 +9,15 @@ package org.opendaylight.ovsdb.lib.schema.typed;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
-import com.google.common.reflect.Reflection;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.ovsdb.lib.message.TableUpdate;
 import org.opendaylight.ovsdb.lib.message.TableUpdate.RowUpdate;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
@@ -25,14 +28,53 @@ import org.opendaylight.ovsdb.lib.schema.ForwardingDatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 
 final class TypedDatabaseSchemaImpl extends ForwardingDatabaseSchema implements TypedDatabaseSchema {
-    private final LoadingCache<Class<?>, TypedRowInvocationHandler> handlers = CacheBuilder.newBuilder()
-            .weakKeys().weakValues().build(new CacheLoader<Class<?>, TypedRowInvocationHandler>() {
+    /**
+     * Typed rows of a single table update, partitioned into updated, old and removed rows. Old and removed rows share
+     * their typed wrappers. The maps are handed out as they are, hence they are unmodifiable.
+     */
+    private final class DecodedRows<T extends TypedBaseTable<?>> {
+        final Map<UUID, T> updated;
+        final Map<UUID, T> old;
+        final Map<UUID, T> removed;
+
+        DecodedRows(final Class<T> klazz, final Collection<RowUpdate<GenericTableSchema>> rowUpdates) {
+            final Map<UUID, T> updated = new HashMap<>();
+            final Map<UUID, T> old = new HashMap<>();
+            final Map<UUID, T> removed = new HashMap<>();
+            for (RowUpdate<GenericTableSchema> rowUpdate : rowUpdates) {
+                if (rowUpdate == null) {
+                    continue;
+                }
+                final Row<GenericTableSchema> newRow = rowUpdate.getNew();
+                if (newRow != null) {
+                    updated.put(rowUpdate.getUuid(), getTypedRowWrapper(klazz, newRow));
+                }
+                final Row<GenericTableSchema> oldRow = rowUpdate.getOld();
+                if (oldRow != null) {
+                    final T wrapper = getTypedRowWrapper(klazz, oldRow);
+                    old.put(rowUpdate.getUuid(), wrapper);
+                    if (newRow == null) {
+                        removed.put(rowUpdate.getUuid(), wrapper);
+                    }
+                }
+            }
+            this.updated = Collections.unmodifiableMap(updated);
+            this.old = Collections.unmodifiableMap(old);
+            this.removed = Collections.unmodifiableMap(removed);
+        }
+    }
+
+    private final LoadingCache<Class<?>, TypedRowFactory> factories = CacheBuilder.newBuilder()
+            .weakKeys().weakValues().build(new CacheLoader<Class<?>, TypedRowFactory>() {
                 @Override
-                public TypedRowInvocationHandler load(final Class<?> key) {
+                public TypedRowFactory load(final Class<?> key) {
                     return MethodDispatch.forTarget(key).bindToSchema(TypedDatabaseSchemaImpl.this);
                 }
             });
 
+    // Rows decoded from each table update, so that the commands processing an update do not decode it repeatedly
+    private final Cache<TableUpdate<?>, Map<Class<?>, DecodedRows<?>>> decodedUpdates = CacheBuilder.newBuilder()
+            .weakKeys().build();
     private final DatabaseSchema delegate;
 
     TypedDatabaseSchemaImpl(final DatabaseSchema delegate) {
@@ -70,74 +112,50 @@ final class TypedDatabaseSchemaImpl extends ForwardingDatabaseSchema implements
         }
         TyperUtils.checkVersion(getVersion(), TypedReflections.getTableVersionRange(klazz));
 
-        TypedRowInvocationHandler handler = handlers.getUnchecked(klazz);
+        final TypedRowFactory factory = factories.getUnchecked(klazz);
         if (row != null) {
-            row.setTableSchema(getTableSchema(handler.getTableName()));
-            handler = handler.bindToRow(row);
+            row.setTableSchema(getTableSchema(factory.getTableName()));
         }
-        return Reflection.newProxy(klazz, handler);
+        return factory.newRow(klazz, row);
     }
 
     @Override
     public <T extends TypedBaseTable<?>> Map<UUID, T> extractRowsOld(final Class<T> klazz, final TableUpdates updates) {
-        Map<UUID,T> result = new HashMap<>();
-        for (RowUpdate<GenericTableSchema> rowUpdate : extractRowUpdates(klazz, updates).values()) {
-            if (rowUpdate != null && rowUpdate.getOld() != null) {
-                Row<GenericTableSchema> row = rowUpdate.getOld();
-                result.put(rowUpdate.getUuid(), getTypedRowWrapper(klazz, row));
-            }
-        }
-        return result;
+        final DecodedRows<T> decoded = decodeRows(klazz, updates);
+        return decoded == null ? Map.of() : decoded.old;
     }
 
     @Override
     public <T extends TypedBaseTable<?>> Map<UUID, T> extractRowsUpdated(final Class<T> klazz,
             final TableUpdates updates) {
-        final Map<UUID, T> result = new HashMap<>();
-        for (RowUpdate<GenericTableSchema> rowUpdate : extractRowUpdates(klazz, updates).values()) {
-            if (rowUpdate != null && rowUpdate.getNew() != null) {
-                result.put(rowUpdate.getUuid(), getTypedRowWrapper(klazz, rowUpdate.getNew()));
-            }
-        }
-        return result;
+        final DecodedRows<T> decoded = decodeRows(klazz, updates);
+        return decoded == null ? Map.of() : decoded.updated;
     }
 
     @Override
     public <T extends TypedBaseTable<?>> Map<UUID, T> extractRowsRemoved(final Class<T> klazz,
             final TableUpdates updates) {
-        final Map<UUID, T> result = new HashMap<>();
-        for (RowUpdate<GenericTableSchema> rowUpdate : extractRowUpdates(klazz, updates).values()) {
-            if (rowUpdate != null && rowUpdate.getNew() == null && rowUpdate.getOld() != null) {
-                result.put(rowUpdate.getUuid(), getTypedRowWrapper(klazz, rowUpdate.getOld()));
-            }
-        }
-        return result;
+        final DecodedRows<T> decoded = decodeRows(klazz, updates);
+        return decoded == null ? Map.of() : decoded.removed;
     }
 
     /**
-     * This method extracts all RowUpdates of Class&lt;T&gt; klazz from a TableUpdates that correspond to rows of type
-     * klazz. Example:
-     * <code>
-     * Map&lt;UUID,TableUpdate&lt;GenericTableSchema&gt;.RowUpdate&lt;GenericTableSchema&gt;&gt; updatedBridges =
-     *     extractRowsUpdates(Bridge.class,updates,dbSchema)
-     * </code>
+     * Return the rows of Class&lt;T&gt; klazz in a TableUpdates, decoded in a single pass on first access and shared
+     * by subsequent extractions from the same update.
      *
      * @param klazz Class for row type to be extracted
-     * @param updates TableUpdates from which to extract rowUpdates
-     * @return Map&lt;UUID,TableUpdate&lt;GenericTableSchema&gt;.RowUpdate&lt;GenericTableSchema&gt;&gt;
-     *     for the type of things being sought
+     * @param updates TableUpdates from which to extract rows
+     * @return decoded rows, or null if there is no update for the table
      */
-    private Map<UUID, RowUpdate<GenericTableSchema>> extractRowUpdates(final Class<?> klazz,
+    @SuppressWarnings("unchecked")
+    private <T extends TypedBaseTable<?>> DecodedRows<T> decodeRows(final Class<T> klazz,
             final TableUpdates updates) {
-        TableUpdate<GenericTableSchema> update = updates.getUpdate(table(TypedReflections.getTableName(klazz),
+        final TableUpdate<GenericTableSchema> update = updates.getUpdate(table(TypedReflections.getTableName(klazz),
             GenericTableSchema.class));
-        Map<UUID, RowUpdate<GenericTableSchema>> result = new HashMap<>();
-        if (update != null) {
-            Map<UUID, RowUpdate<GenericTableSchema>> rows = update.getRows();
-            if (rows != null) {
-                result = rows;
-            }
+        if (update == null || update.getRows() == null) {
+            return null;
         }
-        return result;
+        return (DecodedRows<T>) decodedUpdates.asMap().computeIfAbsent(update, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(klazz, key -> new DecodedRows<>(klazz, update.getRows().values()));
     }
 }
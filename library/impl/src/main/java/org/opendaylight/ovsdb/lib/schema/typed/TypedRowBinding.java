@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Throwables;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.lang.invoke.MethodHandle;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.MethodDispatch.Invoker;
+
+/**
+ * Binding of a generated {@link AbstractTypedRow} subclass to a particular {@link TypedDatabaseSchema}. It holds the
+ * invokers of all methods, indexed in the order defined by {@link MethodDispatch}. This class is public only so that
+ * generated constructors can refer to it.
+ */
+public final class TypedRowBinding implements TypedRowFactory {
+    private final @NonNull String tableName;
+    private final @NonNull MethodHandle constructor;
+    private final Invoker[] invokers;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Invokers are handed over by MethodDispatch")
+    TypedRowBinding(final String tableName, final MethodHandle constructor, final Invoker[] invokers) {
+        this.tableName = requireNonNull(tableName);
+        this.constructor = requireNonNull(constructor);
+        this.invokers = requireNonNull(invokers);
+    }
+
+    @Override
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public <T> T newRow(final Class<T> type, final Row<GenericTableSchema> row) {
+        final AbstractTypedRow ret;
+        try {
+            ret = (AbstractTypedRow) constructor.invokeExact(this, row);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException("Failed to instantiate " + type, e);
+        }
+        return type.cast(ret);
+    }
+
+    Invoker invoker(final int index) {
+        return invokers[index];
+    }
+}
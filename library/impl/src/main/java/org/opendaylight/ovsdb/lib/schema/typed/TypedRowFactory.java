@@ -0,0 +1,24 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+/**
+ * Factory of typed row instances of a particular {@link TypedTable} interface, bound to a {@link TypedDatabaseSchema}.
+ * This is either a {@link TypedRowBinding} of a generated implementation or a {@link TypedRowInvocationHandler}.
+ */
+interface TypedRowFactory {
+
+    @NonNull String getTableName();
+
+    <T> @NonNull T newRow(@NonNull Class<T> type, @Nullable Row<GenericTableSchema> row);
+}
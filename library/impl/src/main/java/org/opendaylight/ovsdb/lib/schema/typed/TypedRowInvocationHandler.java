@@ -10,6 +10,7 @@ package org.opendaylight.ovsdb.lib.schema.typed;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.Reflection;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.Objects;
@@ -24,7 +25,7 @@ import org.opendaylight.ovsdb.lib.schema.typed.MethodDispatch.Invoker;
  * Theory of operation: we have a set of Invoker, which are indexed by method and point to implementations we should
  * be invoking. This mapping is data-invariant, end hence we allow rebiding to a different row (which may not be null).
  */
-final class TypedRowInvocationHandler implements InvocationHandler {
+final class TypedRowInvocationHandler implements InvocationHandler, TypedRowFactory {
 
     private final @NonNull ImmutableMap<Method, Invoker> invokers;
     private final @NonNull String tableName;
@@ -45,10 +46,16 @@ final class TypedRowInvocationHandler implements InvocationHandler {
         return row == newRow ? this : new TypedRowInvocationHandler(tableName, invokers, newRow);
     }
 
-    String getTableName() {
+    @Override
+    public String getTableName() {
         return tableName;
     }
 
+    @Override
+    public <T> T newRow(final Class<T> type, final Row<GenericTableSchema> newRow) {
+        return Reflection.newProxy(type, bindToRow(newRow));
+    }
+
     @Override
     public Object invoke(final Object proxy, final Method method, final Object[] args) {
         final Invoker invoker = invokers.get(method);
@@ -28,7 +28,8 @@ public final class TyperUtils {
             .weakKeys().weakValues().build(new CacheLoader<DatabaseSchema, TypedDatabaseSchema>() {
                 @Override
                 public TypedDatabaseSchema load(final DatabaseSchema key) {
-                    return new TypedDatabaseSchemaImpl(key);
+                    // Shared schemas are already typed, reuse their bindings
+                    return TypedDatabaseSchema.of(key);
                 }
             });
 
@@ -114,7 +115,8 @@ public final class TyperUtils {
      * @param klazz Class for row type to be extracted
      * @param updates TableUpdates from which to extract rowUpdates
      * @param dbSchema Dbschema for the TableUpdates
-     * @return Map&lt;UUID,T&gt; for the type of things being sought
+     * @return Map&lt;UUID,T&gt; for the type of things being sought. The map is unmodifiable and shared by all
+     *         extractions from {@code updates}, callers wishing to modify it need to make a copy first.
      */
     public static <T extends TypedBaseTable<?>> Map<UUID,T> extractRowsUpdated(final Class<T> klazz,
             final TableUpdates updates, final DatabaseSchema dbSchema) {
@@ -132,7 +134,8 @@ public final class TyperUtils {
      * @param klazz Class for row type to be extracted
      * @param updates TableUpdates from which to extract rowUpdates
      * @param dbSchema Dbschema for the TableUpdates
-     * @return Map&lt;UUID,T&gt; for the type of things being sought
+     * @return Map&lt;UUID,T&gt; for the type of things being sought. The map is unmodifiable and shared by all
+     *         extractions from {@code updates}, callers wishing to modify it need to make a copy first.
      */
     public static <T extends TypedBaseTable<?>> Map<UUID, T> extractRowsOld(final Class<T> klazz,
             final TableUpdates updates, final DatabaseSchema dbSchema) {
@@ -150,14 +153,15 @@ public final class TyperUtils {
      * @param klazz Class for row type to be extracted
      * @param updates TableUpdates from which to extract rowUpdates
      * @param dbSchema Dbschema for the TableUpdates
-     * @return Map&lt;UUID,T&gt; for the type of things being sought
+     * @return Map&lt;UUID,T&gt; for the type of things being sought. The map is unmodifiable and shared by all
+     *         extractions from {@code updates}, callers wishing to modify it need to make a copy first.
      */
     public static <T extends TypedBaseTable<?>> Map<UUID,T> extractRowsRemoved(final Class<T> klazz,
             final TableUpdates updates, final DatabaseSchema dbSchema) {
         return getTyped(dbSchema).extractRowsRemoved(klazz, updates);
     }
 
-    private static TypedDatabaseSchema getTyped(final DatabaseSchema dbSchema) {
+    static TypedDatabaseSchema getTyped(final DatabaseSchema dbSchema) {
         return dbSchema instanceof TypedDatabaseSchema ? (TypedDatabaseSchema) dbSchema
                 : TYPED_CACHE.getUnchecked(dbSchema);
     }
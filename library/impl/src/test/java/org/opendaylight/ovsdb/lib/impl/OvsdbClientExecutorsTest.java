@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.impl.OvsdbClientExecutors.ConnectionExecutor;
+import org.opendaylight.ovsdb.lib.impl.OvsdbClientExecutors.Model;
+
+public class OvsdbClientExecutorsTest {
+    @Test
+    public void testShared() throws InterruptedException {
+        try (OvsdbClientExecutors executors = new OvsdbClientExecutors(Model.SHARED, 4, 0)) {
+            assertOrderedWithQueueDepth(executors);
+        }
+    }
+
+    @Test
+    public void testVirtual() throws InterruptedException {
+        try (OvsdbClientExecutors executors = new OvsdbClientExecutors(Model.VIRTUAL, 0, 0)) {
+            assertOrderedWithQueueDepth(executors);
+        }
+    }
+
+    @Test
+    public void testReadPaused() throws InterruptedException {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        try (OvsdbClientExecutors executors = new OvsdbClientExecutors(Model.SHARED, 1, 4)) {
+            final ConnectionExecutor executor = executors.newConnectionExecutor(new ReadThrottle(channel));
+            final CountDownLatch blocker = new CountDownLatch(1);
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch done = new CountDownLatch(4);
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            for (int i = 0; i < 3; i++) {
+                executor.execute(done::countDown);
+            }
+            assertFalse(executor.isReadPaused());
+            assertTrue(channel.config().isAutoRead());
+
+            executor.execute(done::countDown);
+            assertTrue(executor.isReadPaused());
+            assertFalse(channel.config().isAutoRead());
+
+            blocker.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertFalse(executor.isReadPaused());
+            assertTrue(channel.config().isAutoRead());
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void testModelOfName() {
+        assertEquals(Model.SHARED, Model.ofName("shared"));
+        assertEquals(Model.VIRTUAL, Model.ofName(" Virtual "));
+    }
+
+    private static void assertOrderedWithQueueDepth(final OvsdbClientExecutors executors)
+            throws InterruptedException {
+        final ConnectionExecutor executor = executors.newConnectionExecutor();
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(100);
+        final List<Integer> order = new ArrayList<>();
+
+        executor.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        for (int i = 0; i < 100; i++) {
+            final int value = i;
+            executor.execute(() -> {
+                order.add(value);
+                done.countDown();
+            });
+        }
+
+        // The first task may or may not have started yet
+        assertTrue(executor.getQueueDepth() >= 100);
+        assertTrue(executors.getQueueDepth() >= 100);
+        blocker.countDown();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, executor.getQueueDepth());
+        assertEquals(0, executors.getQueueDepth());
+        assertTrue(executors.getPeakQueueDepth() >= 100);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), order.get(i));
+        }
+    }
+}
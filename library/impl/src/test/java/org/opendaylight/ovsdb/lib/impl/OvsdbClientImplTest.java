@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.ovsdb.lib.MonitorCallBack;
+import org.opendaylight.ovsdb.lib.MonitorHandle;
+import org.opendaylight.ovsdb.lib.message.MonitorRequest;
+import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.message.TransactBuilder;
+import org.opendaylight.ovsdb.lib.message.UpdateNotification;
+import org.opendaylight.ovsdb.lib.notation.Condition;
+import org.opendaylight.ovsdb.lib.notation.Function;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.operations.Delete;
+import org.opendaylight.ovsdb.lib.operations.Insert;
+import org.opendaylight.ovsdb.lib.operations.OperationResult;
+import org.opendaylight.ovsdb.lib.operations.TransactionBatchMode;
+import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
+import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+public class OvsdbClientImplTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final UUID BRIDGE = new UUID("00000000-0000-0000-0000-000000000001");
+
+    private final OvsdbRPC rpc = mock(OvsdbRPC.class);
+    private final MonitorCallBack callback = mock(MonitorCallBack.class);
+    private DatabaseSchema dbSchema;
+    private GenericTableSchema bridge;
+    private ColumnSchema<GenericTableSchema, Map<String, String>> externalIds;
+    private OvsdbClientImpl client;
+
+    @Before
+    public void setUp() throws IOException {
+        try (InputStream is = OvsdbClientImplTest.class.getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")) {
+            dbSchema = DatabaseSchema.fromJson("Open_vSwitch", MAPPER.readTree(is).get("result"));
+        }
+        bridge = dbSchema.table("Bridge", GenericTableSchema.class);
+        externalIds = bridge.multiValuedColumn("external_ids", String.class, String.class);
+        client = new OvsdbClientImpl();
+        client.setRpc(rpc);
+    }
+
+    @Test
+    public void testMonitorCondReportsFullRows() throws IOException {
+        doReturn(Futures.immediateFuture(MAPPER.readTree("""
+            {"Bridge": {"00000000-0000-0000-0000-000000000001": {"initial": {
+              "name": "br-int", "external_ids": ["map", [["a", "1"]]]}}}}""")))
+            .when(rpc).monitor_cond(any());
+
+        final TableUpdate<GenericTableSchema> initial = client.monitorCond(dbSchema,
+            List.of(new MonitorRequest("Bridge")), new MonitorHandle("handle"), callback).getUpdate(bridge);
+        assertNull(initial.getOld(BRIDGE));
+        assertEquals(Map.of("a", "1"), initial.getNew(BRIDGE).getColumn(externalIds).getData());
+
+        final ArgumentCaptor<OvsdbRPC.Callback> rpcCallback = ArgumentCaptor.forClass(OvsdbRPC.Callback.class);
+        verify(rpc).registerCallback(rpcCallback.capture());
+        rpcCallback.getValue().update2(null, notification("""
+            {"Bridge": {"00000000-0000-0000-0000-000000000001": {"modify": {
+              "external_ids": ["map", [["b", "2"]]]}}}}"""));
+
+        final ArgumentCaptor<TableUpdates> updates = ArgumentCaptor.forClass(TableUpdates.class);
+        verify(callback).update(updates.capture(), eq(dbSchema));
+        final TableUpdate<GenericTableSchema> modified = updates.getValue().getUpdate(bridge);
+        assertEquals("br-int", modified.getNew(BRIDGE).getColumn(bridge.column("name", String.class)).getData());
+        assertEquals(Map.of("a", "1", "b", "2"), modified.getNew(BRIDGE).getColumn(externalIds).getData());
+        assertEquals(1, modified.getOld(BRIDGE).getColumns().size());
+        assertEquals(Map.of("a", "1"), modified.getOld(BRIDGE).getColumn(externalIds).getData());
+    }
+
+    @Test
+    public void testMonitorCondFallsBackToMonitor() throws IOException {
+        doReturn(Futures.immediateFuture(null)).when(rpc).monitor_cond(any());
+        doReturn(Futures.immediateFuture(MAPPER.readTree("""
+            {"Bridge": {"00000000-0000-0000-0000-000000000001": {"new": {"name": "br-int"}}}}""")))
+            .when(rpc).monitor(any());
+
+        final TableUpdates initial = client.monitorCond(dbSchema, List.of(new MonitorRequest("Bridge")),
+            new MonitorHandle("handle"), callback);
+        verify(rpc).monitor(any());
+        assertEquals("br-int", initial.getUpdate(bridge).getNew(BRIDGE)
+            .getColumn(bridge.column("name", String.class)).getData());
+    }
+
+    @Test
+    public void testMonitorCondWithConditionsDoesNotFallBack() {
+        doReturn(Futures.immediateFuture(null)).when(rpc).monitor_cond(any());
+
+        final MonitorRequest request = new MonitorRequest("Bridge");
+        request.setWhere(List.of(new Condition("name", Function.EQUALS, "br-int")));
+        assertNull(client.monitorCond(dbSchema, List.of(request), new MonitorHandle("handle"), callback));
+        verify(rpc, never()).monitor(any());
+        verify(rpc, never()).monitor(any(), any());
+    }
+
+    @Test
+    public void testMonitorCondPartialUpdates() throws IOException {
+        final UUID other = new UUID("00000000-0000-0000-0000-000000000002");
+        doReturn(true).when(callback).acceptsPartialUpdates();
+        doAnswer(invocation -> {
+            final Consumer<JsonNode> partial = invocation.getArgument(1);
+            partial.accept(MAPPER.readTree("""
+                {"Bridge": {"00000000-0000-0000-0000-000000000001": {"initial": {"name": "br-int"}}}}"""));
+            return Futures.immediateFuture(MAPPER.readTree("""
+                {"Bridge": {"00000000-0000-0000-0000-000000000002": {"initial": {"name": "br-ex"}}}}"""));
+        }).when(rpc).monitor_cond(any(), any());
+
+        final TableUpdates remaining = client.monitorCond(dbSchema, List.of(new MonitorRequest("Bridge")),
+            new MonitorHandle("handle"), callback);
+        assertEquals(Set.of(other), remaining.getUpdate(bridge).getRows().keySet());
+
+        final ArgumentCaptor<TableUpdates> partial = ArgumentCaptor.forClass(TableUpdates.class);
+        verify(callback).partialUpdate(partial.capture(), eq(dbSchema));
+        assertEquals(Set.of(BRIDGE), partial.getValue().getUpdate(bridge).getRows().keySet());
+        verify(rpc, never()).monitor_cond(any());
+    }
+
+    @Test
+    public void testTransactPacked() throws Exception {
+        doReturn(Futures.immediateFuture(List.of(
+            MAPPER.readTree("{\"uuid\": [\"uuid\", \"00000000-0000-0000-0000-000000000001\"]}"),
+            MAPPER.readTree("{\"error\": \"constraint violation\", \"details\": \"duplicate name\"}"),
+            MAPPER.nullNode(), MAPPER.nullNode()))).when(rpc).transact(any());
+
+        final List<ListenableFuture<List<OperationResult>>> results = client.transact(List.of(
+            new TransactionBuilder(client, dbSchema).add(new Insert<>(bridge).withId("a")),
+            new TransactionBuilder(client, dbSchema).add(new Insert<>(bridge).withId("b")),
+            new TransactionBuilder(client, dbSchema).add(new Insert<>(bridge).withId("c")).add(new Delete<>(bridge))),
+            TransactionBatchMode.PACK);
+
+        final ArgumentCaptor<TransactBuilder> request = ArgumentCaptor.forClass(TransactBuilder.class);
+        verify(rpc).transact(request.capture());
+        assertEquals(4, request.getValue().getRequests().size());
+
+        assertEquals(3, results.size());
+        final List<OperationResult> first = results.get(0).get();
+        assertEquals(2, first.size());
+        assertEquals(BRIDGE, first.get(0).getUuid());
+        assertEquals("constraint violation", first.get(1).getError());
+        final List<OperationResult> second = results.get(1).get();
+        assertEquals(1, second.size());
+        assertEquals("duplicate name", second.get(0).getDetails());
+        final List<OperationResult> third = results.get(2).get();
+        assertEquals(3, third.size());
+        assertEquals("constraint violation", third.get(2).getError());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTransactPackedDuplicateUuidName() {
+        client.transact(List.of(
+            new TransactionBuilder(client, dbSchema).add(new Insert<>(bridge).withId("a")),
+            new TransactionBuilder(client, dbSchema).add(new Insert<>(bridge).withId("a"))),
+            TransactionBatchMode.PACK);
+    }
+
+    @Test
+    public void testTransactPipelined() throws Exception {
+        doReturn(Futures.immediateFuture(List.of(MAPPER.readTree("{\"count\": 1}")))).when(rpc).transact(any());
+
+        final List<ListenableFuture<List<OperationResult>>> results = client.transact(List.of(
+            new TransactionBuilder(client, dbSchema).add(new Delete<>(bridge)),
+            new TransactionBuilder(client, dbSchema).add(new Delete<>(bridge))),
+            TransactionBatchMode.PIPELINE);
+
+        verify(rpc, times(2)).transact(any());
+        assertEquals(2, results.size());
+        assertEquals(1, results.get(1).get().get(0).getCount());
+    }
+
+    @Test
+    public void testReadingWithoutChannel() {
+        // The test constructor has no channel to throttle
+        client.suspendReading();
+        client.resumeReading();
+    }
+
+    private static UpdateNotification notification(final String updates) throws IOException {
+        final JsonNode json = MAPPER.readTree(updates);
+        final UpdateNotification ret = new UpdateNotification();
+        ret.setContext("handle");
+        ret.setUpdates(json);
+        return ret;
+    }
+}
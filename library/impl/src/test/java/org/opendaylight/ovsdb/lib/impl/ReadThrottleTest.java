@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.VerifyException;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Test;
+
+public class ReadThrottleTest {
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private final ReadThrottle throttle = new ReadThrottle(channel);
+
+    @After
+    public void after() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testNested() {
+        throttle.suspend();
+        throttle.suspend();
+        assertTrue(throttle.isSuspended());
+        assertFalse(channel.config().isAutoRead());
+
+        throttle.resume();
+        assertFalse(channel.config().isAutoRead());
+        throttle.resume();
+        assertFalse(throttle.isSuspended());
+        assertTrue(channel.config().isAutoRead());
+    }
+
+    @Test(expected = VerifyException.class)
+    public void testUnbalanced() {
+        throttle.resume();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.ReferenceCountUtil;
+import java.net.InetAddress;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the effect of {@link FlushConsolidationHandler} on a burst of pipelined JSON RPC messages sent over a
+ * loopback TCP connection, each written with {@code writeAndFlush()} as {@link JsonRpcEndpoint} does. The
+ * {@code flushes} counter reports how many flushes reach the transport, each of which is a socket write (and would be
+ * a TLS record on an SSL channel). Run with
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main FlushConsolidationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlushConsolidationBenchmark {
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long flushes;
+        public long messages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            flushes = 0;
+            messages = 0;
+        }
+    }
+
+    @Sharable
+    private static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+        // Updated on the event loop, read after synchronizing with it
+        volatile long flushes;
+
+        @Override
+        public void flush(final ChannelHandlerContext ctx) {
+            flushes++;
+            ctx.flush();
+        }
+    }
+
+    /**
+     * Flush consolidation limit, 0 meaning no consolidation.
+     */
+    @Param({ "0", "256" })
+    public int consolidationLimit;
+
+    @Param({ "1", "32", "256" })
+    public int burst;
+
+    private EventLoopGroup group;
+    private Channel ch;
+    private FlushCounter counter;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        group = new NioEventLoopGroup(2);
+        final Channel server = new ServerBootstrap().group(group).channel(NioServerSocketChannel.class)
+            .childHandler(new ChannelInboundHandlerAdapter() {
+                @Override
+                public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                    ReferenceCountUtil.release(msg);
+                }
+            })
+            .bind(InetAddress.getLoopbackAddress(), 0).sync().channel();
+
+        counter = new FlushCounter();
+        ch = new Bootstrap().group(group).channel(NioSocketChannel.class)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .handler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(final SocketChannel channel) {
+                    channel.pipeline().addLast(counter);
+                    if (consolidationLimit > 0) {
+                        channel.pipeline().addLast(new FlushConsolidationHandler(consolidationLimit, true));
+                    }
+                    channel.pipeline().addLast(new JsonRpcEncoder());
+                }
+            })
+            .connect(server.localAddress()).sync().channel();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        ch.close().sync();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    public void pipelinedWrites(final Counters counters) throws InterruptedException, ExecutionException {
+        final long flushesBefore = counter.flushes;
+        // Issue the whole burst from a single event loop task, as JsonRpcEndpoint does when answering a batch of
+        // requests received in one read, and wait for the last message to hit the socket
+        final ChannelFuture last = ch.eventLoop().submit(() -> {
+            ChannelFuture future = null;
+            for (int i = 0; i < burst; i++) {
+                final JsonRpc10Request request = new JsonRpc10Request(i);
+                request.setMethod("echo");
+                future = ch.writeAndFlush(request);
+            }
+            return future;
+        }).get();
+        last.sync();
+
+        counters.flushes += counter.flushes - flushesBefore;
+        counters.messages += burst;
+    }
+}
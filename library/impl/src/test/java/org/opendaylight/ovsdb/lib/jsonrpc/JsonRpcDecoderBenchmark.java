@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link JsonRpcDecoder} and {@link NonBlockingJsonRpcDecoder} on a synthetic monitor reply, delivered in
+ * socket-read sized chunks. Run with {@code java -cp <test classpath> org.openjdk.jmh.Main JsonRpcDecoderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonRpcDecoderBenchmark {
+    @Param({ "100", "10000" })
+    public int rows;
+
+    @Param({ "1500", "65536" })
+    public int chunkSize;
+
+    private byte[] message;
+
+    @Setup
+    public void setup() {
+        final StringBuilder sb = new StringBuilder("{\"id\":\"1\",\"error\":null,\"result\":{\"Interface\":{");
+        for (int i = 0; i < rows; i++) {
+            if (i != 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(String.format("%08x-0000-0000-0000-%012x", i, i)).append("\":{\"new\":{")
+                .append("\"name\":\"tap").append(i).append("\",\"ofport\":").append(i)
+                .append(",\"admin_state\":\"up\",\"link_speed\":10000000000")
+                .append(",\"external_ids\":[\"map\",[[\"iface-id\",\"port-").append(i).append("\"]]]")
+                .append(",\"statistics\":[\"map\",[[\"rx_bytes\",").append(i * 1000L)
+                .append("],[\"tx_bytes\",").append(i * 2000L).append("]]]}}");
+        }
+        message = sb.append("}}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void framingDecoder(final Blackhole bh) {
+        decode(new JsonRpcDecoder(Integer.MAX_VALUE), bh);
+    }
+
+    @Benchmark
+    public void nonBlockingDecoder(final Blackhole bh) {
+        decode(new NonBlockingJsonRpcDecoder(Integer.MAX_VALUE), bh);
+    }
+
+    private void decode(final ByteToMessageDecoder decoder, final Blackhole bh) {
+        final EmbeddedChannel ch = new EmbeddedChannel(decoder);
+        for (int offset = 0; offset < message.length; offset += chunkSize) {
+            ch.writeInbound(Unpooled.wrappedBuffer(message, offset, Math.min(chunkSize, message.length - offset)));
+        }
+        for (Object msg = ch.readInbound(); msg != null; msg = ch.readInbound()) {
+            bh.consume(msg);
+        }
+        ch.finishAndReleaseAll();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonRpcEncoderTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private EmbeddedChannel ch;
+
+    @Before
+    public void setUp() {
+        ch = new EmbeddedChannel(new JsonRpcEncoder());
+    }
+
+    @After
+    public void tearDown() {
+        ch.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testEncodeRequest() throws IOException {
+        final JsonRpc10Request request = new JsonRpc10Request(42);
+        request.setMethod("transact");
+        request.setParams(List.of("Open_vSwitch", "éè"));
+
+        assertTrue(ch.writeOutbound(request));
+        assertEquals(MAPPER.readTree("{\"id\":42,\"method\":\"transact\",\"params\":[\"Open_vSwitch\",\"éè\"]}"),
+            readOutbound());
+    }
+
+    @Test
+    public void testEncodeResponseOmitsNullError() throws IOException {
+        assertTrue(ch.writeOutbound(new JsonRpc10Response("echo")));
+        assertEquals(MAPPER.readTree("{\"id\":\"echo\",\"result\":[]}"), readOutbound());
+    }
+
+    @Test
+    public void testPassThrough() {
+        final Object msg = new Object();
+        assertTrue(ch.writeOutbound(msg));
+        assertSame(msg, ch.readOutbound());
+        assertFalse(ch.outboundMessages().iterator().hasNext());
+    }
+
+    private JsonNode readOutbound() throws IOException {
+        final ByteBuf buf = ch.readOutbound();
+        try (ByteBufInputStream is = new ByteBufInputStream(buf, true)) {
+            return MAPPER.readTree(is);
+        }
+    }
+}
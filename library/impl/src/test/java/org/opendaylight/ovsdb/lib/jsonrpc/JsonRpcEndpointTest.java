@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.ovsdb.lib.message.MonitorRequest;
+import org.opendaylight.ovsdb.lib.message.OvsdbRPC.Callback;
+import org.opendaylight.ovsdb.lib.message.UpdateNotification;
+import org.opendaylight.ovsdb.lib.notation.Condition;
+import org.opendaylight.ovsdb.lib.notation.Function;
+
+public class JsonRpcEndpointTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long TIMEOUT_MILLIS = 500;
+
+    private EmbeddedChannel ch;
+    private JsonRpcEndpoint endpoint;
+
+    @Before
+    public void setUp() {
+        ch = new EmbeddedChannel();
+        endpoint = new JsonRpcEndpoint(ch, TIMEOUT_MILLIS);
+        ch.pipeline().addLast(endpoint);
+    }
+
+    @After
+    public void tearDown() {
+        ch.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testResponseCancelsDeadline() throws Exception {
+        final ListenableFuture<List<String>> future = endpoint.echo();
+        assertEquals(1, endpoint.getOutstandingCalls());
+
+        final JsonRpc10Request request = ch.readOutbound();
+        ch.writeInbound(MAPPER.readTree("{\"id\":" + request.getId() + ",\"error\":null,\"result\":[]}"));
+
+        assertTrue(future.isDone());
+        assertEquals(List.of(), future.get());
+        assertEquals(0, endpoint.getOutstandingCalls());
+
+        ch.advanceTimeBy(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        ch.runScheduledPendingTasks();
+        assertEquals(0, endpoint.getExpiredCalls());
+    }
+
+    @Test
+    public void testTextualResponseId() throws Exception {
+        final ListenableFuture<List<String>> first = endpoint.echo();
+        final ListenableFuture<List<String>> second = endpoint.echo();
+        final JsonRpc10Request firstRequest = ch.readOutbound();
+        final JsonRpc10Request secondRequest = ch.readOutbound();
+        assertEquals(firstRequest.getId() + 1, secondRequest.getId());
+
+        ch.writeInbound(MAPPER.readTree("{\"id\":\"" + secondRequest.getId() + "\",\"error\":null,\"result\":[]}"));
+        assertFalse(first.isDone());
+        assertTrue(second.isDone());
+        assertEquals(1, endpoint.getOutstandingCalls());
+    }
+
+    @Test
+    public void testMonitorCondRequest() throws Exception {
+        final MonitorRequest request = new MonitorRequest("Bridge", Set.of("name"));
+        request.setWhere(List.of(new Condition("name", Function.EQUALS, "br-int")));
+        endpoint.monitor_cond(() -> List.of("Open_vSwitch", "handle", Map.of("Bridge", request)));
+
+        final JsonRpc10Request sent = ch.readOutbound();
+        assertEquals("monitor_cond", sent.getMethod());
+        assertEquals(MAPPER.readTree("""
+            ["Open_vSwitch", "handle", {"Bridge": {"columns": ["name"], "where": [["name", "==", "br-int"]]}}]"""),
+            MAPPER.valueToTree(sent.getParams()));
+    }
+
+    @Test
+    public void testUpdate2Notification() throws Exception {
+        final Callback callback = mock(Callback.class);
+        endpoint.registerCallback(callback);
+        ch.writeInbound(MAPPER.readTree("""
+            {"id": null, "method": "update2", "params": ["handle", {"Bridge": {}}]}"""));
+
+        final ArgumentCaptor<UpdateNotification> captor = ArgumentCaptor.forClass(UpdateNotification.class);
+        verify(callback).update2(eq(ch), captor.capture());
+        verify(callback, never()).update(any(), any());
+        assertEquals("handle", captor.getValue().getContext());
+        assertEquals(MAPPER.readTree("{\"Bridge\": {}}"), captor.getValue().getUpdates());
+    }
+
+    @Test
+    public void testUpdate3Notification() throws Exception {
+        final Callback callback = mock(Callback.class);
+        endpoint.registerCallback(callback);
+        ch.writeInbound(MAPPER.readTree("""
+            {"id": null, "method": "update3", "params": ["handle", "txn-1", {"Bridge": {}}]}"""));
+
+        final ArgumentCaptor<UpdateNotification> captor = ArgumentCaptor.forClass(UpdateNotification.class);
+        verify(callback).update3(eq(ch), captor.capture());
+        assertEquals("handle", captor.getValue().getContext());
+        assertEquals("txn-1", captor.getValue().getLastTransactionId());
+        assertEquals(MAPPER.readTree("{\"Bridge\": {}}"), captor.getValue().getUpdates());
+    }
+
+    @Test
+    public void testDeadlineExpiresCall() {
+        final ListenableFuture<List<String>> future = endpoint.echo();
+        ch.advanceTimeBy(TIMEOUT_MILLIS / 2, TimeUnit.MILLISECONDS);
+        ch.runScheduledPendingTasks();
+        assertFalse(future.isDone());
+
+        ch.advanceTimeBy(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        ch.runScheduledPendingTasks();
+        assertTrue(future.isCancelled());
+        assertEquals(0, endpoint.getOutstandingCalls());
+        assertEquals(1, endpoint.getExpiredCalls());
+    }
+}
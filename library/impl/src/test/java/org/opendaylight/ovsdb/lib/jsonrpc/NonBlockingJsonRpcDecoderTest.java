@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static io.netty.buffer.Unpooled.copiedBuffer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NonBlockingJsonRpcDecoderTest {
+    private static final String PREAMBLE = "                    ";
+    private static final String PARTIAL_START = "{\"foo\":";
+    private static final String PARTIAL_END = "{\"bar\":\"baz\"}}";
+
+    private NonBlockingJsonRpcDecoder decoder;
+    private EmbeddedChannel ch;
+    private String testJson;
+    private String prettyTestJson;
+
+    @Before
+    public void setUp() throws Exception {
+        decoder = new NonBlockingJsonRpcDecoder(1000);
+        ch = new EmbeddedChannel(decoder);
+
+        testJson = Resources.toString(Resources.getResource(JsonRpcDecoderTest.class, "test.json"),
+            StandardCharsets.UTF_8);
+        prettyTestJson = Resources.toString(Resources.getResource(JsonRpcDecoderTest.class, "pretty-test.json"),
+            StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDecode() {
+        for (int i = 0; i < 10; i++) {
+            ch.writeInbound(copiedBuffer(testJson, StandardCharsets.UTF_8));
+        }
+        assertEquals(10, decoder.getRecordsRead());
+        ch.finish();
+    }
+
+    @Test
+    public void testDecodePrettyJson() {
+        ch.writeInbound(copiedBuffer(prettyTestJson, StandardCharsets.UTF_8));
+        assertEquals(1, decoder.getRecordsRead());
+        ch.finish();
+    }
+
+    @Test
+    public void testDecodeSkipSpaces() {
+        ch.writeInbound(copiedBuffer(PREAMBLE + testJson + PREAMBLE + testJson, StandardCharsets.UTF_8));
+        assertEquals(2, decoder.getRecordsRead());
+        ch.finish();
+    }
+
+    @Test
+    public void testDecodePartial() {
+        ch.writeInbound(copiedBuffer(PARTIAL_START, StandardCharsets.UTF_8));
+        assertNull(ch.readInbound());
+        ch.writeInbound(copiedBuffer(PARTIAL_END, StandardCharsets.UTF_8));
+        assertEquals(1, decoder.getRecordsRead());
+        ch.finish();
+    }
+
+    /**
+     * Feed the message one byte at a time and verify the result is the same tree as produced by a blocking parse.
+     */
+    @Test
+    public void testDecodeByteByByte() throws Exception {
+        final byte[] bytes = prettyTestJson.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            ch.writeInbound(copiedBuffer(new byte[] { b }));
+        }
+
+        final JsonNode decoded = ch.readInbound();
+        assertEquals(new ObjectMapper().readTree(bytes), decoded);
+        assertNull(ch.readInbound());
+        ch.finish();
+    }
+
+    @Test
+    public void testSplitResult() throws Exception {
+        final NonBlockingJsonRpcDecoder splitting = new NonBlockingJsonRpcDecoder(1000, 2);
+        splitting.setPartialResultFilter(requestId -> requestId == 5);
+        final EmbeddedChannel channel = new EmbeddedChannel(splitting);
+        final ObjectMapper mapper = new ObjectMapper();
+
+        // Not accepted by the filter
+        channel.writeInbound(copiedBuffer("{\"id\":4,\"result\":{\"T\":{\"a\":{},\"b\":{},\"c\":{}}}}",
+            StandardCharsets.UTF_8));
+        assertEquals(mapper.readTree("{\"id\":4,\"result\":{\"T\":{\"a\":{},\"b\":{},\"c\":{}}}}"),
+            channel.readInbound());
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(copiedBuffer("{\"id\":5,\"result\":{\"T\":{\"a\":{\"new\":{\"x\":[1]}},"
+            + "\"b\":{}},\"U\":{\"c\":{},\"d\":{},\"e\":{}}},\"error\":null}", StandardCharsets.UTF_8));
+        assertEquals(new JsonRpcPartialResult(5, mapper.readTree("{\"T\":{\"a\":{\"new\":{\"x\":[1]}},\"b\":{}}}")),
+            channel.readInbound());
+        assertEquals(new JsonRpcPartialResult(5, mapper.readTree("{\"U\":{\"c\":{},\"d\":{}}}")),
+            channel.readInbound());
+        assertEquals(mapper.readTree("{\"id\":5,\"result\":{\"T\":{},\"U\":{\"e\":{}}},\"error\":null}"),
+            channel.readInbound());
+        assertNull(channel.readInbound());
+        channel.finish();
+    }
+
+    @Test
+    public void testSplitMonitorCondSinceResult() throws Exception {
+        final NonBlockingJsonRpcDecoder splitting = new NonBlockingJsonRpcDecoder(1000, 1);
+        splitting.setPartialResultFilter(requestId -> true);
+        final EmbeddedChannel channel = new EmbeddedChannel(splitting);
+        final ObjectMapper mapper = new ObjectMapper();
+
+        channel.writeInbound(copiedBuffer("{\"id\":\"7\",\"result\":[false,\"txn\",{\"T\":{\"a\":{},\"b\":{}}}]}",
+            StandardCharsets.UTF_8));
+        assertEquals(new JsonRpcPartialResult(7, mapper.readTree("[false,\"txn\",{\"T\":{\"a\":{}}}]")),
+            channel.readInbound());
+        assertEquals(new JsonRpcPartialResult(7, mapper.readTree("[false,\"txn\",{\"T\":{\"b\":{}}}]")),
+            channel.readInbound());
+        final JsonNode last = channel.readInbound();
+        assertTrue(last.get("result").get(2).get("T").isEmpty());
+        channel.finish();
+    }
+
+    @Test(expected = DecoderException.class)
+    public void testDecodeInvalidEncoding() {
+        ch.writeInbound(copiedBuffer(testJson, StandardCharsets.UTF_16));
+        ch.finish();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.notation.Column;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+public class TableUpdatesTest {
+    private static final UUID INSERTED = new UUID("00000000-0000-0000-0000-000000000001");
+    private static final UUID MODIFIED = new UUID("00000000-0000-0000-0000-000000000002");
+    private static final UUID TRANSIENT = new UUID("00000000-0000-0000-0000-000000000003");
+
+    private GenericTableSchema bridge;
+    private ColumnSchema<GenericTableSchema, String> name;
+    private ColumnSchema<GenericTableSchema, String> failMode;
+
+    @Before
+    public void setUp() throws IOException {
+        try (InputStream is = TableUpdatesTest.class.getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")) {
+            bridge = DatabaseSchema.fromJson("Open_vSwitch", new ObjectMapper().readTree(is).get("result"))
+                .table("Bridge", GenericTableSchema.class);
+        }
+        name = bridge.column("name", String.class);
+        failMode = bridge.column("fail_mode", String.class);
+    }
+
+    @Test
+    public void testMerge() {
+        final TableUpdate<GenericTableSchema> first = new TableUpdate<>();
+        first.addRow(INSERTED, null, row("br-int", "secure"));
+        first.addRow(MODIFIED, row(null, "secure"), row("br-ex", "standalone"));
+        first.addRow(TRANSIENT, null, row("br-tmp", "secure"));
+        final TableUpdates updates = new TableUpdates(Map.of("Bridge", first));
+
+        final TableUpdate<GenericTableSchema> second = new TableUpdate<>();
+        second.addRow(INSERTED, row(null, "secure"), row("br-int", "standalone"));
+        second.addRow(MODIFIED, row("br-ex", "standalone"), null);
+        second.addRow(TRANSIENT, row("br-tmp", "secure"), null);
+        final TableUpdates merged = new TableUpdates();
+        merged.merge(updates);
+        merged.merge(new TableUpdates(Map.of("Bridge", second)));
+
+        final TableUpdate<GenericTableSchema> update = merged.getUpdate(bridge);
+        assertEquals(Set.of(INSERTED, MODIFIED), update.getRows().keySet());
+        assertNull(update.getOld(INSERTED));
+        assertEquals("standalone", update.getNew(INSERTED).getColumn(failMode).getData());
+        assertNull(update.getNew(MODIFIED));
+        assertEquals("br-ex", update.getOld(MODIFIED).getColumn(name).getData());
+        assertEquals("secure", update.getOld(MODIFIED).getColumn(failMode).getData());
+
+        // The source updates are left untouched
+        assertEquals(3, first.getRows().size());
+        assertEquals("standalone", first.getNew(MODIFIED).getColumn(failMode).getData());
+    }
+
+    private Row<GenericTableSchema> row(final String nameValue, final String failModeValue) {
+        final Row<GenericTableSchema> row = new Row<>(bridge);
+        if (nameValue != null) {
+            row.addColumn("name", new Column<>(name, nameValue));
+        }
+        row.addColumn("fail_mode", new Column<>(failMode, failModeValue));
+        return row;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.notation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class OvsdbMapTest {
+    @Test
+    public void testBuilder() {
+        final OvsdbMap<String, String> map = OvsdbMap.<String, String>builder()
+            .put("a", "1")
+            .put("b", null)
+            .put("a", "2")
+            .build();
+        assertEquals(Map.of("a", "2"), map);
+        assertThrows(UnsupportedOperationException.class, () -> map.put("c", "3"));
+        assertSame(OvsdbMap.builder().build(), OvsdbMap.builder().put(null, "1").build());
+    }
+
+    @Test
+    public void testFromMap() {
+        final OvsdbMap<String, String> decoded = OvsdbMap.<String, String>builder().put("a", "1").build();
+        assertSame(decoded, OvsdbMap.fromMap(decoded));
+
+        final Map<String, String> value = new HashMap<>(Map.of("a", "1"));
+        final OvsdbMap<String, String> map = OvsdbMap.fromMap(value);
+        assertSame(value, map.delegate());
+        map.put("b", "2");
+        assertEquals(Map.of("a", "1", "b", "2"), value);
+    }
+}
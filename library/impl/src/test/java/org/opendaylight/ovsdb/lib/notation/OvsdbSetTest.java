@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.notation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class OvsdbSetTest {
+    @Test
+    public void testBuilder() {
+        final OvsdbSet<String> set = OvsdbSet.<String>builder().add("a").add(null).add("b").add("a").build();
+        assertEquals(Set.of("a", "b"), set);
+        assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+        assertSame(OvsdbSet.builder().build(), OvsdbSet.builder().add(null).build());
+    }
+
+    @Test
+    public void testFromSet() {
+        final OvsdbSet<String> decoded = OvsdbSet.<String>builder().add("a").build();
+        assertSame(decoded, OvsdbSet.fromSet(decoded));
+
+        final Set<String> value = new HashSet<>(Set.of("a"));
+        final OvsdbSet<String> set = OvsdbSet.fromSet(value);
+        assertSame(value, set.delegate());
+        set.add("b");
+        assertEquals(Set.of("a", "b"), value);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.notation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+public class RowTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private GenericTableSchema bridge;
+    private ColumnSchema<GenericTableSchema, String> name;
+
+    @Before
+    public void setUp() throws IOException {
+        try (InputStream is = RowTest.class.getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")) {
+            bridge = DatabaseSchema.fromJson("Open_vSwitch", MAPPER.readTree(is).get("result"))
+                .table("Bridge", GenericTableSchema.class);
+        }
+        name = bridge.column("name", String.class);
+    }
+
+    @Test
+    public void testColumns() {
+        final Row<GenericTableSchema> row = new Row<>(bridge);
+        row.addColumn("name", new Column<>(name, "br-int"));
+        row.addColumn("datapath_type", new Column<>(bridge.column("datapath_type", String.class), null));
+
+        assertEquals("br-int", row.getColumn(name).getData());
+        assertEquals("br-int", row.getData(bridge.getColumnOrdinal("name")));
+        // A column holding null is present, unlike a column which was never set
+        assertNotNull(row.getColumn(bridge.column("datapath_type", String.class)));
+        assertNull(row.getColumn(bridge.column("fail_mode", String.class)));
+        assertEquals(2, row.getColumns().size());
+        assertEquals(MAPPER.createObjectNode().put("name", "br-int").putNull("datapath_type"),
+            MAPPER.valueToTree(row));
+    }
+
+    @Test
+    public void testSetTableSchema() {
+        final Row<GenericTableSchema> row = new Row<>();
+        row.addColumn("name", new Column<>(name, "br-int"));
+        row.setTableSchema(bridge);
+        assertEquals("br-int", row.getData(bridge.getColumnOrdinal("name")));
+
+        // Switching to an extended schema keeps the data in place
+        final GenericTableSchema extended = bridge.withInternallyGeneratedColumns();
+        final Row<GenericTableSchema> copy = new Row<>(bridge);
+        copy.addColumn("name", new Column<>(name, "br-int"));
+        row.setTableSchema(extended);
+        assertEquals("br-int", row.getData(extended.getColumnOrdinal("name")));
+
+        assertEquals(copy, row);
+        assertEquals(copy.hashCode(), row.hashCode());
+    }
+
+    @Test
+    public void testExpectedSchemaAccess() {
+        final Row<GenericTableSchema> row = new Row<>(bridge);
+        final int ordinal = bridge.getColumnOrdinal("name");
+        assertTrue(row.setData(bridge, ordinal, "br-int"));
+        assertEquals("br-int", row.getData(bridge, ordinal));
+
+        // Once the row is laid out for another schema, the ordinal is no longer trusted
+        final GenericTableSchema extended = bridge.withInternallyGeneratedColumns();
+        row.setTableSchema(extended);
+        assertSame(Row.LAYOUT_MISMATCH, row.getData(bridge, ordinal));
+        assertFalse(row.setData(bridge, ordinal, "br-ex"));
+        assertEquals("br-int", row.getData(extended, extended.getColumnOrdinal("name")));
+    }
+}
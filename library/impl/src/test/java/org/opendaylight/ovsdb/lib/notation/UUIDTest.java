@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.notation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+public class UUIDTest {
+    private static final String VALUE = "0b3f63b2-f3b6-4c0f-9a3c-58e2cbe8a6f1";
+
+    @Test
+    public void testUuid() {
+        final UUID uuid = new UUID(VALUE);
+        final java.util.UUID expected = java.util.UUID.fromString(VALUE);
+        assertFalse(uuid.isNamed());
+        assertEquals(expected.getMostSignificantBits(), uuid.getMostSignificantBits());
+        assertEquals(expected.getLeastSignificantBits(), uuid.getLeastSignificantBits());
+        assertEquals(VALUE, uuid.toString());
+
+        assertEquals(uuid, new UUID(VALUE.toUpperCase()));
+        assertEquals(uuid, UUID.fromChars(("[\"" + VALUE + "\"]").toCharArray(), 2, 36));
+        assertEquals(uuid, new UUID(expected.getMostSignificantBits(), expected.getLeastSignificantBits()));
+        assertEquals(uuid.hashCode(), new UUID(VALUE).hashCode());
+        assertEquals(VALUE, new UUID(VALUE.toUpperCase()).toString());
+    }
+
+    @Test
+    public void testNamedUuid() {
+        final UUID named = new UUID("row_1");
+        assertTrue(named.isNamed());
+        assertEquals("row_1", named.toString());
+        assertEquals(named, UUID.fromChars("row_1".toCharArray(), 0, 5));
+        assertNotEquals(new UUID(0, 0), new UUID(""));
+        // Not canonical, hence named
+        assertTrue(new UUID("0b3f63b2f3b64c0f9a3c58e2cbe8a6f1").isNamed());
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        assertEquals("[\"uuid\",\"" + VALUE + "\"]", mapper.writeValueAsString(new UUID(VALUE)));
+        assertEquals("[\"named-uuid\",\"row_1\"]", mapper.writeValueAsString(new UUID("row_1")));
+    }
+}
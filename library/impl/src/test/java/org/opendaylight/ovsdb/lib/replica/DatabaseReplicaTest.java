@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.replica;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+public class DatabaseReplicaTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final UUID BRIDGE1 = uuid(1);
+    private static final UUID BRIDGE2 = uuid(2);
+    private static final UUID BRIDGE3 = uuid(3);
+
+    private GenericTableSchema bridge;
+    private ColumnSchema<GenericTableSchema, Set<UUID>> ports;
+    private ColumnSchema<GenericTableSchema, Map<String, String>> externalIds;
+    private ColumnSchema<GenericTableSchema, Boolean> stpEnable;
+    private DatabaseReplica replica;
+
+    @Before
+    public void setUp() throws IOException {
+        try (InputStream is = DatabaseReplicaTest.class.getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")) {
+            bridge = DatabaseSchema.fromJson("Open_vSwitch", MAPPER.readTree(is).get("result"))
+                .table("Bridge", GenericTableSchema.class);
+        }
+        ports = bridge.multiValuedColumn("ports", UUID.class);
+        externalIds = bridge.multiValuedColumn("external_ids", String.class, String.class);
+        stpEnable = bridge.column("stp_enable", Boolean.class);
+        replica = new DatabaseReplica("Open_vSwitch");
+    }
+
+    @Test
+    public void testApplyDiffs() throws IOException {
+        replica.applyDiffs(updates2("""
+            {"00000000-0000-0000-0000-000000000001": {"initial": {
+              "name": "br-int",
+              "ports": ["uuid", "00000000-0000-0000-0000-000000000010"],
+              "external_ids": ["map", [["a", "1"], ["b", "2"]]]}}}"""), "txn-1");
+        assertEquals("txn-1", replica.getLastTransactionId());
+        assertEquals(1, replica.size());
+
+        final TableUpdate<GenericTableSchema> modified = replica.applyDiffs(updates2("""
+            {"00000000-0000-0000-0000-000000000001": {"modify": {
+              "ports": ["set", [["uuid", "00000000-0000-0000-0000-000000000010"],
+                                ["uuid", "00000000-0000-0000-0000-000000000011"]]],
+              "external_ids": ["map", [["a", "1"], ["b", "3"], ["c", "4"]]],
+              "stp_enable": true}}}"""), "txn-2").getUpdate(bridge);
+        assertEquals("txn-2", replica.getLastTransactionId());
+
+        final Row<GenericTableSchema> newRow = modified.getNew(BRIDGE1);
+        assertEquals("br-int", newRow.getColumn(bridge.column("name", String.class)).getData());
+        assertEquals(Set.of(uuid(11)), newRow.getColumn(ports).getData());
+        assertEquals(Map.of("b", "3", "c", "4"), newRow.getColumn(externalIds).getData());
+        assertEquals(Boolean.TRUE, newRow.getColumn(stpEnable).getData());
+        assertEquals(newRow, replica.getRow(bridge, BRIDGE1));
+
+        // The old row holds only the changed columns, with their previous values
+        final Row<GenericTableSchema> oldRow = modified.getOld(BRIDGE1);
+        assertEquals(3, oldRow.getColumns().size());
+        assertEquals(Set.of(uuid(10)), oldRow.getColumn(ports).getData());
+        assertEquals(Map.of("a", "1", "b", "2"), oldRow.getColumn(externalIds).getData());
+        assertEquals(Boolean.FALSE, oldRow.getColumn(stpEnable).getData());
+
+        final TableUpdate<GenericTableSchema> deleted = replica.applyDiffs(updates2("""
+            {"00000000-0000-0000-0000-000000000001": {"delete": null}}"""), "txn-3").getUpdate(bridge);
+        assertEquals(newRow, deleted.getOld(BRIDGE1));
+        assertNull(deleted.getNew(BRIDGE1));
+        assertEquals(0, replica.size());
+    }
+
+    @Test
+    public void testResetReportsDifferences() throws IOException {
+        replica.applyDiffs(updates2("""
+            {
+              "00000000-0000-0000-0000-000000000001": {"initial": {"name": "br-int"}},
+              "00000000-0000-0000-0000-000000000002": {"initial": {"name": "br-ex"}}
+            }"""), "txn-1");
+
+        final TableUpdate<GenericTableSchema> update = replica.reset(updates2("""
+            {
+              "00000000-0000-0000-0000-000000000001": {"initial": {"name": "br-int"}},
+              "00000000-0000-0000-0000-000000000003": {"initial": {"name": "br-tun"}}
+            }"""), "txn-9").getUpdate(bridge);
+
+        assertEquals(Set.of(BRIDGE2, BRIDGE3), update.getRows().keySet());
+        assertNull(update.getOld(BRIDGE3));
+        assertEquals("br-tun", update.getNew(BRIDGE3).getColumn(bridge.column("name", String.class)).getData());
+        assertEquals("br-ex", update.getOld(BRIDGE2).getColumn(bridge.column("name", String.class)).getData());
+        assertNull(update.getNew(BRIDGE2));
+
+        assertEquals("txn-9", replica.getLastTransactionId());
+        assertEquals(2, replica.size());
+        assertEquals(2, replica.snapshot().getUpdate(bridge).getRows().size());
+        final TableUpdate<GenericTableSchema> snapshot = replica.snapshot(bridge);
+        assertEquals(Set.of(BRIDGE1, BRIDGE3), snapshot.getRows().keySet());
+        assertNull(snapshot.getOld(BRIDGE1));
+        assertEquals("br-int", snapshot.getNew(BRIDGE1).getColumn(bridge.column("name", String.class)).getData());
+    }
+
+    @Test
+    public void testSelect() throws IOException {
+        replica.applyDiffs(updates2("""
+            {
+              "00000000-0000-0000-0000-000000000001": {"initial": {"name": "br-int"}},
+              "00000000-0000-0000-0000-000000000002": {"initial": {"name": "br-ex", "stp_enable": true}}
+            }"""), "txn-1");
+        replica.addIndex("Bridge", "name");
+        final ColumnSchema<GenericTableSchema, String> name = bridge.column("name", String.class);
+
+        assertEquals(List.of(replica.getRow(bridge, BRIDGE2)), replica.select(bridge, List.of(name.opEqual("br-ex"))));
+        assertEquals(List.of(replica.getRow(bridge, BRIDGE2)),
+            replica.select(bridge, List.of(stpEnable.opEqual(true))));
+
+        replica.applyDiffs(updates2("""
+            {"00000000-0000-0000-0000-000000000002": {"modify": {"name": "br-tun"}}}"""), "txn-2");
+        assertEquals(List.of(), replica.select(bridge, List.of(name.opEqual("br-ex"))));
+        assertEquals(List.of(replica.getRow(bridge, BRIDGE2)), replica.select(bridge, List.of(name.opEqual("br-tun"))));
+
+        replica.applyDiffs(updates2("""
+            {"00000000-0000-0000-0000-000000000002": {"delete": null}}"""), "txn-3");
+        assertEquals(List.of(), replica.select(bridge, List.of(name.opEqual("br-tun"))));
+        assertEquals(1, replica.getRows(bridge).size());
+    }
+
+    private TableUpdates updates2(final String json) throws IOException {
+        try (JsonParser parser = MAPPER.createParser(json)) {
+            parser.nextToken();
+            return new TableUpdates(Map.of("Bridge", bridge.updates2FromJson(parser, null)));
+        }
+    }
+
+    private static UUID uuid(final int id) {
+        return new UUID(String.format("00000000-0000-0000-0000-%012d", id));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdate.RowUpdate;
+import org.opendaylight.ovsdb.lib.notation.Column;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+
+public class TableSchemaTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private DatabaseSchema dbSchema;
+
+    @Before
+    public void setUp() throws IOException {
+        try (InputStream is = TableSchemaTest.class.getResourceAsStream("test_schema.json")) {
+            dbSchema = DatabaseSchema.fromJson("Open_vSwitch", MAPPER.readTree(is).get("result"))
+                .withInternallyGeneratedColumns();
+        }
+    }
+
+    /**
+     * Verify the streaming decoder produces the same rows as the tree-based one.
+     */
+    @Test
+    public void testStreamingUpdatesMatchTree() throws IOException {
+        for (String resource : new String[] { "monitor_response1.json", "monitor_response_sample.json" }) {
+            final JsonNode updates = readUpdates(resource);
+            for (Iterator<Entry<String, JsonNode>> it = updates.fields(); it.hasNext(); ) {
+                final Entry<String, JsonNode> entry = it.next();
+                final GenericTableSchema table = dbSchema.table(entry.getKey(), GenericTableSchema.class);
+
+                final TableUpdate<GenericTableSchema> expected = table.updatesFromJson(entry.getValue());
+                final TableUpdate<GenericTableSchema> actual;
+                try (JsonParser parser = entry.getValue().traverse()) {
+                    parser.nextToken();
+                    actual = table.updatesFromJson(parser, null);
+                }
+
+                assertEquals(expected.getRows().keySet(), actual.getRows().keySet());
+                for (RowUpdate<GenericTableSchema> row : expected.getRows().values()) {
+                    assertEquals(row.getNew(), actual.getNew(row.getUuid()));
+                    assertEquals(row.getOld(), actual.getOld(row.getUuid()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStreamingUpdatesSkipUnmonitoredColumns() throws IOException {
+        final JsonNode bridges = readUpdates("monitor_response_sample.json").get("Bridge");
+        final GenericTableSchema table = dbSchema.table("Bridge", GenericTableSchema.class);
+
+        final TableUpdate<GenericTableSchema> update;
+        try (JsonParser parser = bridges.traverse()) {
+            parser.nextToken();
+            update = table.updatesFromJson(parser, Set.of("name"));
+        }
+
+        assertFalse(update.getRows().isEmpty());
+        for (RowUpdate<GenericTableSchema> rowUpdate : update.getRows().values()) {
+            final Row<GenericTableSchema> row = rowUpdate.getNew();
+            assertNotNull(row);
+            assertEquals(1, row.getColumns().size());
+            final Column<GenericTableSchema, ?> name = row.getColumns().iterator().next();
+            assertEquals("name", name.getSchema().getName());
+            assertNull(rowUpdate.getOld());
+        }
+    }
+
+    @Test
+    public void testUpdates2() throws IOException {
+        final GenericTableSchema table = dbSchema.table("Bridge", GenericTableSchema.class);
+        final JsonNode json = MAPPER.readTree("""
+            {
+              "00000000-0000-0000-0000-000000000001": {"initial": {"name": "br-int", "stp_enable": false}},
+              "00000000-0000-0000-0000-000000000002": {"insert": {"name": "br-ex"}},
+              "00000000-0000-0000-0000-000000000003": {"modify": {"stp_enable": true, "unknown": 1}},
+              "00000000-0000-0000-0000-000000000004": {"delete": null}
+            }""");
+
+        final TableUpdate<GenericTableSchema> update;
+        try (JsonParser parser = json.traverse()) {
+            parser.nextToken();
+            update = table.updates2FromJson(parser, null);
+        }
+        assertEquals(4, update.getRows().size());
+
+        final RowUpdate<GenericTableSchema> initial = update.getRows().get(uuid(1));
+        assertNull(initial.getOld());
+        assertEquals("br-int", initial.getNew().getColumn(table.column("name", String.class)).getData());
+        // Columns holding their default value are omitted by the server and filled in, except _uuid and _version
+        assertEquals(table.getColumns().size() - 2, initial.getNew().getColumns().size());
+        assertEquals("", initial.getNew().getColumn(table.column("datapath_type", String.class)).getData());
+        assertEquals(Set.of(), initial.getNew().getColumn(table.multiValuedColumn("ports", UUID.class)).getData());
+        assertEquals(Map.of(), initial.getNew().getColumn(
+            table.multiValuedColumn("external_ids", String.class, String.class)).getData());
+
+        final RowUpdate<GenericTableSchema> insert = update.getRows().get(uuid(2));
+        assertNull(insert.getOld());
+        assertEquals("br-ex", insert.getNew().getColumn(table.column("name", String.class)).getData());
+
+        final RowUpdate<GenericTableSchema> modify = update.getRows().get(uuid(3));
+        assertEquals(0, modify.getOld().getColumns().size());
+        assertEquals(1, modify.getNew().getColumns().size());
+        assertEquals(Boolean.TRUE, modify.getNew().getColumn(table.column("stp_enable", Boolean.class)).getData());
+
+        final RowUpdate<GenericTableSchema> delete = update.getRows().get(uuid(4));
+        assertEquals(0, delete.getOld().getColumns().size());
+        assertNull(delete.getNew());
+    }
+
+    private static UUID uuid(final int id) {
+        return new UUID(String.format("00000000-0000-0000-0000-%012d", id));
+    }
+
+    private static JsonNode readUpdates(final String resource) throws IOException {
+        try (InputStream is = TableSchemaTest.class.getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/message/" + resource)) {
+            return MAPPER.readTree(is);
+        }
+    }
+}
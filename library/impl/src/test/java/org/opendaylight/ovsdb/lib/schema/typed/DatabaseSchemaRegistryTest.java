@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+public class DatabaseSchemaRegistryTest {
+    private ObjectNode json;
+
+    @Before
+    public void setUp() throws IOException {
+        try (InputStream is = DatabaseSchemaRegistryTest.class.getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")) {
+            json = (ObjectNode) new ObjectMapper().readTree(is).get("result");
+        }
+    }
+
+    @Test
+    public void testShared() {
+        final TypedDatabaseSchema schema = DatabaseSchemaRegistry.fromJson("Open_vSwitch", json);
+        assertSame(schema, DatabaseSchemaRegistry.fromJson("Open_vSwitch", json.deepCopy()));
+        assertSame(schema, TyperUtils.getTyped(schema));
+        assertTrue(schema.table("Bridge", GenericTableSchema.class).getColumns().contains("_uuid"));
+
+        final ObjectNode modified = json.deepCopy().put("cksum", "1 2");
+        assertNotSame(schema, DatabaseSchemaRegistry.fromJson("Open_vSwitch", modified));
+    }
+
+    @Test
+    public void testNotSharedWithoutChecksum() {
+        json.remove("cksum");
+        assertNotSame(DatabaseSchemaRegistry.fromJson("Open_vSwitch", json),
+            DatabaseSchemaRegistry.fromJson("Open_vSwitch", json));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+/**
+ * Test class for the row extraction of {@link TypedDatabaseSchemaImpl}.
+ */
+public class TypedDatabaseSchemaImplTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final UUID MODIFIED = new UUID("00000000-0000-0000-0000-000000000001");
+    private static final UUID REMOVED = new UUID("00000000-0000-0000-0000-000000000002");
+
+    @TypedTable(name = "Bridge", database = "Open_vSwitch")
+    public interface TestBridge extends TypedBaseTable<GenericTableSchema> {
+        @TypedColumn(name = "name", method = MethodType.GETDATA)
+        String getName();
+    }
+
+    private TypedDatabaseSchema dbSchema;
+    private GenericTableSchema bridge;
+
+    @Before
+    public void setUp() throws IOException {
+        try (InputStream is = TypedDatabaseSchemaImplTest.class.getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")) {
+            dbSchema = TypedDatabaseSchema.of(DatabaseSchema.fromJson("Open_vSwitch",
+                MAPPER.readTree(is).get("result")));
+        }
+        bridge = dbSchema.table("Bridge", GenericTableSchema.class);
+    }
+
+    @Test
+    public void testExtractRows() {
+        final TableUpdates updates = updates();
+
+        final Map<UUID, TestBridge> updated = dbSchema.extractRowsUpdated(TestBridge.class, updates);
+        assertEquals(1, updated.size());
+        assertEquals("br-new", updated.get(MODIFIED).getName());
+
+        final Map<UUID, TestBridge> old = dbSchema.extractRowsOld(TestBridge.class, updates);
+        assertEquals(2, old.size());
+        assertEquals("br-old", old.get(MODIFIED).getName());
+
+        final Map<UUID, TestBridge> removed = dbSchema.extractRowsRemoved(TestBridge.class, updates);
+        assertEquals(1, removed.size());
+        assertEquals("br-gone", removed.get(REMOVED).getName());
+    }
+
+    @Test
+    public void testExtractRowsDecodesOnce() {
+        final TableUpdates updates = updates();
+
+        // Each extraction returns the same view of the decoded rows
+        final Map<UUID, TestBridge> first = dbSchema.extractRowsUpdated(TestBridge.class, updates);
+        assertSame(first, dbSchema.extractRowsUpdated(TestBridge.class, updates));
+        assertSame(dbSchema.extractRowsOld(TestBridge.class, updates).get(REMOVED),
+            dbSchema.extractRowsRemoved(TestBridge.class, updates).get(REMOVED));
+
+        // The views are shared, hence they cannot be modified
+        assertThrows(UnsupportedOperationException.class, first::clear);
+        assertTrue(dbSchema.extractRowsUpdated(TestBridge.class, updates).containsKey(MODIFIED));
+    }
+
+    @Test
+    public void testExtractRowsPerUpdate() {
+        // Rows are cached per update instance, equal updates are decoded separately
+        assertNotSame(dbSchema.extractRowsUpdated(TestBridge.class, updates()).get(MODIFIED),
+            dbSchema.extractRowsUpdated(TestBridge.class, updates()).get(MODIFIED));
+    }
+
+    private TableUpdates updates() {
+        final TableUpdate<GenericTableSchema> update = new TableUpdate<>();
+        update.addRow(MODIFIED, row("br-old"), row("br-new"));
+        update.addRow(REMOVED, row("br-gone"), null);
+        return new TableUpdates(Map.of(bridge.getName(), update));
+    }
+
+    private Row<GenericTableSchema> row(final String name) {
+        final ObjectNode node = MAPPER.createObjectNode();
+        node.put("name", name);
+        return bridge.createRow(node);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema.typed.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import org.opendaylight.ovsdb.lib.schema.typed.AbstractTypedRow;
+import org.opendaylight.ovsdb.lib.schema.typed.TypedBaseTable;
+import org.opendaylight.ovsdb.lib.schema.typed.TypedRowBinding;
+import org.opendaylight.ovsdb.lib.schema.typed.TypedTable;
+
+/**
+ * Annotation processor generating an {@link AbstractTypedRow} implementation for each public top-level interface
+ * annotated with {@link TypedTable} and extending {@link TypedBaseTable}. Other interfaces are served through a proxy
+ * at runtime, as are interfaces which cannot be implemented, for example because they are generic or overload a method
+ * with the same number of parameters. The latter are reported as warnings.
+ */
+@SupportedAnnotationTypes("org.opendaylight.ovsdb.lib.schema.typed.TypedTable")
+public final class TypedTableProcessor extends AbstractProcessor {
+    private static final Comparator<ExecutableElement> METHOD_ORDER =
+        Comparator.<ExecutableElement, String>comparing(method -> method.getSimpleName().toString())
+            .thenComparingInt(method -> method.getParameters().size());
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(TypedTable.class)) {
+            if (element.getKind() == ElementKind.INTERFACE) {
+                final TypeElement type = (TypeElement) element;
+                if (isImplementable(type)) {
+                    generate(type);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isImplementable(final TypeElement type) {
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL || !type.getModifiers().contains(Modifier.PUBLIC)) {
+            // Not accessible from a generated class, silently left to the proxy
+            return false;
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return warn(type, "is generic");
+        }
+        final TypeMirror base = processingEnv.getTypeUtils().erasure(processingEnv.getElementUtils()
+            .getTypeElement(TypedBaseTable.class.getCanonicalName()).asType());
+        if (!processingEnv.getTypeUtils().isAssignable(type.asType(), base)) {
+            return warn(type, "does not extend " + TypedBaseTable.class.getSimpleName());
+        }
+
+        final List<ExecutableElement> methods = methods(type);
+        for (int i = 1; i < methods.size(); ++i) {
+            if (METHOD_ORDER.compare(methods.get(i - 1), methods.get(i)) == 0) {
+                return warn(type, "overloads " + methods.get(i).getSimpleName() + " with the same number of arguments");
+            }
+        }
+        for (ExecutableElement method : methods) {
+            if (!method.getTypeParameters().isEmpty() || method.isVarArgs()) {
+                return warn(type, "has generic or variable-arity method " + method.getSimpleName());
+            }
+        }
+        return true;
+    }
+
+    private boolean warn(final TypeElement type, final String reason) {
+        processingEnv.getMessager().printMessage(Kind.WARNING,
+            "Not generating an implementation of " + type.getQualifiedName() + ", as it " + reason, type);
+        return false;
+    }
+
+    private List<ExecutableElement> methods(final TypeElement type) {
+        final List<ExecutableElement> ret = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                ret.add(method);
+            }
+        }
+        ret.sort(METHOD_ORDER);
+        return ret;
+    }
+
+    private void generate(final TypeElement type) {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        final String simpleName = type.getSimpleName() + AbstractTypedRow.IMPLEMENTATION_SUFFIX;
+        final String name = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(name, type).openWriter())) {
+            if (!pkg.isUnnamed()) {
+                out.println("package " + pkg.getQualifiedName() + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("@java.lang.SuppressWarnings(\"unchecked\")");
+            out.println("public final class " + simpleName + " extends " + AbstractTypedRow.class.getName()
+                + " implements " + type.getQualifiedName() + " {");
+            out.println("    public " + simpleName + "(final " + TypedRowBinding.class.getName() + " binding,");
+            out.println("            final org.opendaylight.ovsdb.lib.notation.Row<"
+                + "org.opendaylight.ovsdb.lib.schema.GenericTableSchema> row) {");
+            out.println("        super(binding, row);");
+            out.println("    }");
+
+            final DeclaredType declared = (DeclaredType) type.asType();
+            final List<ExecutableElement> methods = methods(type);
+            for (int i = 0; i < methods.size(); ++i) {
+                final ExecutableElement method = methods.get(i);
+                generateMethod(out, i, method,
+                    (ExecutableType) processingEnv.getTypeUtils().asMemberOf(declared, method));
+            }
+            out.println("}");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR,
+                "Failed to generate " + name + ": " + e.getMessage(), type);
+        }
+    }
+
+    private static void generateMethod(final PrintWriter out, final int index, final ExecutableElement method,
+            final ExecutableType type) {
+        final List<? extends VariableElement> params = method.getParameters();
+        final List<? extends TypeMirror> paramTypes = type.getParameterTypes();
+        final StringBuilder decl = new StringBuilder();
+        final StringBuilder args = new StringBuilder();
+        for (int i = 0; i < params.size(); ++i) {
+            if (i != 0) {
+                decl.append(", ");
+                args.append(", ");
+            }
+            decl.append("final ").append(paramTypes.get(i)).append(' ').append(params.get(i).getSimpleName());
+            args.append(params.get(i).getSimpleName());
+        }
+
+        final TypeMirror returnType = type.getReturnType();
+        final String invoke = params.isEmpty() ? "invoke(" + index + ")"
+            : "invoke(" + index + ", new java.lang.Object[] { " + args + " })";
+
+        out.println();
+        out.println("    @java.lang.Override");
+        out.println("    public " + returnType + " " + method.getSimpleName() + "(" + decl + ") {");
+        if (returnType.getKind() == TypeKind.VOID) {
+            out.println("        " + invoke + ";");
+        } else {
+            out.println("        return (" + returnType + ") " + invoke + ";");
+        }
+        out.println("    }");
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.schema.openvswitch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.TypedDatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.TypedTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the generated {@link Bridge} implementation with the proxy fallback, wrapping a row and reading three of
+ * its columns as {@code extractRowsUpdated()} callers do. Run with
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main TypedRowBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypedRowBenchmark {
+    // Not public, hence without a generated implementation
+    @TypedTable(name = "Bridge", database = "Open_vSwitch", fromVersion = "1.0.0")
+    interface ProxiedBridge extends Bridge {
+
+    }
+
+    static final String SCHEMA = """
+        {
+          "name": "Open_vSwitch",
+          "version": "8.3.0",
+          "tables": {"Bridge": {"columns": {
+            "name": {"type": "string"},
+            "ports": {"type": {"key": {"type": "uuid", "refTable": "Port"}, "min": 0, "max": "unlimited"}},
+            "external_ids": {"type": {"key": "string", "value": "string", "min": 0, "max": "unlimited"}}
+          }}}
+        }""";
+    static final String ROW = """
+        {
+          "name": "br-int",
+          "ports": ["set", [["uuid", "00000000-0000-0000-0000-000000000001"],
+                            ["uuid", "00000000-0000-0000-0000-000000000002"]]],
+          "external_ids": ["map", [["bridge-id", "br-int"], ["opendaylight-iid", "/node"]]]
+        }""";
+
+    private TypedDatabaseSchema schema;
+    private Row<GenericTableSchema> row;
+
+    @Setup
+    public void setup() throws IOException {
+        final ObjectMapper mapper = new ObjectMapper();
+        schema = TypedDatabaseSchema.of(DatabaseSchema.fromJson("Open_vSwitch", mapper.readTree(SCHEMA)));
+        row = schema.table("Bridge", GenericTableSchema.class).createRow((ObjectNode) mapper.readTree(ROW));
+    }
+
+    @Benchmark
+    public void generated(final Blackhole bh) {
+        read(schema.getTypedRowWrapper(Bridge.class, row), bh);
+    }
+
+    @Benchmark
+    public void proxy(final Blackhole bh) {
+        read(schema.getTypedRowWrapper(ProxiedBridge.class, row), bh);
+    }
+
+    private static void read(final Bridge bridge, final Blackhole bh) {
+        bh.consume(bridge.getName());
+        bh.consume(bridge.getPortsColumn().getData());
+        bh.consume(bridge.getExternalIdsColumn().getData());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.schema.openvswitch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.error.ColumnSchemaNotFoundException;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.AbstractTypedRow;
+import org.opendaylight.ovsdb.lib.schema.typed.TypedDatabaseSchema;
+
+public class TypedRowTest {
+    private TypedDatabaseSchema schema;
+    private Row<GenericTableSchema> row;
+
+    @Before
+    public void setUp() throws IOException {
+        final ObjectMapper mapper = new ObjectMapper();
+        schema = TypedDatabaseSchema.of(DatabaseSchema.fromJson("Open_vSwitch",
+            mapper.readTree(TypedRowBenchmark.SCHEMA)));
+        row = schema.table("Bridge", GenericTableSchema.class).createRow(
+            (ObjectNode) mapper.readTree(TypedRowBenchmark.ROW));
+    }
+
+    @Test
+    public void testGeneratedMatchesProxy() {
+        final Bridge generated = schema.getTypedRowWrapper(Bridge.class, row);
+        final Bridge proxied = schema.getTypedRowWrapper(TypedRowBenchmark.ProxiedBridge.class, row);
+        assertTrue(generated instanceof AbstractTypedRow);
+        assertTrue(Proxy.isProxyClass(proxied.getClass()));
+
+        for (Bridge bridge : new Bridge[] { generated, proxied }) {
+            assertEquals("br-int", bridge.getName());
+            assertEquals(Set.of(new UUID("00000000-0000-0000-0000-000000000001"),
+                new UUID("00000000-0000-0000-0000-000000000002")), bridge.getPortsColumn().getData());
+            assertEquals(Map.of("bridge-id", "br-int", "opendaylight-iid", "/node"),
+                bridge.getExternalIdsColumn().getData());
+            assertEquals(row, bridge.getRow());
+            assertEquals(schema.table("Bridge", GenericTableSchema.class), bridge.getSchema());
+        }
+        assertEquals(generated, schema.getTypedRowWrapper(Bridge.class, row));
+        assertEquals(generated.hashCode(), proxied.hashCode());
+        assertEquals(proxied.toString(), generated.toString());
+    }
+
+    @Test
+    public void testGeneratedSetters() {
+        final Bridge bridge = schema.getTypedRowWrapper(Bridge.class);
+        assertNull(bridge.getName());
+        bridge.setName("br-ex");
+        assertEquals("br-ex", bridge.getName());
+        assertFalse(bridge.getRow().getColumns().isEmpty());
+    }
+
+    @Test(expected = ColumnSchemaNotFoundException.class)
+    public void testGeneratedMissingColumn() {
+        // Failures are deferred to invocation time, just as with a proxy
+        schema.getTypedRowWrapper(Bridge.class, row).getAutoAttachColumn();
+    }
+}
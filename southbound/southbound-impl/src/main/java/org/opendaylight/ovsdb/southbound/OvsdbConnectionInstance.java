@@ -41,6 +41,7 @@ import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.Operations;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
@@ -61,6 +62,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.re
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.OpenvswitchExternalIdsKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.OpenvswitchOtherConfigs;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.OpenvswitchOtherConfigsKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntries;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.Queues;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
@@ -85,7 +88,8 @@ public class OvsdbConnectionInstance {
     private final Operations ops;
     private final TransactionInvoker txInvoker;
     private Map<TypedDatabaseSchema, TransactInvoker> transactInvokers = null;
-    private MonitorCallBack callback = null;
+    private OvsdbMonitorCallback callback = null;
+    private DatabaseReplica replica = null;
     private InstanceIdentifier<Node> instanceIdentifier;
     private volatile boolean hasDeviceOwnership = false;
     private Entity connectedEntity;
@@ -93,6 +97,15 @@ public class OvsdbConnectionInstance {
     private OvsdbNodeAugmentation initialCreateData = null;
     private final Map<UUID, InstanceIdentifier<Node>> ports = new ConcurrentHashMap<>();
     private final Map<String, InstanceIdentifier<Node>> portInterfaces = new ConcurrentHashMap<>();
+    // UUID-keyed indexes maintained by the operational commands, so that they can resolve rows referenced by other
+    // rows without reading the operational datastore. They are updated as the commands execute, hence they may run
+    // ahead of the datastore and are cleared when a transaction fails; the commands fall back to the datastore for
+    // rows they do not find.
+    private final Map<UUID, InstanceIdentifier<Node>> bridges = new ConcurrentHashMap<>();
+    private final Map<UUID, InstanceIdentifier<Node>> interfaces = new ConcurrentHashMap<>();
+    private final Map<UUID, InstanceIdentifier<Node>> controllers = new ConcurrentHashMap<>();
+    private final Map<UUID, InstanceIdentifier<QosEntries>> qosEntries = new ConcurrentHashMap<>();
+    private final Map<UUID, InstanceIdentifier<Queues>> queues = new ConcurrentHashMap<>();
 
     OvsdbConnectionInstance(final ConnectionInfo connectionInfo, final OvsdbClient client, final Operations ops,
             final TransactionInvoker txInvoker, final InstanceIdentifier<Node> iid) {
@@ -103,6 +116,17 @@ public class OvsdbConnectionInstance {
         instanceIdentifier = iid;
     }
 
+    /**
+     * Set the replica of the device's database retained across connections. When set, the device is monitored through
+     * {@code monitor_cond_since}, so that a reconnecting device only needs to send the changes since the replica was
+     * last updated.
+     *
+     * @param replica replica, or null to monitor the device from scratch
+     */
+    public void setReplica(final DatabaseReplica replica) {
+        this.replica = replica;
+    }
+
     public void updatePort(final UUID uuid, final InstanceIdentifier<Node> iid) {
         ports.put(uuid, iid);
     }
@@ -127,6 +151,79 @@ public class OvsdbConnectionInstance {
         return portInterfaces.get(name);
     }
 
+    public void updateBridge(final UUID uuid, final InstanceIdentifier<Node> iid) {
+        bridges.put(uuid, iid);
+    }
+
+    public void removeBridge(final UUID uuid) {
+        bridges.remove(uuid);
+    }
+
+    public InstanceIdentifier<Node> getBridge(final UUID uuid) {
+        return bridges.get(uuid);
+    }
+
+    public void updateInterface(final UUID uuid, final InstanceIdentifier<Node> iid) {
+        interfaces.put(uuid, iid);
+    }
+
+    public void removeInterface(final UUID uuid) {
+        interfaces.remove(uuid);
+    }
+
+    public InstanceIdentifier<Node> getInterface(final UUID uuid) {
+        return interfaces.get(uuid);
+    }
+
+    public void updateController(final UUID uuid, final InstanceIdentifier<Node> iid) {
+        controllers.put(uuid, iid);
+    }
+
+    public void removeController(final UUID uuid) {
+        controllers.remove(uuid);
+    }
+
+    public InstanceIdentifier<Node> getController(final UUID uuid) {
+        return controllers.get(uuid);
+    }
+
+    public void updateQos(final UUID uuid, final InstanceIdentifier<QosEntries> iid) {
+        qosEntries.put(uuid, iid);
+    }
+
+    public void removeQos(final UUID uuid) {
+        qosEntries.remove(uuid);
+    }
+
+    public InstanceIdentifier<QosEntries> getQos(final UUID uuid) {
+        return qosEntries.get(uuid);
+    }
+
+    public void updateQueue(final UUID uuid, final InstanceIdentifier<Queues> iid) {
+        queues.put(uuid, iid);
+    }
+
+    public void removeQueue(final UUID uuid) {
+        queues.remove(uuid);
+    }
+
+    public InstanceIdentifier<Queues> getQueue(final UUID uuid) {
+        return queues.get(uuid);
+    }
+
+    /**
+     * Clear the UUID-keyed indexes maintained by the operational commands. This is invoked when an operational
+     * transaction fails, since the entries its commands have added may refer to data which never made it to the
+     * datastore.
+     */
+    public void clearIndexes() {
+        bridges.clear();
+        interfaces.clear();
+        controllers.clear();
+        qosEntries.clear();
+        queues.clear();
+    }
+
     /**
      * Apply the given command to the given events, based on the given bridge state.
      *
@@ -142,6 +239,20 @@ public class OvsdbConnectionInstance {
         }
     }
 
+    /**
+     * Apply independent commands to their events, based on their bridge states. The commands are applied in separate
+     * transactions, which are sent without waiting for each other.
+     *
+     * @param invocations The commands to run, with their bridge states and events.
+     * @param instanceIdentifierCodec The instance identifier codec to use.
+     */
+    public void transact(final List<TransactInvoker.Invocation> invocations,
+            final InstanceIdentifierCodec instanceIdentifierCodec) {
+        for (TransactInvoker transactInvoker : transactInvokers.values()) {
+            transactInvoker.invoke(invocations, instanceIdentifierCodec);
+        }
+    }
+
     /**
      * Apply the given command to the given modifications, based on the given bridge state.
      *
@@ -220,7 +331,20 @@ public class OvsdbConnectionInstance {
                             .with(new MonitorSelect(true, true, true, true)).build());
                 }
             }
-            callback.update(monitor(dbSchema, monitorRequests, callback), dbSchema);
+            if (replica != null) {
+                // The replica is retained while the device is away, hence only the changes made to it meanwhile need
+                // to be transferred
+                final TableUpdates changes = monitorCondSince(dbSchema, monitorRequests, callback, replica);
+                if (changes != null) {
+                    callback.resume(changes, replica, dbSchema);
+                } else {
+                    // Without a monitor there would be no operational updates at all, let the connection be retried
+                    LOG.warn("Failed to monitor database {} on {}, disconnecting", database, connectionInfo);
+                    disconnect();
+                }
+            } else {
+                callback.update(monitor(dbSchema, monitorRequests, callback), dbSchema);
+            }
         } else {
             LOG.warn("No tables for schema {} for database {} for key {}",dbSchema,database,connectionInfo);
         }
@@ -310,6 +434,13 @@ public class OvsdbConnectionInstance {
         return client.monitor(schema, monitorRequests, callbackArgument);
     }
 
+    public <E extends TableSchema<E>> TableUpdates monitorCondSince(
+            final DatabaseSchema schema, final List<MonitorRequest> monitorRequests,
+            final MonitorCallBack callbackArgument, final DatabaseReplica databaseReplica) {
+        return client.monitorCondSince(schema, monitorRequests,
+            new MonitorHandle(java.util.UUID.randomUUID().toString()), callbackArgument, databaseReplica);
+    }
+
     public void cancelMonitor(final MonitorHandle handler) {
         client.cancelMonitor(handler);
     }
@@ -23,6 +23,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.eclipse.jdt.annotation.NonNull;
@@ -42,6 +43,7 @@ import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.Operations;
 import org.opendaylight.ovsdb.lib.operations.Select;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.lib.schema.typed.TypedDatabaseSchema;
 import org.opendaylight.ovsdb.schema.openvswitch.OpenVSwitch;
@@ -51,6 +53,7 @@ import org.opendaylight.ovsdb.southbound.reconciliation.configuration.BridgeConf
 import org.opendaylight.ovsdb.southbound.reconciliation.connection.ConnectionReconciliationTask;
 import org.opendaylight.ovsdb.southbound.transactions.md.OvsdbNodeRemoveCommand;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
+import org.opendaylight.ovsdb.utils.mdsal.utils.Scheduler;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbBridgeAttributes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbBridgeAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbNodeAugmentation;
@@ -76,6 +79,13 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
     private final ConcurrentMap<InstanceIdentifier<Node>, OvsdbConnectionInstance> nodeIdVsConnectionInstance =
             new ConcurrentHashMap<>();
     private final ConcurrentMap<Entity, OvsdbConnectionInstance> entityConnectionMap = new ConcurrentHashMap<>();
+    // Replicas of each node's database, retained across reconnects to allow resuming its monitor
+    private final ConcurrentMap<InstanceIdentifier<Node>, DatabaseReplica> replicas = new ConcurrentHashMap<>();
+    // Pending evictions of the replicas of disconnected nodes, cancelled when the node reconnects in time. The
+    // operational nodes of these nodes are stale, they are kept so that a resumed monitor only needs to apply its
+    // changes to them, and are removed along with the replica.
+    private final ConcurrentMap<InstanceIdentifier<Node>, ScheduledFuture<?>> replicaEvictions =
+            new ConcurrentHashMap<>();
     private final DataBroker db;
     private final Operations ops;
     private final TransactionInvoker txInvoker;
@@ -84,6 +94,7 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
     private final OvsdbConnection ovsdbConnection;
     private final ReconciliationManager reconciliationManager;
     private final InstanceIdentifierCodec instanceIdentifierCodec;
+    private final int replicaRetentionSecs;
 
     public OvsdbConnectionManager(final DataBroker db, final Operations ops, final TransactionInvoker txInvoker,
                                   final EntityOwnershipService entityOwnershipService,
@@ -91,6 +102,24 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
                                   final InstanceIdentifierCodec instanceIdentifierCodec,
                                   final List<String> reconcileBridgeInclusionList,
                                   final List<String> reconcileBridgeExclusionList) {
+        this(db, ops, txInvoker, entityOwnershipService, ovsdbConnection, instanceIdentifierCodec,
+            reconcileBridgeInclusionList, reconcileBridgeExclusionList, 0);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param replicaRetentionSecs time for which the database replica and the operational node of a disconnected
+     *                             device are kept, so that its monitor can be resumed when it reconnects, 0 to not
+     *                             resume monitors
+     */
+    public OvsdbConnectionManager(final DataBroker db, final Operations ops, final TransactionInvoker txInvoker,
+                                  final EntityOwnershipService entityOwnershipService,
+                                  final OvsdbConnection ovsdbConnection,
+                                  final InstanceIdentifierCodec instanceIdentifierCodec,
+                                  final List<String> reconcileBridgeInclusionList,
+                                  final List<String> reconcileBridgeExclusionList,
+                                  final int replicaRetentionSecs) {
         this.db = db;
         this.ops = ops;
         this.txInvoker = txInvoker;
@@ -100,6 +129,7 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
         reconciliationManager = new ReconciliationManager(db, instanceIdentifierCodec,
             reconcileBridgeInclusionList, reconcileBridgeExclusionList);
         this.instanceIdentifierCodec = instanceIdentifierCodec;
+        this.replicaRetentionSecs = replicaRetentionSecs;
     }
 
     @Override
@@ -189,7 +219,21 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
             // OVSDB device.
             if (ovsdbConnectionInstance.getHasDeviceOwnership()) {
                 LOG.info("Ovsdb Library disconnected {} this controller instance has ownership", key);
-                deleteOperNodeAndReleaseOwnership(ovsdbConnectionInstance);
+                final InstanceIdentifier<Node> nodeIid = ovsdbConnectionInstance.getInstanceIdentifier();
+                if (isResumable(nodeIid)) {
+                    // The replica and the operational node are kept, so that a reconnecting device only needs to
+                    // send, and the datastore only needs to be updated with, the changes made while it was away
+                    LOG.info("Ovsdb Library disconnected {} keeping its replica and operational node for {} seconds",
+                        key, replicaRetentionSecs);
+                    scheduleReplicaEviction(nodeIid);
+                    ovsdbConnectionInstance.setHasDeviceOwnership(false);
+                    unregisterEntityForOwnership(ovsdbConnectionInstance);
+                } else {
+                    if (nodeIid != null) {
+                        replicas.remove(nodeIid);
+                    }
+                    deleteOperNodeAndReleaseOwnership(ovsdbConnectionInstance);
+                }
             } else {
                 LOG.info("Ovsdb Library disconnected {} this controller does not have ownership", key);
                 unregisterEntityForOwnership(ovsdbConnectionInstance);
@@ -211,10 +255,52 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
         LOG.trace("OvsdbConnectionManager: exit disconnected client: {}", client);
     }
 
+    private boolean isResumable(final InstanceIdentifier<Node> nodeIid) {
+        final DatabaseReplica replica = nodeIid == null ? null : replicas.get(nodeIid);
+        return replica != null && replica.getLastTransactionId() != null;
+    }
+
+    private void scheduleReplicaEviction(final InstanceIdentifier<Node> nodeIid) {
+        final DatabaseReplica replica = replicas.get(nodeIid);
+        final ScheduledFuture<?> eviction = Scheduler.getScheduledExecutorService().schedule(
+            () -> evictReplica(nodeIid, replica), replicaRetentionSecs, TimeUnit.SECONDS);
+        final ScheduledFuture<?> previous = replicaEvictions.put(nodeIid, eviction);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    @VisibleForTesting
+    void evictReplica(final InstanceIdentifier<Node> nodeIid, final DatabaseReplica replica) {
+        replicaEvictions.remove(nodeIid);
+        if (!replicas.remove(nodeIid, replica)) {
+            return;
+        }
+
+        // The stale operational node goes with the replica, unless the device has meanwhile connected to this or
+        // another instance, which then owns and maintains the node
+        final Entity entity = new Entity(ENTITY_TYPE, nodeIid);
+        final Optional<EntityOwnershipState> ownershipState = entityOwnershipService.getOwnershipState(entity);
+        if (nodeIdVsConnectionInstance.containsKey(nodeIid)
+                || ownershipState.isPresent() && ownershipState.orElseThrow() != EntityOwnershipState.NO_OWNER) {
+            LOG.info("Ovsdb {} dropping its replica, the device is connected again", nodeIid);
+            return;
+        }
+        LOG.info("Ovsdb {} did not reconnect in time, dropping its replica and operational node", nodeIid);
+        cleanEntityOperationalData(entity);
+    }
+
+    private void cancelReplicaEviction(final InstanceIdentifier<Node> nodeIid) {
+        final ScheduledFuture<?> eviction = replicaEvictions.remove(nodeIid);
+        if (eviction != null) {
+            eviction.cancel(false);
+        }
+    }
+
     private void deleteOperNodeAndReleaseOwnership(final OvsdbConnectionInstance ovsdbConnectionInstance) {
         ovsdbConnectionInstance.setHasDeviceOwnership(false);
-        final InstanceIdentifier<?> nodeIid = ovsdbConnectionInstance.getInstanceIdentifier();
-        //remove the node from oper only if it has ownership
+        final InstanceIdentifier<Node> nodeIid = ovsdbConnectionInstance.getInstanceIdentifier();
+        //remove the node from oper only if it has ownership, after any pending updates from the device
         txInvoker.invoke(new OvsdbNodeRemoveCommand(ovsdbConnectionInstance, null, null) {
 
             @Override
@@ -231,7 +317,7 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
                 super.onFailure(throwable);
                 unregisterEntityForOwnership(ovsdbConnectionInstance);
             }
-        });
+        }, nodeIid, ovsdbConnectionInstance.getOvsdbClient());
     }
 
     public OvsdbClient connect(final InstanceIdentifier<Node> iid,
@@ -270,6 +356,10 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
 
             removeInstanceIdentifier(ovsdbNode.getConnectionInfo());
 
+            // The node is going away for good, there is no point in resuming its monitor
+            cancelReplicaEviction(client.getInstanceIdentifier());
+            replicas.remove(client.getInstanceIdentifier());
+
             stopBridgeConfigReconciliationIfActive(client.getInstanceIdentifier());
         } else {
             LOG.debug("disconnect : connection instance not found for {}",ovsdbNode.getConnectionInfo());
@@ -299,6 +389,10 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
         for (OvsdbConnectionInstance client: clients.values()) {
             client.disconnect();
         }
+
+        replicaEvictions.values().forEach(eviction -> eviction.cancel(false));
+        replicaEvictions.clear();
+        replicas.clear();
     }
 
     @VisibleForTesting
@@ -473,7 +567,7 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
 
             //*this* instance of southbound plugin is owner of the device,
             //so register for monitor callbacks
-            ovsdbConnectionInstance.registerCallbacks(instanceIdentifierCodec);
+            registerCallbacks(ovsdbConnectionInstance);
 
             reconcileBridgeConfigurations(ovsdbConnectionInstance);
         } else {
@@ -498,6 +592,11 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
 
         @SuppressWarnings("unchecked")
         final InstanceIdentifier<Node> nodeIid = (InstanceIdentifier<Node>) entity.getIdentifier();
+        if (replicaEvictions.containsKey(nodeIid)) {
+            // The device has disconnected from this instance, which keeps its node until the replica is evicted
+            LOG.info("Ovsdb {} keeping the operational data store for resumption", entity);
+            return;
+        }
 
         txInvoker.invoke(transaction -> {
             Optional<Node> ovsdbNodeOpt = SouthboundUtil.readNode(transaction, nodeIid);
@@ -517,7 +616,7 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
                 }
                 transaction.delete(LogicalDatastoreType.OPERATIONAL, nodeIid.toIdentifier());
             }
-        });
+        }, nodeIid, null);
 
     }
 
@@ -603,11 +702,21 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
                 ovsdbConnectionInstance.setHasDeviceOwnership(false);
             } else if (ownershipState == EntityOwnershipState.IS_OWNER) {
                 ovsdbConnectionInstance.setHasDeviceOwnership(true);
-                ovsdbConnectionInstance.registerCallbacks(instanceIdentifierCodec);
+                registerCallbacks(ovsdbConnectionInstance);
             }
         }
     }
 
+    private void registerCallbacks(final OvsdbConnectionInstance ovsdbConnectionInstance) {
+        final InstanceIdentifier<Node> nodeIid = ovsdbConnectionInstance.getInstanceIdentifier();
+        if (nodeIid != null && replicaRetentionSecs > 0) {
+            cancelReplicaEviction(nodeIid);
+            ovsdbConnectionInstance.setReplica(replicas.computeIfAbsent(nodeIid,
+                key -> new DatabaseReplica(SouthboundConstants.OPEN_V_SWITCH)));
+        }
+        ovsdbConnectionInstance.registerCallbacks(instanceIdentifierCodec);
+    }
+
     private void unregisterEntityForOwnership(final OvsdbConnectionInstance ovsdbConnectionInstance) {
         ovsdbConnectionInstance.closeDeviceOwnershipCandidateRegistration();
         entityConnectionMap.remove(ovsdbConnectionInstance.getConnectedEntity(), ovsdbConnectionInstance);
@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.DataObjectModification;
@@ -56,6 +57,12 @@ public final class OvsdbDataTreeChangeListener implements DataTreeChangeListener
     /** The instance identifier codec. */
     private final InstanceIdentifierCodec instanceIdentifierCodec;
 
+    /** Bridge operational state lookups served from per-batch snapshots. */
+    private final LongAdder operationalSnapshotHits = new LongAdder();
+
+    /** Bridge operational state lookups which had to read the datastore. */
+    private final LongAdder operationalSnapshotMisses = new LongAdder();
+
     /** Logger. */
     private static final Logger LOG = LoggerFactory.getLogger(OvsdbDataTreeChangeListener.class);
 
@@ -228,11 +235,32 @@ public final class OvsdbDataTreeChangeListener implements DataTreeChangeListener
                 changesPerConnectionInstance(changes).entrySet()) {
             OvsdbConnectionInstance connectionInstance = connectionInstanceEntry.getKey();
             Collection<DataTreeModification<Node>> clientChanges = connectionInstanceEntry.getValue();
+            final BridgeOperationalState state = new BridgeOperationalState(db, clientChanges);
             connectionInstance.transact(new TransactCommandAggregator(connectionInstance.ops()),
-                    new BridgeOperationalState(db, clientChanges), clientChanges, instanceIdentifierCodec);
+                    state, clientChanges, instanceIdentifierCodec);
+            operationalSnapshotHits.add(state.getSnapshotHits());
+            operationalSnapshotMisses.add(state.getSnapshotMisses());
         }
     }
 
+    /**
+     * Return the number of bridge operational state lookups which were served from the snapshot of their batch.
+     *
+     * @return number of snapshot hits
+     */
+    public long getOperationalSnapshotHits() {
+        return operationalSnapshotHits.sum();
+    }
+
+    /**
+     * Return the number of bridge operational state lookups which had to read the operational datastore.
+     *
+     * @return number of snapshot misses
+     */
+    public long getOperationalSnapshotMisses() {
+        return operationalSnapshotMisses.sum();
+    }
+
     private Map<OvsdbConnectionInstance, Collection<DataTreeModification<Node>>> changesPerConnectionInstance(
             final @NonNull List<DataTreeModification<Node>> changes) {
         Map<OvsdbConnectionInstance, Collection<DataTreeModification<Node>>> result = new HashMap<>();
@@ -7,12 +7,24 @@
  */
 package org.opendaylight.ovsdb.southbound;
 
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.ovsdb.lib.MonitorCallBack;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.TyperUtils;
+import org.opendaylight.ovsdb.schema.openvswitch.OpenVSwitch;
 import org.opendaylight.ovsdb.southbound.transactions.md.OvsdbOperationalCommandAggregator;
+import org.opendaylight.ovsdb.southbound.transactions.md.TransactionCommand;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,6 +35,8 @@ public class OvsdbMonitorCallback implements MonitorCallBack {
     private TransactionInvoker txInvoker;
     private OvsdbConnectionInstance key;
     private AtomicBoolean intialUpdate = new AtomicBoolean(false);
+    // Parts of the initial contents of the monitor received so far, written together with its reply
+    private TableUpdates initialParts;
 
     OvsdbMonitorCallback(InstanceIdentifierCodec instanceIdentifierCodec, OvsdbConnectionInstance key,
             TransactionInvoker txInvoker) {
@@ -34,9 +48,64 @@ public class OvsdbMonitorCallback implements MonitorCallBack {
     @Override
     public void update(TableUpdates result, DatabaseSchema dbSchema) {
         boolean isFirstUpdate = intialUpdate.compareAndSet(false, true);
-        txInvoker.invoke(new OvsdbOperationalCommandAggregator(instanceIdentifierCodec, key, result,
-                dbSchema, isFirstUpdate));
-        LOG.trace("Updated dbSchema: {} and result: {}", dbSchema, result);
+        final TableUpdates updates = completeInitialParts(result);
+        txInvoker.invoke(new OvsdbOperationalCommandAggregator(instanceIdentifierCodec, key, updates,
+                dbSchema, isFirstUpdate), key.getInstanceIdentifier(), key.getOvsdbClient());
+        LOG.trace("Updated dbSchema: {} and result: {}", dbSchema, updates);
+    }
+
+    @Override
+    public boolean acceptsPartialUpdates() {
+        return true;
+    }
+
+    /**
+     * Collect a part of the initial contents of the monitor. Parts split tables at arbitrary rows, so that a bridge
+     * may arrive in a later part than its ports, hence they are written only together with the monitor reply. Parts
+     * are decoded as they arrive, so that the reply is never held in its JSON form at once.
+     *
+     * @param result part of the initial contents
+     * @param dbSchema database schema
+     */
+    @Override
+    public synchronized void partialUpdate(TableUpdates result, DatabaseSchema dbSchema) {
+        if (initialParts == null) {
+            initialParts = new TableUpdates();
+        }
+        initialParts.merge(result);
+    }
+
+    private synchronized TableUpdates completeInitialParts(TableUpdates result) {
+        final TableUpdates parts = initialParts;
+        if (parts == null) {
+            return result;
+        }
+        initialParts = null;
+        if (result == null) {
+            // The monitor has failed, its parts are not complete
+            return null;
+        }
+        parts.merge(result);
+        return parts;
+    }
+
+    /**
+     * Report the changes a resumed monitor has made to the replica of the device's database. These are relative to the
+     * operational node written during the previous connection, hence if that node has been cleaned up meanwhile, it is
+     * populated from the complete replica instead. The replica is captured right away, so that changes reported by
+     * later updates are not written twice.
+     *
+     * @param changes changes made to the replica
+     * @param replica replica of the device's database
+     * @param dbSchema database schema
+     */
+    void resume(TableUpdates changes, DatabaseReplica replica, DatabaseSchema dbSchema) {
+        boolean isFirstUpdate = intialUpdate.compareAndSet(false, true);
+        // Parts are only delivered when the replica was empty, they are changes like the rest of the reply
+        final TableUpdates updates = completeInitialParts(changes);
+        txInvoker.invoke(new ResumeCommand(updates, replica.snapshot(), dbSchema, isFirstUpdate),
+            key.getInstanceIdentifier(), key.getOvsdbClient());
+        LOG.trace("Resumed dbSchema: {} with changes: {}", dbSchema, updates);
     }
 
     @Override
@@ -44,4 +113,72 @@ public class OvsdbMonitorCallback implements MonitorCallBack {
         LOG.warn("exception", exception);
     }
 
+    private final class ResumeCommand implements TransactionCommand {
+        private final TableUpdates changes;
+        private final TableUpdates snapshot;
+        private final DatabaseSchema dbSchema;
+        private final boolean initialUpdate;
+        private TransactionCommand delegate;
+
+        ResumeCommand(TableUpdates changes, TableUpdates snapshot, DatabaseSchema dbSchema, boolean initialUpdate) {
+            this.changes = changes;
+            this.snapshot = snapshot;
+            this.dbSchema = dbSchema;
+            this.initialUpdate = initialUpdate;
+        }
+
+        @Override
+        public void execute(ReadWriteTransaction transaction) {
+            Optional<Node> node;
+            try {
+                // Not served from the operational node cache, which may lag behind a cleanup
+                node = transaction.read(LogicalDatastoreType.OPERATIONAL,
+                    key.getInstanceIdentifier().toIdentifier()).get();
+            } catch (InterruptedException | ExecutionException e) {
+                LOG.warn("Failed to read operational node {}, populating it from the replica",
+                    key.getInstanceIdentifier(), e);
+                node = Optional.empty();
+            }
+
+            final TableUpdates updates;
+            if (node.isPresent()) {
+                // The connection details are stored with the Open_vSwitch row, which is likely to be unchanged
+                updates = new TableUpdates(new HashMap<>(changes.getUpdates()));
+                final GenericTableSchema ovsTable = TyperUtils.getTableSchema(dbSchema, OpenVSwitch.class);
+                final TableUpdate<GenericTableSchema> ovsUpdate = new TableUpdate<>();
+                final TableUpdate<GenericTableSchema> ovsSnapshot = snapshot.getUpdate(ovsTable);
+                if (ovsSnapshot != null) {
+                    ovsUpdate.getRows().putAll(ovsSnapshot.getRows());
+                }
+                final TableUpdate<GenericTableSchema> ovsChanges = changes.getUpdate(ovsTable);
+                if (ovsChanges != null) {
+                    ovsUpdate.getRows().putAll(ovsChanges.getRows());
+                }
+                updates.getUpdates().put(ovsTable.getName(), ovsUpdate);
+            } else {
+                LOG.info("Operational node {} is missing, populating it from the replica",
+                    key.getInstanceIdentifier());
+                updates = snapshot;
+            }
+
+            delegate = new OvsdbOperationalCommandAggregator(instanceIdentifierCodec, key, updates, dbSchema,
+                initialUpdate);
+            delegate.execute(transaction);
+        }
+
+        @Override
+        public void onSuccess() {
+            if (delegate != null) {
+                delegate.onSuccess();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+            if (delegate != null) {
+                delegate.onFailure(throwable);
+            }
+        }
+    }
+
 }
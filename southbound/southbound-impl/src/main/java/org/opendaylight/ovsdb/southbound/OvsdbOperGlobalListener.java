@@ -89,7 +89,8 @@ public final class OvsdbOperGlobalListener implements DataTreeChangeListener<Nod
                         // This should never happen.
                         // Put the node back in oper
                         txInvoker.invoke(
-                            tx -> tx.put(LogicalDatastoreType.OPERATIONAL, key.toIdentifier(), removedNode));
+                            tx -> tx.put(LogicalDatastoreType.OPERATIONAL, key.toIdentifier(), removedNode),
+                            key, connectionInstance.getOvsdbClient());
                     }
                 }
 
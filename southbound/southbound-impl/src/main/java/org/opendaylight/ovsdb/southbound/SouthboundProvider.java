@@ -38,8 +38,8 @@ import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipStateChange;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.ovsdb.lib.operations.Operations;
+import org.opendaylight.ovsdb.southbound.transactions.md.ShardedTransactionInvoker;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
-import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvokerImpl;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyBuilder;
@@ -70,6 +70,10 @@ public class SouthboundProvider implements DataTreeChangeListener<Topology>, Aut
         String bridge$_$reconciliation$_$inclusion$_$list();
         @AttributeDefinition
         String bridge$_$reconciliation$_$exclusion$_$list();
+        @AttributeDefinition(min = "0")
+        int transaction$_$invoker$_$shards() default 0;
+        @AttributeDefinition(min = "0")
+        int replica$_$retention$_$secs() default 300;
     }
 
     private static final Logger LOG = LoggerFactory.getLogger(SouthboundProvider.class);
@@ -101,7 +105,8 @@ public class SouthboundProvider implements DataTreeChangeListener<Topology>, Aut
                               final DiagStatusService diagStatusService,
                               final Operations ops) {
         this(dataBroker, entityOwnershipServiceDependency, ovsdbConnection, schemaService,
-            bindingNormalizedNodeSerializer, systemReadyMonitor, diagStatusService, ops, false, List.of(), List.of());
+            bindingNormalizedNodeSerializer, systemReadyMonitor, diagStatusService, ops, false, List.of(), List.of(),
+            0, 300);
     }
 
     @Activate
@@ -118,7 +123,9 @@ public class SouthboundProvider implements DataTreeChangeListener<Topology>, Aut
             bindingNormalizedNodeSerializer, systemReadyMonitor, diagStatusService, ops,
             configuration.skip$_$monitoring$_$manager$_$status(),
             getBridgesList(configuration.bridge$_$reconciliation$_$inclusion$_$list()),
-            getBridgesList(configuration.bridge$_$reconciliation$_$exclusion$_$list()));
+            getBridgesList(configuration.bridge$_$reconciliation$_$exclusion$_$list()),
+            configuration.transaction$_$invoker$_$shards(),
+            configuration.replica$_$retention$_$secs());
     }
 
     @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR",
@@ -133,7 +140,9 @@ public class SouthboundProvider implements DataTreeChangeListener<Topology>, Aut
                               final Operations ops,
                               final boolean skipMonitoringManagerStatus,
                               final List<String> bridgeReconciliationInclusionList,
-                              final List<String> bridgeReconciliationExclusionList) {
+                              final List<String> bridgeReconciliationExclusionList,
+                              final int transactionInvokerShards,
+                              final int replicaRetentionSecs) {
         this.dataBroker = requireNonNull(dataBroker);
         LOG.debug("skipManagerStatus set to {}", skipMonitoringManagerStatus);
         if (skipMonitoringManagerStatus) {
@@ -151,9 +160,10 @@ public class SouthboundProvider implements DataTreeChangeListener<Topology>, Aut
         LOG.info("SouthboundProvider ovsdbConnectionService Initialized");
 
         ovsdbStatusProvider.reportStatus(ServiceState.STARTING, "OVSDB initialization in progress");
-        txInvoker = new TransactionInvokerImpl(dataBroker);
+        txInvoker = new ShardedTransactionInvoker(dataBroker, transactionInvokerShards);
         cm = new OvsdbConnectionManager(dataBroker, ops, txInvoker, entityOwnershipService, ovsdbConnection,
-                instanceIdentifierCodec, bridgeReconciliationInclusionList, bridgeReconciliationExclusionList);
+                instanceIdentifierCodec, bridgeReconciliationInclusionList, bridgeReconciliationExclusionList,
+                replicaRetentionSecs);
         ovsdbDataTreeChangeListener = new OvsdbDataTreeChangeListener(dataBroker, cm, instanceIdentifierCodec);
         ovsdbOperGlobalListener = new OvsdbOperGlobalListener(dataBroker, cm, txInvoker);
 
@@ -12,6 +12,8 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
@@ -29,9 +31,17 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Operational state of bridges, as seen by the commands of a single transact batch. Each bridge node is read from the
+ * operational datastore at most once per instance and served from this snapshot afterwards, so a batch touching many
+ * termination points of the same bridge does not issue a read for each of them.
+ */
 public class BridgeOperationalState {
     private static final Logger LOG = LoggerFactory.getLogger(BridgeOperationalState.class);
 
+    private final Map<InstanceIdentifier<Node>, Optional<Node>> nodes = new ConcurrentHashMap<>();
+    private final LongAdder snapshotHits = new LongAdder();
+    private final LongAdder snapshotMisses = new LongAdder();
     private final DataBroker dataBroker;
 
     public BridgeOperationalState(DataBroker dataBroker) {
@@ -57,12 +67,41 @@ public class BridgeOperationalState {
     @SuppressWarnings("IllegalCatch")
     public Optional<Node> getBridgeNode(InstanceIdentifier<?> iid) {
         InstanceIdentifier<Node> nodeIid = iid.firstIdentifierOf(Node.class);
+        final Optional<Node> cached = nodes.get(nodeIid);
+        if (cached != null) {
+            snapshotHits.increment();
+            return cached;
+        }
+
+        snapshotMisses.increment();
+        final Optional<Node> node;
         try (ReadTransaction transaction = dataBroker.newReadOnlyTransaction()) {
-            return SouthboundUtil.readNode(transaction, nodeIid);
+            node = SouthboundUtil.readNode(transaction, nodeIid);
         } catch (Exception exp) {
+            // Not remembered, so that a later lookup can retry
             LOG.error("Error in getting the brideNode for {}", iid, exp);
             return Optional.empty();
         }
+        nodes.put(nodeIid, node);
+        return node;
+    }
+
+    /**
+     * Return the number of bridge node lookups served from the snapshot.
+     *
+     * @return number of snapshot hits
+     */
+    public long getSnapshotHits() {
+        return snapshotHits.sum();
+    }
+
+    /**
+     * Return the number of bridge node lookups which had to read the operational datastore.
+     *
+     * @return number of snapshot misses
+     */
+    public long getSnapshotMisses() {
+        return snapshotMisses.sum();
     }
 
     public Optional<OvsdbBridgeAugmentation> getOvsdbBridgeAugmentation(InstanceIdentifier<?> iid) {
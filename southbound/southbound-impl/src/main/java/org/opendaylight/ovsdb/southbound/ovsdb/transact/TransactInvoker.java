@@ -8,6 +8,7 @@
 package org.opendaylight.ovsdb.southbound.ovsdb.transact;
 
 import java.util.Collection;
+import java.util.List;
 import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.ovsdb.southbound.InstanceIdentifierCodec;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
@@ -16,6 +17,16 @@ import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.
  * Contract for a transactional invoker.
  */
 public interface TransactInvoker {
+    /**
+     * A transactional command, together with the bridge state and the events it is to be invoked with.
+     *
+     * @param command The transactional command.
+     * @param state The bridge state.
+     * @param events The events to be processed.
+     */
+    record Invocation(TransactCommand command, BridgeOperationalState state, DataChangeEvent events) {
+    }
+
     /**
      * Invoke the given transactional command, with the given bridge state, on the given events.
      *
@@ -37,4 +48,13 @@ public interface TransactInvoker {
      */
     void invoke(TransactCommand command, BridgeOperationalState state,
             Collection<DataTreeModification<Node>> modifications, InstanceIdentifierCodec instanceIdentifierCodec);
+
+    /**
+     * Invoke independent transactional commands. Each command is executed in its own transaction, but the
+     * transactions are sent back-to-back, without waiting for the previous one to complete.
+     *
+     * @param invocations The commands to invoke, in order.
+     * @param instanceIdentifierCodec The instance identifier codec to use.
+     */
+    void invoke(List<Invocation> invocations, InstanceIdentifierCodec instanceIdentifierCodec);
 }
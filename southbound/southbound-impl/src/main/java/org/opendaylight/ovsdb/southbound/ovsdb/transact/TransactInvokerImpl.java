@@ -9,12 +9,14 @@ package org.opendaylight.ovsdb.southbound.ovsdb.transact;
 
 import com.google.common.base.Strings;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
+import org.opendaylight.ovsdb.lib.operations.TransactionBatchMode;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.southbound.InstanceIdentifierCodec;
@@ -38,7 +40,7 @@ public class TransactInvokerImpl implements TransactInvoker {
             DataChangeEvent events, InstanceIdentifierCodec instanceIdentifierCodec) {
         TransactionBuilder tb = new TransactionBuilder(connectionInstance.getOvsdbClient(), dbSchema);
         command.execute(tb, state, events, instanceIdentifierCodec);
-        invoke(command, tb);
+        invoke(command, tb, tb.execute());
     }
 
     @Override
@@ -46,11 +48,28 @@ public class TransactInvokerImpl implements TransactInvoker {
             Collection<DataTreeModification<Node>> modifications, InstanceIdentifierCodec instanceIdentifierCodec) {
         TransactionBuilder tb = new TransactionBuilder(connectionInstance.getOvsdbClient(), dbSchema);
         command.execute(tb, state, modifications, instanceIdentifierCodec);
-        invoke(command, tb);
+        invoke(command, tb, tb.execute());
     }
 
-    private static void invoke(TransactCommand command, TransactionBuilder tb) {
-        ListenableFuture<List<OperationResult>> result = tb.execute();
+    @Override
+    public void invoke(List<Invocation> invocations, InstanceIdentifierCodec instanceIdentifierCodec) {
+        List<TransactionBuilder> tbs = new ArrayList<>(invocations.size());
+        for (Invocation invocation : invocations) {
+            TransactionBuilder tb = new TransactionBuilder(connectionInstance.getOvsdbClient(), dbSchema);
+            invocation.command().execute(tb, invocation.state(), invocation.events(), instanceIdentifierCodec);
+            tbs.add(tb);
+        }
+
+        // All transactions are sent before waiting for the first one, so that they cost a single round trip
+        List<ListenableFuture<List<OperationResult>>> results =
+                connectionInstance.getOvsdbClient().transact(tbs, TransactionBatchMode.PIPELINE);
+        for (int i = 0; i < tbs.size(); i++) {
+            invoke(invocations.get(i).command(), tbs.get(i), results.get(i));
+        }
+    }
+
+    private static void invoke(TransactCommand command, TransactionBuilder tb,
+            ListenableFuture<List<OperationResult>> result) {
         LOG.debug("invoke: command: {}, tb: {}", command, tb);
         if (tb.getOperations().size() > 0) {
             try {
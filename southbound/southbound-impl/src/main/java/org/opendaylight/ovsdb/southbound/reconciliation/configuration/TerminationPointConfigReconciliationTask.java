@@ -23,6 +23,7 @@ import org.opendaylight.ovsdb.southbound.ovsdb.transact.BridgeOperationalState;
 import org.opendaylight.ovsdb.southbound.ovsdb.transact.DataChangeEvent;
 import org.opendaylight.ovsdb.southbound.ovsdb.transact.TerminationPointCreateCommand;
 import org.opendaylight.ovsdb.southbound.ovsdb.transact.TerminationPointDeleteCommand;
+import org.opendaylight.ovsdb.southbound.ovsdb.transact.TransactInvoker.Invocation;
 import org.opendaylight.ovsdb.southbound.reconciliation.ReconciliationManager;
 import org.opendaylight.ovsdb.southbound.reconciliation.ReconciliationTask;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbTerminationPointAugmentation;
@@ -91,10 +92,6 @@ public class TerminationPointConfigReconciliationTask extends ReconciliationTask
             }
         };
 
-        connectionInstance.transact(new TerminationPointCreateCommand(connectionInstance.ops()),
-                        new BridgeOperationalState(reconciliationManager.getDb(), changeEvents),
-                        changeEvents, instanceIdentifierCodec);
-
         List<String> configTerminationPoints = new ArrayList<>();
         if (configNodeData.getTerminationPoint() != null) {
             configNodeData.getTerminationPoint().values().forEach(entry -> {
@@ -158,9 +155,14 @@ public class TerminationPointConfigReconciliationTask extends ReconciliationTask
             }
         };
 
-        connectionInstance.transact(new TerminationPointDeleteCommand(connectionInstance.ops()),
-                new BridgeOperationalState(reconciliationManager.getDb(), deleteChangeEvents),
-                deleteChangeEvents, instanceIdentifierCodec);
+        // The created and the deleted termination points are disjoint, hence both transactions are independent
+        connectionInstance.transact(List.of(
+                new Invocation(new TerminationPointCreateCommand(connectionInstance.ops()),
+                        new BridgeOperationalState(reconciliationManager.getDb(), changeEvents), changeEvents),
+                new Invocation(new TerminationPointDeleteCommand(connectionInstance.ops()),
+                        new BridgeOperationalState(reconciliationManager.getDb(), deleteChangeEvents),
+                        deleteChangeEvents)),
+                instanceIdentifierCodec);
 
         return true;
     }
@@ -11,6 +11,7 @@ import java.util.Collection;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.UUID;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.typed.TyperUtils;
 import org.opendaylight.ovsdb.schema.openvswitch.Bridge;
@@ -44,6 +45,12 @@ public class OvsdbBridgeRemovedCommand extends AbstractTransactionCommand {
             // TODO handle removal of reference to managed node from model
             transaction.delete(LogicalDatastoreType.OPERATIONAL, bridgeIid);
             transaction.delete(LogicalDatastoreType.OPERATIONAL, mnIid.toIdentifier());
+            getOvsdbConnectionInstance().removeBridge(bridge.getUuid());
+            if (bridge.getControllerColumn() != null) {
+                for (UUID controllerUuid : bridge.getControllerColumn().getData()) {
+                    getOvsdbConnectionInstance().removeController(controllerUuid);
+                }
+            }
         }
     }
 }
@@ -119,11 +119,31 @@ public class OvsdbBridgeUpdateCommand extends AbstractTransactionCommand {
         transaction.merge(LogicalDatastoreType.OPERATIONAL, bridgeIid, bridgeNode);
         updatedBridges.add(bridgeIid);
         updatedBridgeNodes.put(getNodeId(bridge), bridgeNode);
+        indexBridge(bridge, bridgeIid);
         deleteEntries(transaction, protocolEntriesToRemove(bridgeIid, bridge));
         deleteEntries(transaction, externalIdsToRemove(bridgeIid,bridge));
         deleteEntries(transaction, bridgeOtherConfigsToRemove(bridgeIid,bridge));
     }
 
+    private void indexBridge(Bridge bridge, DataObjectIdentifier<Node> bridgeIid) {
+        final OvsdbConnectionInstance connectionInstance = getOvsdbConnectionInstance();
+        final InstanceIdentifier<Node> iid = bridgeIid.toLegacy();
+        connectionInstance.updateBridge(bridge.getUuid(), iid);
+        final Set<UUID> controllers = bridge.getControllerColumn() == null ? Set.of()
+            : bridge.getControllerColumn().getData();
+        final Bridge oldBridge = oldBridgeRows.get(bridge.getUuid());
+        if (oldBridge != null && oldBridge.getControllerColumn() != null) {
+            for (UUID controllerUuid : oldBridge.getControllerColumn().getData()) {
+                if (!controllers.contains(controllerUuid)) {
+                    connectionInstance.removeController(controllerUuid);
+                }
+            }
+        }
+        for (UUID controllerUuid : controllers) {
+            connectionInstance.updateController(controllerUuid, iid);
+        }
+    }
+
     @VisibleForTesting
     <T extends DataObject> void deleteEntries(ReadWriteTransaction transaction, List<InstanceIdentifier<T>> entryIids) {
         for (var entryIid : entryIids) {
@@ -54,6 +54,9 @@ public class OvsdbControllerRemovedCommand extends AbstractTransactionCommand {
                 getOvsdbConnectionInstance(), bridge).toLegacy();
             deleteControllers(transaction, controllerEntriesToRemove(bridgeIid, bridge));
         }
+        for (UUID controllerUuid : removedControllerRows.keySet()) {
+            getOvsdbConnectionInstance().removeController(controllerUuid);
+        }
     }
 
     private static void deleteControllers(ReadWriteTransaction transaction,
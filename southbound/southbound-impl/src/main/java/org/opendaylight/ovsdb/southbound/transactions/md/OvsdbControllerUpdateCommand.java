@@ -9,6 +9,7 @@ package org.opendaylight.ovsdb.southbound.transactions.md;
 
 import com.google.common.annotations.VisibleForTesting;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -113,10 +114,33 @@ public class OvsdbControllerUpdateCommand extends AbstractTransactionCommand {
     void updateController(final ReadWriteTransaction transaction,
                                   final Map<UUID, Controller> newUpdatedControllerRows) {
 
+        // Controllers of bridges we already know about are updated directly, only the rest require reading the
+        // bridge nodes
+        final OvsdbConnectionInstance connectionInstance = getOvsdbConnectionInstance();
+        final Map<UUID, Controller> unindexedControllerRows = new HashMap<>();
+        for (Map.Entry<UUID, Controller> controllerEntry : newUpdatedControllerRows.entrySet()) {
+            final InstanceIdentifier<Node> bridgeIid = connectionInstance.getController(controllerEntry.getKey());
+            if (bridgeIid == null) {
+                unindexedControllerRows.put(controllerEntry.getKey(), controllerEntry.getValue());
+                continue;
+            }
+            final List<ControllerEntry> controllerEntries = new ArrayList<>();
+            SouthboundMapper.addControllerEntries(controllerEntries, controllerEntry.getValue());
+            for (ControllerEntry entry : controllerEntries) {
+                InstanceIdentifier<ControllerEntry> iid = bridgeIid
+                        .augmentation(OvsdbBridgeAugmentation.class)
+                        .child(ControllerEntry.class, entry.key());
+                transaction.merge(LogicalDatastoreType.OPERATIONAL, iid.toIdentifier(), entry);
+            }
+        }
+        if (unindexedControllerRows.isEmpty()) {
+            return;
+        }
+
         Map<InstanceIdentifier<Node>, Node> bridgeNodes = getBridgeNodes(transaction);
         for (Map.Entry<InstanceIdentifier<Node>, Node> bridgeNodeEntry : bridgeNodes.entrySet()) {
             final List<ControllerEntry> controllerEntries =
-                    SouthboundMapper.createControllerEntries(bridgeNodeEntry.getValue(), newUpdatedControllerRows);
+                    SouthboundMapper.createControllerEntries(bridgeNodeEntry.getValue(), unindexedControllerRows);
 
             for (ControllerEntry controllerEntry : controllerEntries) {
                 final InstanceIdentifier<Node> bridgeIid = bridgeNodeEntry.getKey();
@@ -39,7 +39,13 @@ public class OvsdbInitialPortUpdateCommand extends OvsdbPortUpdateCommand {
     public OvsdbInitialPortUpdateCommand(InstanceIdentifierCodec instanceIdentifierCodec, OvsdbConnectionInstance key,
                                          TableUpdates updates, DatabaseSchema dbSchema,
                                          Map<NodeId, Node> updatedBridgeNodes) {
-        super(instanceIdentifierCodec, key, updates, dbSchema);
+        this(instanceIdentifierCodec, key, updates, dbSchema, updatedBridgeNodes, null);
+    }
+
+    OvsdbInitialPortUpdateCommand(InstanceIdentifierCodec instanceIdentifierCodec, OvsdbConnectionInstance key,
+                                  TableUpdates updates, DatabaseSchema dbSchema,
+                                  Map<NodeId, Node> updatedBridgeNodes, PortBridgeIndex portBridges) {
+        super(instanceIdentifierCodec, key, updates, dbSchema, portBridges);
         this.updatedBridgeNodes = updatedBridgeNodes;
     }
 
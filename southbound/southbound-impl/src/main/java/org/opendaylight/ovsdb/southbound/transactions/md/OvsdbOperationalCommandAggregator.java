@@ -31,9 +31,25 @@ public class OvsdbOperationalCommandAggregator implements TransactionCommand {
     private static final Logger LOG = LoggerFactory.getLogger(OvsdbOperationalCommandAggregator.class);
     private final List<TransactionCommand> commands = new ArrayList<>();
     private final Map<NodeId, Node> updatedBridgeNodes = new HashMap<>();
+    private final InstanceIdentifierCodec instanceIdentifierCodec;
+    private final OvsdbConnectionInstance key;
+    private final DatabaseSchema dbSchema;
+    private final boolean initialUpdate;
+    private TableUpdates updates;
+    private boolean copied;
+    private boolean stale;
 
     public OvsdbOperationalCommandAggregator(InstanceIdentifierCodec instanceIdentifierCodec,
             OvsdbConnectionInstance key, TableUpdates updates, DatabaseSchema dbSchema, boolean initialUpdate) {
+        this.instanceIdentifierCodec = instanceIdentifierCodec;
+        this.key = key;
+        this.updates = updates;
+        this.dbSchema = dbSchema;
+        this.initialUpdate = initialUpdate;
+        addCommands();
+    }
+
+    private void addCommands() {
         commands.add(new OpenVSwitchUpdateCommand(instanceIdentifierCodec, key, updates, dbSchema));
         commands.add(new OvsdbManagersUpdateCommand(key, updates,  dbSchema));
         commands.add(new OvsdbManagersRemovedCommand(key, updates,  dbSchema));
@@ -46,13 +62,14 @@ public class OvsdbOperationalCommandAggregator implements TransactionCommand {
         commands.add(new OvsdbBridgeRemovedCommand(instanceIdentifierCodec, key, updates,  dbSchema));
         commands.add(new OvsdbControllerUpdateCommand(key, updates,  dbSchema));
         commands.add(new OvsdbControllerRemovedCommand(instanceIdentifierCodec, key, updates,  dbSchema));
+        final PortBridgeIndex portBridges = new PortBridgeIndex(updates, dbSchema);
         if (initialUpdate) {
             commands.add(new OvsdbInitialPortUpdateCommand(instanceIdentifierCodec, key, updates, dbSchema,
-                    updatedBridgeNodes));
+                    updatedBridgeNodes, portBridges));
         } else {
-            commands.add(new OvsdbPortUpdateCommand(instanceIdentifierCodec, key, updates, dbSchema));
+            commands.add(new OvsdbPortUpdateCommand(instanceIdentifierCodec, key, updates, dbSchema, portBridges));
         }
-        commands.add(new OvsdbPortRemoveCommand(instanceIdentifierCodec, key, updates, dbSchema));
+        commands.add(new OvsdbPortRemoveCommand(instanceIdentifierCodec, key, updates, dbSchema, portBridges));
 
         if (dbSchema.getVersion().compareTo(
                 Version.fromString(SouthboundConstants.AUTOATTACH_SUPPORTED_OVS_SCHEMA_VERSION)) >= 0) {
@@ -64,15 +81,51 @@ public class OvsdbOperationalCommandAggregator implements TransactionCommand {
         }
     }
 
+    /**
+     * Merge the updates of a following aggregator for the same connection, so that a burst of updates from a device
+     * is written in a single transaction. Commands are recreated from the merged updates on execution.
+     */
+    @Override
+    public boolean merge(TransactionCommand next) {
+        if (!(next instanceof OvsdbOperationalCommandAggregator other) || other.key != key
+                || other.dbSchema != dbSchema || other.initialUpdate) {
+            return false;
+        }
+
+        if (!copied) {
+            // The updates may still be referenced by their producer, work on a copy
+            final TableUpdates copy = new TableUpdates();
+            copy.merge(updates);
+            updates = copy;
+            copied = true;
+        }
+        updates.merge(other.updates);
+        stale = true;
+        return true;
+    }
+
     @SuppressFBWarnings("DCN_NULLPOINTER_EXCEPTION")
     @Override
     public void execute(ReadWriteTransaction transaction) {
-        for (TransactionCommand command : commands) {
-            try {
-                command.execute(transaction);
-            } catch (NullPointerException | NoSuchElementException | ClassCastException e) {
-                LOG.warn("Exception trying to execute {}", command, e);
+        if (stale) {
+            stale = false;
+            commands.clear();
+            updatedBridgeNodes.clear();
+            addCommands();
+        }
+        try {
+            for (TransactionCommand command : commands) {
+                try {
+                    command.execute(transaction);
+                } catch (NullPointerException | NoSuchElementException | ClassCastException e) {
+                    LOG.warn("Exception trying to execute {}", command, e);
+                }
             }
+        } catch (IllegalStateException e) {
+            // The transaction is not committed and hence onFailure() is not invoked, but the commands executed so
+            // far may have updated the connection's indexes
+            key.clearIndexes();
+            throw e;
         }
     }
 
@@ -85,6 +138,8 @@ public class OvsdbOperationalCommandAggregator implements TransactionCommand {
 
     @Override
     public void onFailure(Throwable throwable) {
+        // The indexes may refer to data written by this transaction, the commands will be re-executed
+        key.clearIndexes();
         for (TransactionCommand command: commands) {
             command.onFailure(throwable);
         }
@@ -9,6 +9,8 @@ package org.opendaylight.ovsdb.southbound.transactions.md;
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
@@ -30,11 +32,18 @@ public class OvsdbPortRemoveCommand extends AbstractTransactionCommand {
     private static final Logger LOG = LoggerFactory.getLogger(OvsdbPortRemoveCommand.class);
 
     private final InstanceIdentifierCodec instanceIdentifierCodec;
+    private PortBridgeIndex portBridges;
 
     public OvsdbPortRemoveCommand(final InstanceIdentifierCodec instanceIdentifierCodec,
             final OvsdbConnectionInstance key, final TableUpdates updates, final DatabaseSchema dbSchema) {
+        this(instanceIdentifierCodec, key, updates, dbSchema, null);
+    }
+
+    OvsdbPortRemoveCommand(final InstanceIdentifierCodec instanceIdentifierCodec, final OvsdbConnectionInstance key,
+            final TableUpdates updates, final DatabaseSchema dbSchema, final PortBridgeIndex portBridges) {
         super(key, updates, dbSchema);
         this.instanceIdentifierCodec = instanceIdentifierCodec;
+        this.portBridges = portBridges;
     }
 
     @Override
@@ -43,35 +52,21 @@ public class OvsdbPortRemoveCommand extends AbstractTransactionCommand {
             Port.class, getUpdates(), getDbSchema());
         Map<UUID, Port> portUpdatedRows = TyperUtils.extractRowsUpdated(
                 Port.class, getUpdates(), getDbSchema());
-        Map<UUID,Bridge> bridgeUpdatedRows = TyperUtils.extractRowsUpdated(
-                Bridge.class, getUpdates(), getDbSchema());
-        Map<UUID,Bridge> bridgeUpdatedOldRows = TyperUtils.extractRowsOld(
-                Bridge.class, getUpdates(), getDbSchema());
+        final Set<String> updatedPortNames = portUpdatedRows.values().stream()
+            .map(Port::getName)
+            .collect(Collectors.toSet());
+        if (portBridges == null) {
+            portBridges = new PortBridgeIndex(getUpdates(), getDbSchema());
+        }
         for (Entry<UUID, Port> portRemoved: portRemovedRows.entrySet()) {
             final UUID portUuid = portRemoved.getKey();
             final Port port = portRemoved.getValue();
             final String portName = port.getName();
-            boolean isPortInUpdatedRows = portUpdatedRows.values()
-                .stream().anyMatch(updatedPort -> portName.equals(updatedPort.getName()));
-            if (isPortInUpdatedRows) {
+            if (updatedPortNames.contains(portName)) {
                 LOG.debug("port {} present in updated rows, skipping delete", portName);
                 continue;
             }
-            Bridge bridgeData = null;
-            for (Entry<UUID, Bridge> entry : bridgeUpdatedOldRows.entrySet()) {
-                UUID bridgeUuid = entry.getKey();
-                Bridge oldBridgeData = entry.getValue();
-                if (oldBridgeData.getPortsColumn() != null
-                        && oldBridgeData.getPortsColumn().getData().contains(port.getUuidColumn().getData())) {
-                    // We have a match, try updated bridge rows first...
-                    bridgeData = bridgeUpdatedRows.get(bridgeUuid);
-                    if (bridgeData == null) {
-                        // ... and fall back to old data
-                        bridgeData = oldBridgeData;
-                    }
-                    break;
-                }
-            }
+            final Bridge bridgeData = portBridges.getFormerBridge(port.getUuidColumn().getData());
             if (bridgeData == null) {
                 LOG.warn("Bridge not found for port {}", port);
                 continue;
@@ -84,6 +79,11 @@ public class OvsdbPortRemoveCommand extends AbstractTransactionCommand {
             // Remove from OvsdbConnection Instance cache
             getOvsdbConnectionInstance().removePort(portUuid);
             getOvsdbConnectionInstance().removePortInterface(portName);
+            if (port.getInterfacesColumn() != null) {
+                for (UUID interfaceUuid : port.getInterfacesColumn().getData()) {
+                    getOvsdbConnectionInstance().removeInterface(interfaceUuid);
+                }
+            }
         }
     }
 }
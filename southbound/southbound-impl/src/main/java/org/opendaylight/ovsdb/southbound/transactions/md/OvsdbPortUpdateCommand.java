@@ -10,14 +10,17 @@ package org.opendaylight.ovsdb.southbound.transactions.md;
 import static org.opendaylight.ovsdb.southbound.SouthboundUtil.schemaMismatchLog;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.ovsdb.lib.error.ColumnSchemaNotFoundException;
@@ -105,18 +108,24 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
     private final Map<UUID, Port> portOldRows;
     private final Map<UUID, Interface> interfaceUpdatedRows;
     private final Map<UUID, Interface> interfaceOldRows;
-    private final Map<UUID, Bridge> bridgeUpdatedRows;
     private final Map<UUID, Qos> qosUpdatedRows;
+    private PortBridgeIndex portBridges;
 
     public OvsdbPortUpdateCommand(InstanceIdentifierCodec instanceIdentifierCodec, OvsdbConnectionInstance key,
             TableUpdates updates, DatabaseSchema dbSchema) {
+        this(instanceIdentifierCodec, key, updates, dbSchema, null);
+    }
+
+    OvsdbPortUpdateCommand(InstanceIdentifierCodec instanceIdentifierCodec, OvsdbConnectionInstance key,
+            TableUpdates updates, DatabaseSchema dbSchema, PortBridgeIndex portBridges) {
         super(key, updates, dbSchema);
+        this.portBridges = portBridges;
         this.instanceIdentifierCodec = instanceIdentifierCodec;
         portUpdatedRows = TyperUtils.extractRowsUpdated(Port.class, updates, dbSchema);
         portOldRows = TyperUtils.extractRowsOld(Port.class, updates, dbSchema);
-        interfaceUpdatedRows = TyperUtils.extractRowsUpdated(Interface.class, updates, dbSchema);
-        interfaceOldRows = TyperUtils.extractRowsOld(Interface.class, updates, dbSchema);
-        bridgeUpdatedRows = TyperUtils.extractRowsUpdated(Bridge.class, updates, dbSchema);
+        // Interfaces are dropped from these as their ports are processed, work on copies
+        interfaceUpdatedRows = new HashMap<>(TyperUtils.extractRowsUpdated(Interface.class, updates, dbSchema));
+        interfaceOldRows = new HashMap<>(TyperUtils.extractRowsOld(Interface.class, updates, dbSchema));
         qosUpdatedRows = TyperUtils.extractRowsUpdated(Qos.class, updates, dbSchema);
     }
 
@@ -127,26 +136,46 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
                 || interfaceOldRows.isEmpty() && portUpdatedRows.isEmpty()) {
             return;
         }
-        Optional<Node> node = readNode(transaction, connectionIId);
-        if (node.isPresent()) {
-            updateTerminationPoints(transaction, node.orElseThrow());
+        // Bridges and QoS entries are mostly found in the connection's indexes, the node is read only if one is not
+        updateTerminationPoints(transaction, Suppliers.memoize(() -> readNode(transaction, connectionIId)));
+    }
+
+    /**
+     * Drop interfaces which were detached from a surviving port from the connection's index. This is done before any
+     * interface is indexed, so that an interface moving between ports in the same update keeps its new entry.
+     */
+    private void unindexDetachedInterfaces() {
+        for (Entry<UUID, Port> portUpdate : portUpdatedRows.entrySet()) {
+            final Port oldPort = portOldRows.get(portUpdate.getKey());
+            if (oldPort != null && oldPort.getInterfacesColumn() != null) {
+                final Set<UUID> interfaces = portUpdate.getValue().getInterfacesColumn().getData();
+                for (UUID interfaceUuid : oldPort.getInterfacesColumn().getData()) {
+                    if (!interfaces.contains(interfaceUuid)) {
+                        getOvsdbConnectionInstance().removeInterface(interfaceUuid);
+                    }
+                }
+            }
         }
     }
 
     @VisibleForTesting
-    void updateTerminationPoints(ReadWriteTransaction transaction, Node node) {
+    void updateTerminationPoints(ReadWriteTransaction transaction, Supplier<Optional<Node>> node) {
+        unindexDetachedInterfaces();
         for (Entry<UUID, Port> portUpdate : portUpdatedRows.entrySet()) {
             String portName = null;
             portName = portUpdate.getValue().getNameColumn().getData();
             Optional<InstanceIdentifier<Node>> optBridgeIid = getTerminationPointBridge(portUpdate.getKey());
             if (optBridgeIid.isEmpty()) {
-                optBridgeIid = getTerminationPointBridge(transaction, node, portName);
+                optBridgeIid = findTerminationPointBridge(transaction, node, portName);
             }
             if (optBridgeIid.isPresent()) {
                 InstanceIdentifier<Node> bridgeIid = optBridgeIid.orElseThrow();
                 final NodeId bridgeId = SouthboundMapper.createManagedNodeId(bridgeIid);
                 TerminationPointKey tpKey = new TerminationPointKey(new TpId(portName));
                 getOvsdbConnectionInstance().updatePortInterface(portName, bridgeIid);
+                for (UUID interfaceUuid : portUpdate.getValue().getInterfacesColumn().getData()) {
+                    getOvsdbConnectionInstance().updateInterface(interfaceUuid, bridgeIid);
+                }
                 TerminationPointBuilder tpBuilder = new TerminationPointBuilder();
                 tpBuilder.withKey(tpKey);
                 tpBuilder.setTpId(tpKey.getTpId());
@@ -175,9 +204,10 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
         }
         for (Entry<UUID, Interface> interfaceUpdate : interfaceUpdatedRows.entrySet()) {
             String interfaceName = null;
-            Optional<InstanceIdentifier<Node>> bridgeIid = Optional.empty();
             interfaceName = interfaceUpdatedRows.get(interfaceUpdate.getKey()).getNameColumn().getData();
-            if (getOvsdbConnectionInstance().getPortInterface(interfaceName) != null) {
+            Optional<InstanceIdentifier<Node>> bridgeIid = Optional.ofNullable(
+                getOvsdbConnectionInstance().getInterface(interfaceUpdate.getKey()));
+            if (bridgeIid.isEmpty() && getOvsdbConnectionInstance().getPortInterface(interfaceName) != null) {
                 bridgeIid = Optional.of(getOvsdbConnectionInstance().getPortInterface(interfaceName));
             }
             if (bridgeIid.isEmpty()) {
@@ -217,7 +247,7 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
     void buildTerminationPoint(ReadWriteTransaction transaction,
             InstanceIdentifier<TerminationPoint> tpPath,
             OvsdbTerminationPointAugmentationBuilder tpAugmentationBuilder,
-            Node node, Entry<UUID, Port> portUpdate) {
+            Supplier<Optional<Node>> node, Entry<UUID, Port> portUpdate) {
 
         tpAugmentationBuilder
                 .setName(portUpdate.getValue().getName());
@@ -249,17 +279,15 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
 
     private Optional<InstanceIdentifier<Node>> getTerminationPointBridge(UUID portUuid) {
 
-        if (bridgeUpdatedRows != null) {
-            for (Entry<UUID, Bridge> entry : this.bridgeUpdatedRows.entrySet()) {
-                UUID bridgeUuid = entry.getKey();
-                if (this.bridgeUpdatedRows.get(bridgeUuid).getPortsColumn().getData().contains(portUuid)) {
-                    final var iid = SouthboundMapper.createInstanceIdentifier(instanceIdentifierCodec,
-                        getOvsdbConnectionInstance(), this.bridgeUpdatedRows.get(bridgeUuid))
-                        .toLegacy();
-                    getOvsdbConnectionInstance().updatePort(portUuid, iid);
-                    return Optional.of(iid);
-                }
+        final Bridge bridge = getPortBridges().getBridge(portUuid);
+        if (bridge != null) {
+            InstanceIdentifier<Node> iid = getOvsdbConnectionInstance().getBridge(bridge.getUuid());
+            if (iid == null) {
+                iid = SouthboundMapper.createInstanceIdentifier(instanceIdentifierCodec,
+                    getOvsdbConnectionInstance(), bridge).toLegacy();
             }
+            getOvsdbConnectionInstance().updatePort(portUuid, iid);
+            return Optional.of(iid);
         }
         if (getOvsdbConnectionInstance().getPort(portUuid) != null) {
             return Optional.of(getOvsdbConnectionInstance().getPort(portUuid));
@@ -267,6 +295,16 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
         return Optional.empty();
     }
 
+    private Optional<InstanceIdentifier<Node>> findTerminationPointBridge(final ReadWriteTransaction transaction,
+            final Supplier<Optional<Node>> node, final String tpName) {
+        // Ports we have already placed are indexed by name, only scan the managed bridges for the others
+        final InstanceIdentifier<Node> iid = getOvsdbConnectionInstance().getPortInterface(tpName);
+        if (iid != null) {
+            return Optional.of(iid);
+        }
+        return node.get().flatMap(ovsdbNode -> getTerminationPointBridge(transaction, ovsdbNode, tpName));
+    }
+
     @SuppressWarnings("unchecked")
     // FIXME: non-static for implementation internals mocking
     private Optional<InstanceIdentifier<Node>> getTerminationPointBridge(
@@ -293,6 +331,13 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
         return Optional.empty();
     }
 
+    private PortBridgeIndex getPortBridges() {
+        if (portBridges == null) {
+            portBridges = new PortBridgeIndex(getUpdates(), getDbSchema());
+        }
+        return portBridges;
+    }
+
     @VisibleForTesting
     void updateInterfaces(Interface interfaceUpdate,
             final OvsdbTerminationPointAugmentationBuilder ovsdbTerminationPointBuilder) {
@@ -303,7 +348,7 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
     }
 
     @VisibleForTesting
-    void updatePort(final ReadWriteTransaction transaction, final Node node,
+    void updatePort(final ReadWriteTransaction transaction, final Supplier<Optional<Node>> node,
             final InstanceIdentifier<TerminationPoint> tpPath, final Entry<UUID, Port> port,
             final OvsdbTerminationPointAugmentationBuilder ovsdbTerminationPointBuilder) {
 
@@ -394,7 +439,7 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
         }
     }
 
-    private void updateQos(final ReadWriteTransaction transaction, final Node node,
+    private void updateQos(final ReadWriteTransaction transaction, final Supplier<Optional<Node>> node,
                            InstanceIdentifier<TerminationPoint> tpPath, final Entry<UUID, Port> port,
                            final OvsdbTerminationPointAugmentationBuilder ovsdbTerminationPointBuilder) {
         if (port.getValue() == null) {
@@ -404,16 +449,13 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
         if (!qosUuidCol.isEmpty()) {
             UUID qosUuid = qosUuidCol.iterator().next();
 
-            NodeId nodeId = node.getNodeId();
-            OvsdbNodeAugmentation ovsdbNode = node.augmentation(OvsdbNodeAugmentation.class);
-
             // Delete an older QoS entry
             if (portOldRows.containsKey(port.getKey()) && portOldRows.get(port.getKey()).getQosColumn() != null) {
                 Collection<UUID> oldQos = portOldRows.get(port.getKey()).getQosColumn().getData();
                 if (!oldQos.isEmpty()) {
                     UUID oldQosUuid = oldQos.iterator().next();
                     if (!oldQosUuid.equals(qosUuid)) {
-                        InstanceIdentifier<QosEntries> oldQosIid = getQosIid(nodeId, ovsdbNode, oldQosUuid);
+                        InstanceIdentifier<QosEntries> oldQosIid = getQosIid(node, oldQosUuid);
                         if (oldQosIid != null) {
                             InstanceIdentifier<QosEntry> oldPortQosIid = tpPath
                                 .augmentation(OvsdbTerminationPointAugmentation.class)
@@ -424,7 +466,7 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
                 }
             }
 
-            InstanceIdentifier<QosEntries> qosIid = getQosIid(nodeId, ovsdbNode, qosUuid);
+            InstanceIdentifier<QosEntries> qosIid = getQosIid(node, qosUuid);
             if (qosIid != null) {
                 ovsdbTerminationPointBuilder.setQosEntry(
                     Map.of(SouthboundConstants.PORT_QOS_LIST_KEY, new QosEntryBuilder()
@@ -436,8 +478,20 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
     }
 
     @SuppressWarnings("unchecked")
-    private InstanceIdentifier<QosEntries> getQosIid(NodeId nodeId, OvsdbNodeAugmentation ovsdbNode, UUID qosUuid) {
-        // Search for the QoS entry first in the operational datastore
+    private InstanceIdentifier<QosEntries> getQosIid(Supplier<Optional<Node>> node, UUID qosUuid) {
+        // Look up QoS entries we have already seen being added
+        final InstanceIdentifier<QosEntries> qosIid = getOvsdbConnectionInstance().getQos(qosUuid);
+        if (qosIid != null) {
+            return qosIid;
+        }
+        final Optional<Node> optNode = node.get();
+        if (optNode.isEmpty()) {
+            return null;
+        }
+        final NodeId nodeId = optNode.orElseThrow().getNodeId();
+        final OvsdbNodeAugmentation ovsdbNode = optNode.orElseThrow().augmentation(OvsdbNodeAugmentation.class);
+
+        // Search for the QoS entry in the operational datastore
         final Uuid uuid = new Uuid(qosUuid.toString());
         for (QosEntries qosEntry : ovsdbNode.nonnullQosEntries().values()) {
             if (uuid.equals(qosEntry.getQosUuid())) {
@@ -50,23 +50,38 @@ public class OvsdbQosRemovedCommand extends AbstractTransactionCommand {
             return;
         }
 
-        final InstanceIdentifier<Node> nodeIId = getOvsdbConnectionInstance().getInstanceIdentifier();
-        final Optional<Node> ovsdbNode = SouthboundUtil.readNode(transaction, nodeIId);
-        if (ovsdbNode.isPresent()) {
-            List<InstanceIdentifier<QosEntries>> result = new ArrayList<>();
-            InstanceIdentifier<Node> ovsdbNodeIid =
-                    SouthboundMapper.createInstanceIdentifier(getOvsdbConnectionInstance().getNodeId());
-            for (UUID qosUuid : removedQosRows.keySet()) {
-                QosEntriesKey qosKey = getQosEntriesKey(ovsdbNode.orElseThrow(), qosUuid);
-                if (qosKey != null) {
-                    InstanceIdentifier<QosEntries> iid = ovsdbNodeIid
-                        .augmentation(OvsdbNodeAugmentation.class)
-                        .child(QosEntries.class, qosKey);
-                    result.add(iid);
+        // Rows we have seen being added can be deleted directly, only the rest require reading the node
+        final OvsdbConnectionInstance connectionInstance = getOvsdbConnectionInstance();
+        List<InstanceIdentifier<QosEntries>> result = new ArrayList<>();
+        List<UUID> unindexed = new ArrayList<>();
+        for (UUID qosUuid : removedQosRows.keySet()) {
+            final InstanceIdentifier<QosEntries> iid = connectionInstance.getQos(qosUuid);
+            if (iid != null) {
+                result.add(iid);
+                connectionInstance.removeQos(qosUuid);
+            } else {
+                unindexed.add(qosUuid);
+            }
+        }
+
+        if (!unindexed.isEmpty()) {
+            final InstanceIdentifier<Node> nodeIId = connectionInstance.getInstanceIdentifier();
+            final Optional<Node> ovsdbNode = SouthboundUtil.readNode(transaction, nodeIId);
+            if (ovsdbNode.isPresent()) {
+                InstanceIdentifier<Node> ovsdbNodeIid =
+                        SouthboundMapper.createInstanceIdentifier(connectionInstance.getNodeId());
+                for (UUID qosUuid : unindexed) {
+                    QosEntriesKey qosKey = getQosEntriesKey(ovsdbNode.orElseThrow(), qosUuid);
+                    if (qosKey != null) {
+                        InstanceIdentifier<QosEntries> iid = ovsdbNodeIid
+                            .augmentation(OvsdbNodeAugmentation.class)
+                            .child(QosEntries.class, qosKey);
+                        result.add(iid);
+                    }
                 }
             }
-            deleteQos(transaction, result);
         }
+        deleteQos(transaction, result);
     }
 
     private static QosEntriesKey getQosEntriesKey(Node node, UUID qosUuid) {
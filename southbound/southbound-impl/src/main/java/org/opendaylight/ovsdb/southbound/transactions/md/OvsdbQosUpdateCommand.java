@@ -114,6 +114,7 @@ public class OvsdbQosUpdateCommand extends AbstractTransactionCommand {
                         .augmentation(OvsdbNodeAugmentation.class)
                         .child(QosEntries.class, qosEntry.key());
                 transaction.merge(LogicalDatastoreType.OPERATIONAL, iid.toIdentifier(), qosEntry);
+                getOvsdbConnectionInstance().updateQos(entry.getKey(), iid);
             }
         }
     }
@@ -140,12 +141,7 @@ public class OvsdbQosUpdateCommand extends AbstractTransactionCommand {
     }
 
     private Queue getQueue(UUID queueUuid) {
-        for (Entry<UUID, Queue> entry : updatedQueueRows.entrySet()) {
-            if (entry.getKey().equals(queueUuid)) {
-                return entry.getValue();
-            }
-        }
-        return null;
+        return updatedQueueRows.get(queueUuid);
     }
 
     @SuppressWarnings("unchecked")
@@ -157,6 +153,10 @@ public class OvsdbQosUpdateCommand extends AbstractTransactionCommand {
             return (InstanceIdentifier<Queues>) instanceIdentifierCodec.bindingDeserializerOrNull(
                     queue.getExternalIdsColumn().getData().get(SouthboundConstants.IID_EXTERNAL_ID_KEY));
         } else {
+            final InstanceIdentifier<Queues> queueIid = getOvsdbConnectionInstance().getQueue(queueUuid);
+            if (queueIid != null) {
+                return queueIid;
+            }
             OvsdbNodeAugmentation node = ovsdbNode.augmentation(OvsdbNodeAugmentation.class);
             Map<QueuesKey, Queues> queues = node.getQueues();
             if (queues != null) {
@@ -49,23 +49,38 @@ public class OvsdbQueueRemovedCommand extends AbstractTransactionCommand {
             return;
         }
 
-        final InstanceIdentifier<Node> nodeIId = getOvsdbConnectionInstance().getInstanceIdentifier();
-        final Optional<Node> ovsdbNode = SouthboundUtil.readNode(transaction, nodeIId);
-        if (ovsdbNode.isPresent()) {
-            List<InstanceIdentifier<Queues>> result = new ArrayList<>();
-            InstanceIdentifier<Node> ovsdbNodeIid =
-                    SouthboundMapper.createInstanceIdentifier(getOvsdbConnectionInstance().getNodeId());
-            for (UUID queueUuid : removedQueueRows.keySet()) {
-                QueuesKey queueKey = getQueueKey(ovsdbNode.orElseThrow(), queueUuid);
-                if (queueKey != null) {
-                    InstanceIdentifier<Queues> iid = ovsdbNodeIid
-                        .augmentation(OvsdbNodeAugmentation.class)
-                        .child(Queues.class, queueKey);
-                    result.add(iid);
+        // Rows we have seen being added can be deleted directly, only the rest require reading the node
+        final OvsdbConnectionInstance connectionInstance = getOvsdbConnectionInstance();
+        List<InstanceIdentifier<Queues>> result = new ArrayList<>();
+        List<UUID> unindexed = new ArrayList<>();
+        for (UUID queueUuid : removedQueueRows.keySet()) {
+            final InstanceIdentifier<Queues> iid = connectionInstance.getQueue(queueUuid);
+            if (iid != null) {
+                result.add(iid);
+                connectionInstance.removeQueue(queueUuid);
+            } else {
+                unindexed.add(queueUuid);
+            }
+        }
+
+        if (!unindexed.isEmpty()) {
+            final InstanceIdentifier<Node> nodeIId = connectionInstance.getInstanceIdentifier();
+            final Optional<Node> ovsdbNode = SouthboundUtil.readNode(transaction, nodeIId);
+            if (ovsdbNode.isPresent()) {
+                InstanceIdentifier<Node> ovsdbNodeIid =
+                        SouthboundMapper.createInstanceIdentifier(connectionInstance.getNodeId());
+                for (UUID queueUuid : unindexed) {
+                    QueuesKey queueKey = getQueueKey(ovsdbNode.orElseThrow(), queueUuid);
+                    if (queueKey != null) {
+                        InstanceIdentifier<Queues> iid = ovsdbNodeIid
+                            .augmentation(OvsdbNodeAugmentation.class)
+                            .child(Queues.class, queueKey);
+                        result.add(iid);
+                    }
                 }
             }
-            deleteQueue(transaction, result);
         }
+        deleteQueue(transaction, result);
     }
 
     private static QueuesKey getQueueKey(Node node, UUID queueUuid) {
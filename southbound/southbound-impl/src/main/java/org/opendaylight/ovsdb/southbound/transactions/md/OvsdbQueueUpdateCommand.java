@@ -103,6 +103,7 @@ public class OvsdbQueueUpdateCommand extends AbstractTransactionCommand {
                         .augmentation(OvsdbNodeAugmentation.class)
                         .child(Queues.class, queues.key());
                 transaction.merge(LogicalDatastoreType.OPERATIONAL, iid.toIdentifier(), queues);
+                getOvsdbConnectionInstance().updateQueue(entry.getKey(), iid);
             }
         }
     }
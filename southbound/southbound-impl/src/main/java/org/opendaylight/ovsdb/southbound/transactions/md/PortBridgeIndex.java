@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.southbound.transactions.md;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.TyperUtils;
+import org.opendaylight.ovsdb.schema.openvswitch.Bridge;
+
+/**
+ * Index of the bridges listing each port in the bridge rows of a single update. It is shared by the port commands
+ * processing the update, and built on first use. Like the commands themselves, it is not thread-safe.
+ */
+final class PortBridgeIndex {
+    private final TableUpdates updates;
+    private final DatabaseSchema dbSchema;
+    private Map<UUID, Bridge> updatedBridges;
+    private Map<UUID, Bridge> oldBridges;
+    private Map<UUID, UUID> updatedPortBridges;
+    private Map<UUID, UUID> oldPortBridges;
+
+    PortBridgeIndex(final TableUpdates updates, final DatabaseSchema dbSchema) {
+        this.updates = updates;
+        this.dbSchema = dbSchema;
+    }
+
+    /**
+     * Return the updated row of the bridge which lists a port.
+     *
+     * @param portUuid port UUID
+     * @return the bridge, or null if no updated bridge row lists the port
+     */
+    Bridge getBridge(final UUID portUuid) {
+        if (updatedPortBridges == null) {
+            updatedPortBridges = indexPorts(updatedBridges());
+        }
+        final UUID bridgeUuid = updatedPortBridges.get(portUuid);
+        return bridgeUuid == null ? null : updatedBridges().get(bridgeUuid);
+    }
+
+    /**
+     * Return the bridge which listed a port before the update. Its updated row is preferred over its old row.
+     *
+     * @param portUuid port UUID
+     * @return the bridge, or null if no old bridge row lists the port
+     */
+    Bridge getFormerBridge(final UUID portUuid) {
+        if (oldPortBridges == null) {
+            oldPortBridges = indexPorts(oldBridges());
+        }
+        final UUID bridgeUuid = oldPortBridges.get(portUuid);
+        if (bridgeUuid == null) {
+            return null;
+        }
+        final Bridge bridge = updatedBridges().get(bridgeUuid);
+        return bridge != null ? bridge : oldBridges().get(bridgeUuid);
+    }
+
+    private Map<UUID, Bridge> updatedBridges() {
+        if (updatedBridges == null) {
+            updatedBridges = nonNull(TyperUtils.extractRowsUpdated(Bridge.class, updates, dbSchema));
+        }
+        return updatedBridges;
+    }
+
+    private Map<UUID, Bridge> oldBridges() {
+        if (oldBridges == null) {
+            oldBridges = nonNull(TyperUtils.extractRowsOld(Bridge.class, updates, dbSchema));
+        }
+        return oldBridges;
+    }
+
+    private static Map<UUID, Bridge> nonNull(final Map<UUID, Bridge> rows) {
+        return rows != null ? rows : Map.of();
+    }
+
+    private static Map<UUID, UUID> indexPorts(final Map<UUID, Bridge> bridges) {
+        final Map<UUID, UUID> ret = new HashMap<>();
+        for (Entry<UUID, Bridge> entry : bridges.entrySet()) {
+            final Bridge bridge = entry.getValue();
+            if (bridge.getPortsColumn() != null) {
+                for (UUID portUuid : bridge.getPortsColumn().getData()) {
+                    ret.putIfAbsent(portUuid, entry.getKey());
+                }
+            }
+        }
+        return ret;
+    }
+}
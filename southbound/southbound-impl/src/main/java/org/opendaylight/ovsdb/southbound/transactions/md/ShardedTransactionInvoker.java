@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.southbound.transactions.md;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link TransactionInvoker} which spreads commands over a number of {@link TransactionInvokerImpl} shards. Commands
+ * concerning the same device node always go to the same shard, hence they are executed in order, even across
+ * reconnects of the device. Each shard has its own thread, queue and transaction chain, so that a slow or failing
+ * device only holds up the devices sharing its shard. Commands not associated with a device node are executed by the
+ * first shard.
+ */
+public final class ShardedTransactionInvoker implements TransactionInvoker, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedTransactionInvoker.class);
+
+    private final ImmutableList<TransactionInvokerImpl> shards;
+
+    /**
+     * Create a new instance.
+     *
+     * @param db data broker
+     * @param shardCount number of shards, 0 to use the number of available processors
+     */
+    public ShardedTransactionInvoker(final DataBroker db, final int shardCount) {
+        checkArgument(shardCount >= 0, "Invalid shard count %s", shardCount);
+        final int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        final ImmutableList.Builder<TransactionInvokerImpl> builder = ImmutableList.builderWithExpectedSize(count);
+        for (int i = 0; i < count; i++) {
+            builder.add(new TransactionInvokerImpl(db));
+        }
+        shards = builder.build();
+        LOG.info("Operational updates are processed by {} transaction invokers", count);
+    }
+
+    @VisibleForTesting
+    ShardedTransactionInvoker(final List<TransactionInvokerImpl> shards) {
+        checkArgument(!shards.isEmpty(), "At least one shard is required");
+        this.shards = ImmutableList.copyOf(shards);
+    }
+
+    @Override
+    public void invoke(final TransactionCommand command) {
+        shards.get(0).invoke(command);
+    }
+
+    @Override
+    public void invoke(final TransactionCommand command, final OvsdbClient source) {
+        // Without a node we cannot order the command with the device's other commands
+        shards.get(0).invoke(command, source);
+    }
+
+    @Override
+    public void invoke(final TransactionCommand command, final InstanceIdentifier<Node> node,
+            final OvsdbClient source) {
+        if (node == null) {
+            invoke(command, source);
+        } else {
+            shardOf(node).invoke(command, source);
+        }
+    }
+
+    /**
+     * Return the shards, for example to observe their queue depths and commit latencies.
+     *
+     * @return the shards
+     */
+    public List<TransactionInvokerImpl> getShards() {
+        return shards;
+    }
+
+    /**
+     * Return the number of devices reading from which is currently suspended, summed over all shards.
+     *
+     * @return number of paused devices
+     */
+    public int getPausedConnectionCount() {
+        return shards.stream().mapToInt(TransactionInvokerImpl::getPausedConnectionCount).sum();
+    }
+
+    /**
+     * Return the total time reading from devices has been suspended, summed over all devices of all shards.
+     *
+     * @return time paused, in nanoseconds
+     */
+    public long getPausedNanos() {
+        return shards.stream().mapToLong(TransactionInvokerImpl::getPausedNanos).sum();
+    }
+
+    @VisibleForTesting
+    TransactionInvokerImpl shardOf(final InstanceIdentifier<Node> node) {
+        return shards.get(Math.floorMod(node.hashCode(), shards.size()));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        InterruptedException failure = null;
+        for (TransactionInvokerImpl shard : shards) {
+            try {
+                shard.close();
+            } catch (InterruptedException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -19,4 +19,16 @@ public interface TransactionCommand {
 
     default void onFailure(Throwable throwable) {
     }
+
+    /**
+     * Attempt to merge a command which immediately follows this one for the same device, so that executing this
+     * command has the combined effect of both. If this method returns true, {@code next} is neither executed nor
+     * notified of the outcome. This is only invoked before this command is first executed.
+     *
+     * @param next the following command
+     * @return true if {@code next} has been merged into this command
+     */
+    default boolean merge(TransactionCommand next) {
+        return false;
+    }
 }
@@ -8,9 +8,37 @@
 
 package org.opendaylight.ovsdb.southbound.transactions.md;
 
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
 public interface TransactionInvoker {
 
     void invoke(TransactionCommand command);
 
+    /**
+     * Invoke a command produced by reading from a device. Reading from the device may be suspended while the command
+     * is pending, so that a busy device is pushed back on instead of having its commands dropped.
+     *
+     * @param command command to invoke
+     * @param source connection to the device the command originates from, or null if it is not known
+     */
+    void invoke(TransactionCommand command, OvsdbClient source);
+
+    /**
+     * Invoke a command concerning a particular device. Commands concerning the same device node are executed in the
+     * order they were invoked, even if they originate from different connections to that device, such as the removal
+     * of the node on disconnect and the initial update of the next connection.
+     *
+     * @param command command to invoke
+     * @param node identifier of the device node
+     * @param source connection to the device the command originates from, or null if it does not come from reading
+     *               a device
+     */
+    default void invoke(final TransactionCommand command, final InstanceIdentifier<Node> node,
+            final OvsdbClient source) {
+        invoke(command, source);
+    }
+
     void close() throws InterruptedException;
 }
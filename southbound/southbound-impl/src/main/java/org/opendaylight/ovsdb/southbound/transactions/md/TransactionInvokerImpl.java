@@ -16,8 +16,10 @@ import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
@@ -27,35 +29,107 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.binding.api.Transaction;
 import org.opendaylight.mdsal.binding.api.TransactionChain;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class TransactionInvokerImpl implements TransactionInvoker, Runnable, AutoCloseable {
+    /**
+     * Flow control state of a device whose commands are pending.
+     */
+    private static final class Source {
+        int pending;
+        long pausedSince;
+        boolean paused;
+    }
+
+    /**
+     * A command tracked against the device it originates from until it has been executed.
+     */
+    private static final class SourcedCommand implements TransactionCommand {
+        private final AtomicBoolean released = new AtomicBoolean();
+        // Commands merged into this one, accessed only by the invoker thread
+        private final List<SourcedCommand> merged = new ArrayList<>();
+        private final TransactionCommand delegate;
+        private final OvsdbClient source;
+
+        SourcedCommand(final TransactionCommand delegate, final OvsdbClient source) {
+            this.delegate = delegate;
+            this.source = source;
+        }
+
+        @Override
+        public void execute(final ReadWriteTransaction transaction) {
+            delegate.execute(transaction);
+        }
+
+        @Override
+        public void onSuccess() {
+            delegate.onSuccess();
+        }
+
+        @Override
+        public void onFailure(final Throwable throwable) {
+            delegate.onFailure(throwable);
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(TransactionInvokerImpl.class);
+    // Number of queued commands beyond which commands not associated with a device are rejected. Commands from
+    // devices are always queued, as they are bounded by suspending reads from the devices.
     private static final int QUEUE_SIZE = 10000;
+    // Reading from a device is suspended once it has DEVICE_HIGH_WATERMARK commands pending, or once all devices, or
+    // the queue as a whole, have QUEUE_HIGH_WATERMARK commands pending. It is resumed once the counts of the devices
+    // drop to their low watermarks.
+    private static final int QUEUE_HIGH_WATERMARK = QUEUE_SIZE * 8 / 10;
+    private static final int QUEUE_LOW_WATERMARK = QUEUE_SIZE / 2;
+    private static final int DEVICE_HIGH_WATERMARK = 1000;
+    private static final int DEVICE_LOW_WATERMARK = DEVICE_HIGH_WATERMARK / 2;
+    // Shared, so that each instance in a ShardedTransactionInvoker gets a distinct thread name
+    private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder()
+        .setNameFormat("transaction-invoker-impl-%d").build();
 
     private final DataBroker db;
-    private final BlockingQueue<TransactionCommand> inputQueue = new LinkedBlockingQueue<>(QUEUE_SIZE);
+    private final BlockingQueue<TransactionCommand> inputQueue = new LinkedBlockingQueue<>();
     private final BlockingQueue<Transaction> failedTransactionQueue = new LinkedBlockingQueue<>(QUEUE_SIZE);
     private final ExecutorService executor;
 
     private final AtomicBoolean runTask = new AtomicBoolean(true);
+    private final LongAdder commitCount = new LongAdder();
+    private final LongAdder commitNanos = new LongAdder();
+    private final AtomicLong maxCommitNanos = new AtomicLong();
+    private final LongAdder mergedCount = new LongAdder();
 
     @GuardedBy("this")
     private final Queue<Entry<ReadWriteTransaction, TransactionCommand>> pendingTransactions = new ArrayDeque<>();
     @GuardedBy("this")
     private TransactionChain chain;
 
+    @GuardedBy("sources")
+    private final Map<OvsdbClient, Source> sources = new HashMap<>();
+    @GuardedBy("sources")
+    private final Map<OvsdbClient, Source> pausedSources = new HashMap<>();
+    @GuardedBy("sources")
+    private int sourcedPending;
+    @GuardedBy("sources")
+    private long pausedNanos;
+
     public TransactionInvokerImpl(final DataBroker db) {
         this.db = db;
         chain = db.createTransactionChain();
-        ThreadFactory threadFact = new ThreadFactoryBuilder().setNameFormat("transaction-invoker-impl-%d").build();
-        executor = Executors.newSingleThreadExecutor(threadFact);
+        executor = Executors.newSingleThreadExecutor(THREAD_FACTORY);
         executor.execute(this);
     }
 
@@ -85,10 +159,152 @@ public final class TransactionInvokerImpl implements TransactionInvoker, Runnabl
 
     @Override
     public void invoke(final TransactionCommand command) {
-        // TODO what do we do if queue is full?
-        if (!inputQueue.offer(command)) {
+        // The caller may be a shared thread, hence we must not block it until the queue drains
+        if (inputQueue.size() >= QUEUE_SIZE) {
             LOG.error("inputQueue is full (size: {}) - could not offer {}", inputQueue.size(), command);
+            return;
         }
+        inputQueue.add(command);
+    }
+
+    @Override
+    public void invoke(final TransactionCommand command, final OvsdbClient source) {
+        if (source == null) {
+            invoke(command);
+            return;
+        }
+
+        // Updates already read from the device cannot be dropped. They may overflow QUEUE_SIZE, but by no more than
+        // what the devices send before reads from them are suspended at the watermarks.
+        acquire(source);
+        inputQueue.add(new SourcedCommand(command, source));
+    }
+
+    /**
+     * Return the number of devices reading from which is currently suspended.
+     *
+     * @return number of paused devices
+     */
+    public int getPausedConnectionCount() {
+        synchronized (sources) {
+            return pausedSources.size();
+        }
+    }
+
+    /**
+     * Return the total time reading from devices has been suspended, summed over all devices.
+     *
+     * @return time paused, in nanoseconds
+     */
+    public long getPausedNanos() {
+        synchronized (sources) {
+            final long now = System.nanoTime();
+            long ret = pausedNanos;
+            for (Source state : pausedSources.values()) {
+                ret += now - state.pausedSince;
+            }
+            return ret;
+        }
+    }
+
+    /**
+     * Return the number of commands waiting to be executed.
+     *
+     * @return current queue depth
+     */
+    public int getQueueDepth() {
+        return inputQueue.size();
+    }
+
+    /**
+     * Return the number of transactions which have completed their commit, successfully or not.
+     *
+     * @return number of commits
+     */
+    public long getCommitCount() {
+        return commitCount.sum();
+    }
+
+    /**
+     * Return the total time between submitting transactions and their commits completing.
+     *
+     * @return commit latency summed over all commits, in nanoseconds
+     */
+    public long getCommitNanos() {
+        return commitNanos.sum();
+    }
+
+    /**
+     * Return the longest time between submitting a transaction and its commit completing.
+     *
+     * @return maximum commit latency, in nanoseconds
+     */
+    public long getMaxCommitNanos() {
+        return maxCommitNanos.get();
+    }
+
+    /**
+     * Return the number of commands which have been merged into a preceding command from the same device instead of
+     * being executed in a transaction of their own.
+     *
+     * @return number of merged commands
+     */
+    public long getMergedCommandCount() {
+        return mergedCount.sum();
+    }
+
+    private void acquire(final OvsdbClient source) {
+        synchronized (sources) {
+            final Source state = sources.computeIfAbsent(source, key -> new Source());
+            state.pending++;
+            sourcedPending++;
+            if (!state.paused && (state.pending >= DEVICE_HIGH_WATERMARK || sourcedPending >= QUEUE_HIGH_WATERMARK
+                    || inputQueue.size() >= QUEUE_HIGH_WATERMARK)) {
+                LOG.debug("Suspending reads from {} with {} of {} commands pending", source, state.pending,
+                    sourcedPending);
+                state.paused = true;
+                state.pausedSince = System.nanoTime();
+                pausedSources.put(source, state);
+                source.suspendReading();
+            }
+        }
+    }
+
+    @VisibleForTesting
+    void release(final TransactionCommand command) {
+        if (!(command instanceof SourcedCommand sourced) || !sourced.released.compareAndSet(false, true)) {
+            return;
+        }
+        sourced.merged.forEach(this::release);
+
+        synchronized (sources) {
+            sourcedPending--;
+            final Source state = sources.get(sourced.source);
+            if (--state.pending == 0 && !state.paused) {
+                sources.remove(sourced.source);
+            }
+            if (sourcedPending <= QUEUE_LOW_WATERMARK && !pausedSources.isEmpty()) {
+                final Iterator<Entry<OvsdbClient, Source>> it = pausedSources.entrySet().iterator();
+                while (it.hasNext()) {
+                    final Entry<OvsdbClient, Source> entry = it.next();
+                    if (entry.getValue().pending <= DEVICE_LOW_WATERMARK) {
+                        it.remove();
+                        resume(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+        }
+    }
+
+    @GuardedBy("sources")
+    private void resume(final OvsdbClient source, final Source state) {
+        LOG.debug("Resuming reads from {} with {} commands pending", source, state.pending);
+        state.paused = false;
+        pausedNanos += System.nanoTime() - state.pausedSince;
+        if (state.pending == 0) {
+            sources.remove(source);
+        }
+        source.resumeReading();
     }
 
     @Override
@@ -102,7 +318,10 @@ public final class TransactionInvokerImpl implements TransactionInvoker, Runnabl
                 continue;
             }
 
-            commands.forEach(this::executeCommand);
+            for (TransactionCommand command : commands) {
+                executeCommand(command);
+                release(command);
+            }
         }
     }
 
@@ -113,15 +332,18 @@ public final class TransactionInvokerImpl implements TransactionInvoker, Runnabl
             transactionInFlight = transaction;
             recordPendingTransaction(command, transaction);
             command.execute(transaction);
+            final long submitted = System.nanoTime();
             Futures.addCallback(transaction.commit(), new FutureCallback<Object>() {
                 @Override
                 public void onSuccess(final Object result) {
+                    recordCommit(submitted);
                     forgetSuccessfulTransaction(transaction);
                     command.onSuccess();
                 }
 
                 @Override
                 public void onFailure(final Throwable throwable) {
+                    recordCommit(submitted);
                     LOG.error("Failed to write operational topology", throwable);
                     offerFailedTransaction(transaction);
                     command.onFailure(throwable);
@@ -139,6 +361,13 @@ public final class TransactionInvokerImpl implements TransactionInvoker, Runnabl
         }
     }
 
+    private void recordCommit(final long submitted) {
+        final long elapsed = System.nanoTime() - submitted;
+        commitCount.increment();
+        commitNanos.add(elapsed);
+        maxCommitNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
     private void offerFailedTransaction(final Transaction transaction) {
         if (!failedTransactionQueue.offer(transaction)) {
             LOG.warn("failedTransactionQueue is full (size: {})", failedTransactionQueue.size());
@@ -205,11 +434,43 @@ public final class TransactionInvokerImpl implements TransactionInvoker, Runnabl
         TransactionCommand command = inputQueue.take();
         result.add(command);
         inputQueue.drainTo(result);
+        return mergeCommands(result);
+    }
+
+    /**
+     * Merge consecutive commands from the same device, so that a burst of updates results in a single transaction.
+     * Commands from other devices may be interleaved, but a command not associated with a device may touch any of them
+     * and hence prevents merging across it.
+     */
+    private List<TransactionCommand> mergeCommands(final List<TransactionCommand> commands) {
+        final Map<OvsdbClient, SourcedCommand> last = new HashMap<>();
+        final List<TransactionCommand> result = new ArrayList<>(commands.size());
+        for (TransactionCommand command : commands) {
+            if (command instanceof SourcedCommand sourced) {
+                final SourcedCommand prev = last.get(sourced.source);
+                if (prev != null && prev.delegate.merge(sourced.delegate)) {
+                    prev.merged.add(sourced);
+                    mergedCount.increment();
+                    continue;
+                }
+                last.put(sourced.source, sourced);
+            } else {
+                last.clear();
+            }
+            result.add(command);
+        }
+        if (result.size() < commands.size()) {
+            LOG.debug("Merged {} commands into {}", commands.size(), result.size());
+        }
         return result;
     }
 
     @Override
     public void close() throws InterruptedException {
+        synchronized (sources) {
+            pausedSources.forEach(this::resume);
+            pausedSources.clear();
+        }
         this.executor.shutdown();
 
         synchronized (this) {
@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -40,9 +41,11 @@ import org.opendaylight.ovsdb.lib.MonitorHandle;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.UUID;
 import org.opendaylight.ovsdb.lib.operations.DefaultOperations;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.lib.schema.typed.TypedDatabaseSchema;
@@ -51,7 +54,13 @@ import org.opendaylight.ovsdb.southbound.ovsdb.transact.DataChangeEvent;
 import org.opendaylight.ovsdb.southbound.ovsdb.transact.TransactCommand;
 import org.opendaylight.ovsdb.southbound.ovsdb.transact.TransactInvoker;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbNodeAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.ConnectionInfo;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntries;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntriesKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.Queues;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QueuesKey;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
@@ -68,7 +77,7 @@ public class OvsdbConnectionInstanceTest {
     @Mock private OvsdbClient client;
     @Mock private ConnectionInfo connectionInfo;
     @Mock private TransactionInvoker txInvoker;
-    @Mock private MonitorCallBack callback;
+    @Mock private OvsdbMonitorCallback callback;
     @Mock private ConnectionInfo key;
 
     private final InstanceIdentifier<Node> instanceIdentifier = InstanceIdentifier.create(NetworkTopology.class)
@@ -103,6 +112,30 @@ public class OvsdbConnectionInstanceTest {
                 any(DataChangeEvent.class), any(InstanceIdentifierCodec.class));
     }
 
+    @Test
+    public void testClearIndexes() {
+        final UUID uuid = new UUID("00000000-0000-0000-0000-000000000001");
+        final InstanceIdentifier<QosEntries> qosIid = instanceIdentifier.augmentation(OvsdbNodeAugmentation.class)
+            .child(QosEntries.class, new QosEntriesKey(new Uri("qos")));
+        final InstanceIdentifier<Queues> queueIid = instanceIdentifier.augmentation(OvsdbNodeAugmentation.class)
+            .child(Queues.class, new QueuesKey(new Uri("queue")));
+        ovsdbConnectionInstance.updateBridge(uuid, instanceIdentifier);
+        ovsdbConnectionInstance.updateInterface(uuid, instanceIdentifier);
+        ovsdbConnectionInstance.updateController(uuid, instanceIdentifier);
+        ovsdbConnectionInstance.updateQos(uuid, qosIid);
+        ovsdbConnectionInstance.updateQueue(uuid, queueIid);
+        assertEquals(instanceIdentifier, ovsdbConnectionInstance.getBridge(uuid));
+        assertEquals(qosIid, ovsdbConnectionInstance.getQos(uuid));
+        assertEquals(queueIid, ovsdbConnectionInstance.getQueue(uuid));
+
+        ovsdbConnectionInstance.clearIndexes();
+        assertNull(ovsdbConnectionInstance.getBridge(uuid));
+        assertNull(ovsdbConnectionInstance.getInterface(uuid));
+        assertNull(ovsdbConnectionInstance.getController(uuid));
+        assertNull(ovsdbConnectionInstance.getQos(uuid));
+        assertNull(ovsdbConnectionInstance.getQueue(uuid));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testRegisterCallbacks() throws Exception {
@@ -182,6 +215,49 @@ public class OvsdbConnectionInstanceTest {
         verify(ovsdbConnectionInstance, times(1)).monitorTables(anyString(), any(DatabaseSchema.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMonitorTablesResume() throws Exception {
+        DatabaseSchema dbSchema = mock(DatabaseSchema.class);
+        when(dbSchema.getTables()).thenReturn(Set.of("Bridge"));
+        GenericTableSchema tableSchema = mock(GenericTableSchema.class);
+        when(dbSchema.table(anyString(), eq(GenericTableSchema.class))).thenReturn(tableSchema);
+        when(tableSchema.getColumns()).thenReturn(Set.of("name"));
+
+        DatabaseReplica replica = new DatabaseReplica(SouthboundConstants.OPEN_V_SWITCH);
+        ovsdbConnectionInstance.setReplica(replica);
+        TableUpdates changes = mock(TableUpdates.class);
+        doReturn(changes).when(ovsdbConnectionInstance).monitorCondSince(any(DatabaseSchema.class), any(List.class),
+            any(MonitorCallBack.class), any(DatabaseReplica.class));
+        getField(OvsdbConnectionInstance.class, "callback").set(ovsdbConnectionInstance, callback);
+
+        // Only the changes are reported, not the complete replica
+        Whitebox.invokeMethod(ovsdbConnectionInstance, "monitorTables", "database", dbSchema);
+        verify(callback).resume(changes, replica, dbSchema);
+        verify(callback, never()).update(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMonitorTablesResumeFailure() throws Exception {
+        DatabaseSchema dbSchema = mock(DatabaseSchema.class);
+        when(dbSchema.getTables()).thenReturn(Set.of("Bridge"));
+        GenericTableSchema tableSchema = mock(GenericTableSchema.class);
+        when(dbSchema.table(anyString(), eq(GenericTableSchema.class))).thenReturn(tableSchema);
+        when(tableSchema.getColumns()).thenReturn(Set.of("name"));
+
+        ovsdbConnectionInstance.setReplica(new DatabaseReplica(SouthboundConstants.OPEN_V_SWITCH));
+        doReturn(null).when(ovsdbConnectionInstance).monitorCondSince(any(DatabaseSchema.class), any(List.class),
+            any(MonitorCallBack.class), any(DatabaseReplica.class));
+        getField(OvsdbConnectionInstance.class, "callback").set(ovsdbConnectionInstance, callback);
+
+        // A failed monitor is not reported as an empty update, the connection is retried instead
+        Whitebox.invokeMethod(ovsdbConnectionInstance, "monitorTables", "database", dbSchema);
+        verify(client).disconnect();
+        verify(callback, never()).resume(any(), any(), any());
+        verify(callback, never()).update(any(), any());
+    }
+
     @SuppressWarnings({ "unchecked" })
     @Test
     public void testOvsdbConnectionInstance() throws Exception {
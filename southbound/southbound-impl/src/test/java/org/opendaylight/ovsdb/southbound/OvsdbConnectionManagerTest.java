@@ -8,11 +8,17 @@
 package org.opendaylight.ovsdb.southbound;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.support.membermodification.MemberMatcher.method;
@@ -24,7 +30,9 @@ import com.google.common.util.concurrent.Futures;
 import java.net.InetAddress;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -36,13 +44,16 @@ import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.eos.binding.api.Entity;
 import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipService;
+import org.opendaylight.mdsal.eos.common.api.EntityOwnershipState;
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipStateChange;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo;
 import org.opendaylight.ovsdb.lib.impl.OvsdbConnectionService;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
 import org.opendaylight.ovsdb.lib.operations.DefaultOperations;
 import org.opendaylight.ovsdb.lib.operations.Operations;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.southbound.reconciliation.ReconciliationManager;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionCommand;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
@@ -81,6 +92,8 @@ public class OvsdbConnectionManagerTest {
     private Map<ConnectionInfo, OvsdbConnectionInstance> clients;
     private Map<ConnectionInfo, InstanceIdentifier<Node>> instanceIdentifiers;
     private Map<Entity, OvsdbConnectionInstance> entityConnectionMap;
+    private Map<InstanceIdentifier<Node>, DatabaseReplica> replicas;
+    private Map<InstanceIdentifier<Node>, ScheduledFuture<?>> replicaEvictions;
 
     private final InstanceIdentifier<Node> iid = InstanceIdentifier.create(NetworkTopology.class)
         .child(Topology.class, new TopologyKey(SouthboundConstants.OVSDB_TOPOLOGY_ID))
@@ -96,6 +109,11 @@ public class OvsdbConnectionManagerTest {
         setInternalState(ovsdbConnManager, "ovsdbConnection", ovsdbConnection);
         setInternalState(ovsdbConnManager, "alreadyProcessedClients", new ConcurrentHashMap<>());
         setInternalState(ovsdbConnManager, "ops", new DefaultOperations());
+        replicas = new ConcurrentHashMap<>();
+        setInternalState(ovsdbConnManager, "replicas", replicas);
+        replicaEvictions = new ConcurrentHashMap<>();
+        setInternalState(ovsdbConnManager, "replicaEvictions", replicaEvictions);
+        setInternalState(ovsdbConnManager, "replicaRetentionSecs", 300);
         entityConnectionMap = new ConcurrentHashMap<>();
 
         OvsdbConnectionInfo info = mock(OvsdbConnectionInfo.class);
@@ -183,7 +201,7 @@ public class OvsdbConnectionManagerTest {
 
         suppress(method(OvsdbConnectionManager.class, "getConnectionInstance", ConnectionInfo.class));
         when(ovsdbConnManager.getConnectionInstance(any(ConnectionInfo.class))).thenReturn(ovsdbConnectionInstance);
-        doNothing().when(txInvoker).invoke(any(TransactionCommand.class));
+        doNothing().when(txInvoker).invoke(any(TransactionCommand.class), any(), any());
 
         when(SouthboundMapper.suppressLocalIpPort(any(ConnectionInfo.class))).thenReturn(key);
 
@@ -212,6 +230,74 @@ public class OvsdbConnectionManagerTest {
         assertEquals("Error, size of the hashmap is incorrect", 0, testClients.size());
     }
 
+    @Test
+    public void testDisconnectedResumable() throws Exception {
+        ConnectionInfo key = mock(ConnectionInfo.class);
+        PowerMockito.mockStatic(SouthboundMapper.class);
+        when(SouthboundMapper.createConnectionInfo(any(OvsdbClient.class))).thenReturn(key);
+        when(SouthboundMapper.suppressLocalIpPort(any(ConnectionInfo.class))).thenReturn(key);
+
+        OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+        when(ovsdbConnectionInstance.getHasDeviceOwnership()).thenReturn(true);
+        when(ovsdbConnectionInstance.getInstanceIdentifier()).thenReturn(iid);
+        clients = new ConcurrentHashMap<>();
+        clients.put(key, ovsdbConnectionInstance);
+        setInternalState(ovsdbConnManager, "clients", clients);
+        suppress(method(OvsdbConnectionManager.class, "getConnectionInstance", ConnectionInfo.class));
+        when(ovsdbConnManager.getConnectionInstance(any(ConnectionInfo.class))).thenReturn(ovsdbConnectionInstance);
+        suppress(method(OvsdbConnectionManager.class, "unregisterEntityForOwnership",
+                OvsdbConnectionInstance.class));
+        ReadTransaction tx = mock(ReadTransaction.class);
+        when(db.newReadOnlyTransaction()).thenReturn(tx);
+        when(tx.exists(any(LogicalDatastoreType.class), any(DataObjectIdentifier.class)))
+            .thenReturn(mock(FluentFuture.class));
+        setInternalState(ovsdbConnManager, "instanceIdentifiers", new ConcurrentHashMap<>());
+        setInternalState(ovsdbConnManager, "nodeIdVsConnectionInstance", new ConcurrentHashMap<>());
+
+        // The device supports monitor_cond_since, hence its replica and its node are kept for resumption
+        final DatabaseReplica replica = new DatabaseReplica(SouthboundConstants.OPEN_V_SWITCH);
+        replica.applyDiffs(new TableUpdates(), "txn-1");
+        replicas.put(iid, replica);
+
+        ovsdbConnManager.disconnected(externalClient);
+        verify(ovsdbConnectionInstance).setHasDeviceOwnership(false);
+        verify(txInvoker, never()).invoke(any(TransactionCommand.class), any(), any());
+        assertSame(replica, replicas.get(iid));
+
+        // The replica and the node are dropped once the retention timeout expires
+        final ScheduledFuture<?> eviction = replicaEvictions.get(iid);
+        assertNotNull(eviction);
+        eviction.cancel(false);
+    }
+
+    @Test
+    public void testEvictReplica() throws Exception {
+        final DatabaseReplica replica = new DatabaseReplica(SouthboundConstants.OPEN_V_SWITCH);
+        replicas.put(iid, replica);
+        replicaEvictions.put(iid, mock(ScheduledFuture.class));
+        setInternalState(ovsdbConnManager, "nodeIdVsConnectionInstance", new ConcurrentHashMap<>());
+        when(entityOwnershipService.getOwnershipState(any(Entity.class))).thenReturn(Optional.empty());
+
+        ovsdbConnManager.evictReplica(iid, replica);
+        assertTrue(replicas.isEmpty());
+        assertTrue(replicaEvictions.isEmpty());
+        verify(txInvoker).invoke(any(TransactionCommand.class), eq(iid), isNull());
+    }
+
+    @Test
+    public void testEvictReplicaReconnected() throws Exception {
+        final DatabaseReplica replica = new DatabaseReplica(SouthboundConstants.OPEN_V_SWITCH);
+        replicas.put(iid, replica);
+        setInternalState(ovsdbConnManager, "nodeIdVsConnectionInstance", new ConcurrentHashMap<>());
+        when(entityOwnershipService.getOwnershipState(any(Entity.class)))
+            .thenReturn(Optional.of(EntityOwnershipState.OWNED_BY_OTHER));
+
+        // The device is now maintained by another instance, which owns the node
+        ovsdbConnManager.evictReplica(iid, replica);
+        assertTrue(replicas.isEmpty());
+        verify(txInvoker, never()).invoke(any(TransactionCommand.class), any(), any());
+    }
+
     @Test
     public void testDisconnect() throws Exception {
         OvsdbNodeAugmentation ovsdbNode = mock(OvsdbNodeAugmentation.class);
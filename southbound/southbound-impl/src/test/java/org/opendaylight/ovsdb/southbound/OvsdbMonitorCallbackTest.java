@@ -7,23 +7,35 @@
  */
 package org.opendaylight.ovsdb.southbound;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
 import org.opendaylight.ovsdb.lib.notation.Version;
+import org.opendaylight.ovsdb.lib.replica.DatabaseReplica;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.southbound.transactions.md.OvsdbOperationalCommandAggregator;
+import org.opendaylight.ovsdb.southbound.transactions.md.TransactionCommand;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
+import org.powermock.reflect.Whitebox;
 
 
 @RunWith(MockitoJUnitRunner.class)
@@ -46,7 +58,44 @@ public class OvsdbMonitorCallbackTest {
         when(dbSchema.getVersion())
                 .thenReturn(Version.fromString(SouthboundConstants.AUTOATTACH_SUPPORTED_OVS_SCHEMA_VERSION));
         ovsdbMonitorCallback.update(mock(TableUpdates.class), dbSchema);
-        verify(txInvoker).invoke(any(OvsdbOperationalCommandAggregator.class));
+        verify(txInvoker).invoke(any(OvsdbOperationalCommandAggregator.class), any(), any());
+    }
+
+    @Test
+    public void testPartialUpdate() {
+        DatabaseSchema dbSchema = mock(DatabaseSchema.class);
+        when(dbSchema.getVersion())
+                .thenReturn(Version.fromString(SouthboundConstants.AUTOATTACH_SUPPORTED_OVS_SCHEMA_VERSION));
+        assertTrue(ovsdbMonitorCallback.acceptsPartialUpdates());
+
+        ovsdbMonitorCallback.partialUpdate(bridgeUpdates("a"), dbSchema);
+        ovsdbMonitorCallback.partialUpdate(bridgeUpdates("b"), dbSchema);
+        verify(txInvoker, never()).invoke(any(), any(), any());
+
+        // The parts are written together with the reply, as a single update
+        ovsdbMonitorCallback.update(bridgeUpdates("c"), dbSchema);
+        ArgumentCaptor<OvsdbOperationalCommandAggregator> captor =
+                ArgumentCaptor.forClass(OvsdbOperationalCommandAggregator.class);
+        verify(txInvoker).invoke(captor.capture(), any(), any());
+        TableUpdates updates = Whitebox.getInternalState(captor.getValue(), "updates");
+        assertEquals(3, updates.getUpdates().get("Bridge").getRows().size());
+    }
+
+    private static TableUpdates bridgeUpdates(String uuid) {
+        TableUpdate<GenericTableSchema> update = new TableUpdate<>();
+        update.addRow(new UUID(uuid), null, mock(Row.class));
+        TableUpdates updates = new TableUpdates();
+        updates.getUpdates().put("Bridge", update);
+        return updates;
+    }
+
+    @Test
+    public void testResume() {
+        DatabaseReplica replica = spy(new DatabaseReplica(SouthboundConstants.OPEN_V_SWITCH));
+        ovsdbMonitorCallback.resume(mock(TableUpdates.class), replica, mock(DatabaseSchema.class));
+        verify(txInvoker).invoke(any(TransactionCommand.class), any(), any());
+        // The replica is captured before the command runs, together with the changes
+        verify(replica).snapshot();
     }
 
     @Test
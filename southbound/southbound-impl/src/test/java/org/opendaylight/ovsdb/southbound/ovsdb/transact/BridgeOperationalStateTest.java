@@ -79,6 +79,16 @@ public class BridgeOperationalStateTest {
         assertEquals(Optional.of(brNode), briOperationState.getBridgeNode(nodeIid));
     }
 
+    @Test
+    public void testGetBridgeNodeSnapshot() {
+        assertEquals(Optional.of(brNode), briOperationState.getBridgeNode(nodeIid));
+        assertEquals(Optional.of(brNode), briOperationState.getBridgeNode(
+            nodeIid.augmentation(OvsdbBridgeAugmentation.class)));
+        verify(db, times(1)).newReadOnlyTransaction();
+        assertEquals(1, briOperationState.getSnapshotHits());
+        assertEquals(1, briOperationState.getSnapshotMisses());
+    }
+
     @Test
     public void testGetOvsdbBridgeAugmentation() throws Exception {
         Optional<OvsdbBridgeAugmentation> optOvsdbBri = briOperationState.getOvsdbBridgeAugmentation(nodeIid);
@@ -9,8 +9,11 @@ package org.opendaylight.ovsdb.southbound.ovsdb.transact;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -21,12 +24,15 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
+import org.opendaylight.ovsdb.lib.operations.TransactionBatchMode;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.southbound.InstanceIdentifierCodec;
 import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
+import org.opendaylight.ovsdb.southbound.ovsdb.transact.TransactInvoker.Invocation;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.api.support.membermodification.MemberModifier;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -76,4 +82,38 @@ public class TransactInvokerImplTest {
                 mock(InstanceIdentifierCodec.class));
         verify(result).get();
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testInvokeAll() throws Exception {
+        TransactionBuilder tb = mock(TransactionBuilder.class);
+        PowerMockito.whenNew(TransactionBuilder.class).withAnyArguments().thenReturn(tb);
+        List<Operation> operation = new ArrayList<>();
+        operation.add(mock(Operation.class));
+        when(tb.getOperations()).thenReturn(operation);
+
+        ListenableFuture<List<OperationResult>> result1 = mock(ListenableFuture.class);
+        ListenableFuture<List<OperationResult>> result2 = mock(ListenableFuture.class);
+        when(result1.get()).thenReturn(new ArrayList<>());
+        when(result2.get()).thenReturn(new ArrayList<>());
+        OvsdbClient client = mock(OvsdbClient.class);
+        when(connectionInstance.getOvsdbClient()).thenReturn(client);
+        when(client.transact(anyList(), eq(TransactionBatchMode.PIPELINE))).thenReturn(List.of(result1, result2));
+
+        TransactCommand command1 = mock(TransactCommand.class);
+        TransactCommand command2 = mock(TransactCommand.class);
+        BridgeOperationalState state = mock(BridgeOperationalState.class);
+        DataChangeEvent events = mock(DataChangeEvent.class);
+        InstanceIdentifierCodec codec = mock(InstanceIdentifierCodec.class);
+        transactInvokerImpl.invoke(List.of(new Invocation(command1, state, events),
+                new Invocation(command2, state, events)), codec);
+
+        verify(command1).execute(tb, state, events, codec);
+        verify(command2).execute(tb, state, events, codec);
+        // Both transactions are sent together, before waiting for either of them
+        verify(client).transact(List.of(tb, tb), TransactionBatchMode.PIPELINE);
+        verify(tb, never()).execute();
+        verify(result1).get();
+        verify(result2).get();
+    }
 }
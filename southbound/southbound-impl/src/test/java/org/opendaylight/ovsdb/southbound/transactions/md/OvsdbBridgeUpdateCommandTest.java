@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -167,6 +168,8 @@ public class OvsdbBridgeUpdateCommandTest {
                 DataObjectIdentifier.class, Bridge.class));
         MemberModifier.suppress(MemberMatcher.method(OvsdbBridgeUpdateCommand.class, "getNodeId",
                 Bridge.class));
+        MemberModifier.suppress(MemberMatcher.method(OvsdbBridgeUpdateCommand.class, "indexBridge",
+                Bridge.class, DataObjectIdentifier.class));
 
         Bridge bridge = mock(Bridge.class);
         InstanceIdentifier<Node> connectionIId = InstanceIdentifier.create(NetworkTopology.class)
@@ -184,6 +187,43 @@ public class OvsdbBridgeUpdateCommandTest {
         verify(transaction).delete(any(LogicalDatastoreType.class), any(DataObjectIdentifier.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testIndexBridge() throws Exception {
+        final UUID bridgeUuid = new UUID("00000000-0000-0000-0000-000000000001");
+        final UUID removedUuid = new UUID("00000000-0000-0000-0000-000000000002");
+        final UUID keptUuid = new UUID("00000000-0000-0000-0000-000000000003");
+        final UUID addedUuid = new UUID("00000000-0000-0000-0000-000000000004");
+
+        Bridge oldBridge = mock(Bridge.class);
+        Column<GenericTableSchema, Set<UUID>> oldColumn = mock(Column.class);
+        when(oldColumn.getData()).thenReturn(Set.of(removedUuid, keptUuid));
+        when(oldBridge.getControllerColumn()).thenReturn(oldColumn);
+        oldBridgeRows.put(bridgeUuid, oldBridge);
+        MemberModifier.field(OvsdbBridgeUpdateCommand.class, "oldBridgeRows").set(ovsdbBridgeUpdateCommand,
+                oldBridgeRows);
+
+        Bridge bridge = mock(Bridge.class);
+        when(bridge.getUuid()).thenReturn(bridgeUuid);
+        Column<GenericTableSchema, Set<UUID>> column = mock(Column.class);
+        when(column.getData()).thenReturn(Set.of(keptUuid, addedUuid));
+        when(bridge.getControllerColumn()).thenReturn(column);
+
+        OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+        when(ovsdbBridgeUpdateCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
+        final var bridgeIid = DataObjectIdentifier.builder(NetworkTopology.class)
+            .child(Topology.class, new TopologyKey(new TopologyId("testTopo")))
+            .child(Node.class, new NodeKey(new NodeId("testNode")))
+            .build();
+        Whitebox.invokeMethod(ovsdbBridgeUpdateCommand, "indexBridge", bridge, bridgeIid);
+
+        verify(ovsdbConnectionInstance).updateBridge(bridgeUuid, bridgeIid.toLegacy());
+        verify(ovsdbConnectionInstance).removeController(removedUuid);
+        verify(ovsdbConnectionInstance, never()).removeController(keptUuid);
+        verify(ovsdbConnectionInstance).updateController(keptUuid, bridgeIid.toLegacy());
+        verify(ovsdbConnectionInstance).updateController(addedUuid, bridgeIid.toLegacy());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testToRemoveMethods() throws Exception {
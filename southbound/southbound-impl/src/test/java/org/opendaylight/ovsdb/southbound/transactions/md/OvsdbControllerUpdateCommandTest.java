@@ -10,9 +10,11 @@ package org.opendaylight.ovsdb.southbound.transactions.md;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -67,6 +69,7 @@ import org.powermock.reflect.Whitebox;
 public class OvsdbControllerUpdateCommandTest {
     private static final String BRIDGE_NAME = "br-int";
     private static final String NODE_ID = "OF|00:00:00:0c:29:70:45:9b";
+    private static final String TARGET_COLUMN_DATA = "tcp:127.0.0.1:6653";
 
     private OvsdbControllerUpdateCommand ovsdbControllerUpdateCommand;
 
@@ -146,8 +149,11 @@ public class OvsdbControllerUpdateCommandTest {
 
     @Test
     public void testUpdateController2() throws Exception {
-        ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
+        OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+        when(ovsdbControllerUpdateCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
         Map<UUID, Controller> updatedControllerRows = new HashMap<>();
+        updatedControllerRows.put(mock(UUID.class), mock(Controller.class));
+        ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
         Map<InstanceIdentifier<Node>, Node> bridgeNodes = new HashMap<>();
         Node node = mock(Node.class);
         InstanceIdentifier<Node> bridgeIid = InstanceIdentifier.create(NetworkTopology.class)
@@ -162,6 +168,37 @@ public class OvsdbControllerUpdateCommandTest {
                 any(ReadWriteTransaction.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdateControllerIndexed() throws Exception {
+        final UUID controllerUuid = new UUID("00000000-0000-0000-0000-000000000001");
+        final InstanceIdentifier<Node> bridgeIid = InstanceIdentifier.create(NetworkTopology.class)
+            .child(Topology.class, new TopologyKey(SouthboundConstants.OVSDB_TOPOLOGY_ID))
+            .child(Node.class, new NodeKey(new NodeId("testNode")));
+        OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+        when(ovsdbControllerUpdateCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
+        when(ovsdbConnectionInstance.getController(controllerUuid)).thenReturn(bridgeIid);
+
+        Controller controller = mock(Controller.class);
+        when(controller.getUuid()).thenReturn(controllerUuid);
+        Column<GenericTableSchema, String> targetColumn = mock(Column.class);
+        when(targetColumn.getData()).thenReturn(TARGET_COLUMN_DATA);
+        when(controller.getTargetColumn()).thenReturn(targetColumn);
+        Column<GenericTableSchema, Boolean> isConnectedColumn = mock(Column.class);
+        when(isConnectedColumn.getData()).thenReturn(Boolean.TRUE);
+        when(controller.getIsConnectedColumn()).thenReturn(isConnectedColumn);
+
+        ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
+        Whitebox.invokeMethod(ovsdbControllerUpdateCommand, "updateController", transaction,
+            Map.of(controllerUuid, controller));
+        verify(transaction).merge(eq(LogicalDatastoreType.OPERATIONAL), eq(bridgeIid
+            .augmentation(OvsdbBridgeAugmentation.class)
+            .child(ControllerEntry.class, new ControllerEntryKey(new Uri(TARGET_COLUMN_DATA)))
+            .toIdentifier()), any(ControllerEntry.class));
+        PowerMockito.verifyPrivate(ovsdbControllerUpdateCommand, never()).invoke("getBridgeNodes",
+                any(ReadWriteTransaction.class));
+    }
+
     @Test
     public void testGetBridgeNodes() throws Exception {
         OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
@@ -8,9 +8,12 @@
 package org.opendaylight.ovsdb.southbound.transactions.md;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -87,4 +90,38 @@ public class OvsdbOperationalCommandAggregatorTest {
             verify(command).execute(any(ReadWriteTransaction.class));
         }
     }
+
+    @Test
+    public void testExecuteFailure() {
+        OvsdbConnectionInstance key = mock(OvsdbConnectionInstance.class);
+        Whitebox.setInternalState(ovsdbOperationalCommandAggregator, "key", key);
+        ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
+        IllegalStateException failure = new IllegalStateException("Transaction chain closed");
+        doThrow(failure).when(commands.get(0)).execute(transaction);
+
+        assertThrows(IllegalStateException.class, () -> ovsdbOperationalCommandAggregator.execute(transaction));
+        verify(key).clearIndexes();
+    }
+
+    @Test
+    public void testOnFailure() {
+        OvsdbConnectionInstance key = mock(OvsdbConnectionInstance.class);
+        Whitebox.setInternalState(ovsdbOperationalCommandAggregator, "key", key);
+        Throwable failure = new Exception("Commit failed");
+
+        ovsdbOperationalCommandAggregator.onFailure(failure);
+        verify(key).clearIndexes();
+        for (TransactionCommand command: commands) {
+            verify(command).onFailure(failure);
+        }
+    }
+
+    @Test
+    public void testOnSuccess() {
+        OvsdbConnectionInstance key = mock(OvsdbConnectionInstance.class);
+        Whitebox.setInternalState(ovsdbOperationalCommandAggregator, "key", key);
+
+        ovsdbOperationalCommandAggregator.onSuccess();
+        verify(key, never()).clearIndexes();
+    }
 }
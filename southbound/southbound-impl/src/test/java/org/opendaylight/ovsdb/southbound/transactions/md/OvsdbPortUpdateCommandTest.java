@@ -8,12 +8,15 @@
 package org.opendaylight.ovsdb.southbound.transactions.md;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.support.membermodification.MemberMatcher.field;
 import static org.powermock.api.support.membermodification.MemberMatcher.method;
@@ -28,6 +31,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -49,17 +53,22 @@ import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
 import org.opendaylight.ovsdb.southbound.SouthboundConstants;
 import org.opendaylight.ovsdb.southbound.SouthboundMapper;
 import org.opendaylight.ovsdb.southbound.SouthboundUtil;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Uuid;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.l2.types.rev130827.VlanId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.InterfaceTypeInternal;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbBridgeAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbBridgeRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbNodeAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbNodeAugmentationBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbPortInterfaceAttributes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbPortInterfaceAttributes.VlanMode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbTerminationPointAugmentationBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.ManagedNodeEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.ManagedNodeEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntries;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntriesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntriesKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.port._interface.attributes.TrunksBuilder;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
@@ -68,11 +77,13 @@ import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyKey;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.node.TerminationPoint;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.node.TerminationPointBuilder;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.node.TerminationPointKey;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.util.BindingMap;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.common.Uint32;
@@ -113,6 +124,8 @@ public class OvsdbPortUpdateCommandTest {
     public void testOvsdbPortUpdateCommand() throws Exception {
         TableUpdates updates = mock(TableUpdates.class);
         DatabaseSchema dbSchema = mock(DatabaseSchema.class);
+        ifUpdatedRows = new HashMap<>();
+        interfaceOldRows = new HashMap<>();
 
         PowerMockito.mockStatic(TyperUtils.class);
         PowerMockito.when(TyperUtils.extractRowsUpdated(Port.class, updates, dbSchema)).thenReturn(portUpdatedRows);
@@ -147,18 +160,16 @@ public class OvsdbPortUpdateCommandTest {
                 .child(Node.class, new NodeKey(new NodeId("testNode"))));
 
         //case 1: portUpdatedRows & interfaceOldRows not null, not empty
-        Optional<Node> node = Optional.of(mock(Node.class));
-        PowerMockito.doReturn(node).when(ovsdbPortUpdateCommand, "readNode", any(ReadWriteTransaction.class),
-                any(InstanceIdentifier.class));
         doNothing().when(ovsdbPortUpdateCommand).updateTerminationPoints(any(ReadWriteTransaction.class),
-            any(Node.class));
+            any(Supplier.class));
         ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
         PowerMockito.mockStatic(SouthboundUtil.class);
-        PowerMockito.when(SouthboundUtil.readNode(any(ReadWriteTransaction.class), any(InstanceIdentifier.class)))
-            .thenReturn(node);
         ovsdbPortUpdateCommand.execute(transaction);
         verify(ovsdbConnectionInstance).getInstanceIdentifier();
-        verify(ovsdbPortUpdateCommand).updateTerminationPoints(any(ReadWriteTransaction.class), any(Node.class));
+        verify(ovsdbPortUpdateCommand).updateTerminationPoints(any(ReadWriteTransaction.class), any(Supplier.class));
+        // the node is only read once a port cannot be placed through the indexes
+        PowerMockito.verifyStatic(SouthboundUtil.class, never());
+        SouthboundUtil.readNode(any(ReadWriteTransaction.class), any(InstanceIdentifier.class));
     }
 
     @Test
@@ -193,7 +204,7 @@ public class OvsdbPortUpdateCommandTest {
 
         PowerMockito.suppress(MemberMatcher.method(OvsdbPortUpdateCommand.class, "buildTerminationPoint",
                 ReadWriteTransaction.class, InstanceIdentifier.class, OvsdbTerminationPointAugmentationBuilder.class,
-                Node.class, Entry.class));
+                Supplier.class, Entry.class));
 
         Column<GenericTableSchema, Set<UUID>> interfacesColumn = mock(Column.class);
         when(port.getInterfacesColumn()).thenReturn(interfacesColumn);
@@ -228,11 +239,11 @@ public class OvsdbPortUpdateCommandTest {
         when(interfaceColumn.getData()).thenReturn(INTERFACE_NAME);
         when(ovsdbPortUpdateCommand.getOvsdbConnectionInstance()).thenReturn(mock(OvsdbConnectionInstance.class));
 
-        PowerMockito.doReturn(bridgeIid).when(ovsdbPortUpdateCommand, "getTerminationPointBridge",
-                any(ReadWriteTransaction.class), any(Node.class), anyString());
+        PowerMockito.doReturn(bridgeIid).when(ovsdbPortUpdateCommand, "findTerminationPointBridge",
+                any(ReadWriteTransaction.class), any(Supplier.class), anyString());
         PowerMockito.when(SouthboundMapper.createManagedNodeId(any(InstanceIdentifier.class))).thenReturn(bridgeId);
 
-        Node node = mock(Node.class);
+        Supplier<Optional<Node>> node = () -> Optional.of(mock(Node.class));
         Whitebox.invokeMethod(ovsdbPortUpdateCommand, "updateTerminationPoints", transaction, node);
         verify(ovsdbPortUpdateCommand).getInstanceIdentifier(any(InstanceIdentifier.class),
             any(Port.class));
@@ -240,6 +251,77 @@ public class OvsdbPortUpdateCommandTest {
                 any(TerminationPoint.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUnindexDetachedInterfaces() throws Exception {
+        final UUID portUuid = new UUID("00000000-0000-0000-0000-000000000001");
+        final UUID detachedUuid = new UUID("00000000-0000-0000-0000-000000000002");
+        final UUID keptUuid = new UUID("00000000-0000-0000-0000-000000000003");
+
+        Port oldPort = mock(Port.class);
+        Column<GenericTableSchema, Set<UUID>> oldColumn = mock(Column.class);
+        when(oldColumn.getData()).thenReturn(Set.of(detachedUuid, keptUuid));
+        when(oldPort.getInterfacesColumn()).thenReturn(oldColumn);
+        field(OvsdbPortUpdateCommand.class, "portOldRows").set(ovsdbPortUpdateCommand, Map.of(portUuid, oldPort));
+
+        Port port = mock(Port.class);
+        Column<GenericTableSchema, Set<UUID>> column = mock(Column.class);
+        when(column.getData()).thenReturn(Set.of(keptUuid));
+        when(port.getInterfacesColumn()).thenReturn(column);
+        field(OvsdbPortUpdateCommand.class, "portUpdatedRows").set(ovsdbPortUpdateCommand, Map.of(portUuid, port));
+
+        OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+        when(ovsdbPortUpdateCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
+        Whitebox.invokeMethod(ovsdbPortUpdateCommand, "unindexDetachedInterfaces");
+        verify(ovsdbConnectionInstance).removeInterface(detachedUuid);
+        verify(ovsdbConnectionInstance, never()).removeInterface(keptUuid);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetQosIidIndexed() throws Exception {
+        final UUID qosUuid = new UUID("00000000-0000-0000-0000-000000000001");
+        final NodeId nodeId = new NodeId("nodeId");
+        final InstanceIdentifier<QosEntries> qosIid = SouthboundMapper.createInstanceIdentifier(nodeId)
+            .augmentation(OvsdbNodeAugmentation.class)
+            .child(QosEntries.class, new QosEntriesKey(new Uri("qos")));
+
+        OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+        when(ovsdbPortUpdateCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
+        when(ovsdbConnectionInstance.getQos(qosUuid)).thenReturn(qosIid);
+
+        Supplier<Optional<Node>> node = mock(Supplier.class);
+        assertSame(qosIid, Whitebox.invokeMethod(ovsdbPortUpdateCommand, "getQosIid", node, qosUuid));
+        verifyNoInteractions(node);
+    }
+
+    @Test
+    public void testGetQosIidFromNode() throws Exception {
+        final UUID qosUuid = new UUID("00000000-0000-0000-0000-000000000001");
+        final NodeId nodeId = new NodeId("nodeId");
+        final QosEntries qosEntry = new QosEntriesBuilder()
+            .setQosId(new Uri("qos"))
+            .setQosUuid(new Uuid(qosUuid.toString()))
+            .build();
+        final OvsdbNodeAugmentation ovsdbNode = new OvsdbNodeAugmentationBuilder()
+            .setQosEntries(BindingMap.of(qosEntry))
+            .build();
+
+        final Node node = new NodeBuilder()
+            .setNodeId(nodeId)
+            .addAugmentation(ovsdbNode)
+            .build();
+        final Supplier<Optional<Node>> nodeSupplier = () -> Optional.of(node);
+
+        OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+        when(ovsdbPortUpdateCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
+        assertEquals(SouthboundMapper.createInstanceIdentifier(nodeId)
+            .augmentation(OvsdbNodeAugmentation.class)
+            .child(QosEntries.class, qosEntry.key()),
+            Whitebox.invokeMethod(ovsdbPortUpdateCommand, "getQosIid", nodeSupplier, qosUuid));
+        verify(ovsdbConnectionInstance).getQos(qosUuid);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testBuildTerminationPoint() throws Exception {
@@ -258,10 +340,10 @@ public class OvsdbPortUpdateCommandTest {
         when(tpAugmentationBuilder.setName(anyString())).thenReturn(tpAugmentationBuilder);
         when(tpAugmentationBuilder.setPortUuid(any(Uuid.class))).thenReturn(tpAugmentationBuilder);
         doNothing().when(ovsdbPortUpdateCommand).updatePort(any(ReadWriteTransaction.class),
-            any(Node.class), any(InstanceIdentifier.class), any(Entry.class),
+            any(Supplier.class), any(InstanceIdentifier.class), any(Entry.class),
             any(OvsdbTerminationPointAugmentationBuilder.class));
 
-        Node node = mock(Node.class);
+        Supplier<Optional<Node>> node = () -> Optional.of(mock(Node.class));
         ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
         InstanceIdentifier<TerminationPoint> tpPath = InstanceIdentifier.create(NetworkTopology.class)
             .child(Topology.class, new TopologyKey(new TopologyId("testTopo")))
@@ -273,7 +355,7 @@ public class OvsdbPortUpdateCommandTest {
         verify(tpAugmentationBuilder).setName(anyString());
         verify(tpAugmentationBuilder).setPortUuid(any(Uuid.class));
         verify(ovsdbPortUpdateCommand).updatePort(any(ReadWriteTransaction.class),
-                any(Node.class), any(InstanceIdentifier.class), any(Entry.class),
+                any(Supplier.class), any(InstanceIdentifier.class), any(Entry.class),
                 any(OvsdbTerminationPointAugmentationBuilder.class));
     }
 
@@ -439,10 +521,10 @@ public class OvsdbPortUpdateCommandTest {
             OvsdbTerminationPointAugmentationBuilder.class));
         suppress(method(OvsdbPortUpdateCommand.class, "updatePortOtherConfig", Port.class,
             OvsdbTerminationPointAugmentationBuilder.class));
-        suppress(method(OvsdbPortUpdateCommand.class, "updateQos", ReadWriteTransaction.class, Node.class,
+        suppress(method(OvsdbPortUpdateCommand.class, "updateQos", ReadWriteTransaction.class, Supplier.class,
                 InstanceIdentifier.class, Entry.class, OvsdbTerminationPointAugmentationBuilder.class));
 
-        Node node = mock(Node.class);
+        Supplier<Optional<Node>> node = () -> Optional.of(mock(Node.class));
         Entry<UUID, Port> port = new SimpleEntry<>(mock(UUID.class), mock(Port.class));
         OvsdbTerminationPointAugmentationBuilder ovsdbTerminationPointBuilder = mock(
                 OvsdbTerminationPointAugmentationBuilder.class);
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.southbound.transactions.md;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.schema.openvswitch.Qos;
+import org.opendaylight.ovsdb.schema.openvswitch.Queue;
+import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
+import org.opendaylight.ovsdb.southbound.SouthboundMapper;
+import org.opendaylight.ovsdb.southbound.SouthboundUtil;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Uuid;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbNodeAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbNodeAugmentationBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntries;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntriesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntriesKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.Queues;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QueuesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QueuesKey;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeBuilder;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.api.support.membermodification.MemberModifier;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Test class for {@link OvsdbQosRemovedCommand} and {@link OvsdbQueueRemovedCommand}, which remove their entries
+ * through the connection's index and fall back to looking them up in the node.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ OvsdbQosRemovedCommand.class, OvsdbQueueRemovedCommand.class, SouthboundUtil.class })
+public class OvsdbQosQueueRemovedCommandTest {
+    private static final UUID ROW_UUID = new UUID("00000000-0000-0000-0000-000000000001");
+    private static final NodeId NODE_ID = new NodeId("ovsdb://uuid/00000000-0000-0000-0000-000000000002");
+    private static final InstanceIdentifier<Node> NODE_IID = SouthboundMapper.createInstanceIdentifier(NODE_ID);
+    private static final QosEntries QOS_ENTRY = new QosEntriesBuilder()
+        .setQosId(new Uri("qos"))
+        .setQosUuid(new Uuid(ROW_UUID.toString()))
+        .build();
+    private static final Queues QUEUE = new QueuesBuilder()
+        .setQueueId(new Uri("queue"))
+        .setQueueUuid(new Uuid(ROW_UUID.toString()))
+        .build();
+
+    private final OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+    private final ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
+    private OvsdbQosRemovedCommand ovsdbQosRemovedCommand;
+    private OvsdbQueueRemovedCommand ovsdbQueueRemovedCommand;
+
+    @Before
+    public void setUp() throws Exception {
+        ovsdbQosRemovedCommand = PowerMockito.mock(OvsdbQosRemovedCommand.class, Mockito.CALLS_REAL_METHODS);
+        MemberModifier.field(OvsdbQosRemovedCommand.class, "removedQosRows").set(ovsdbQosRemovedCommand,
+                Map.of(ROW_UUID, mock(Qos.class)));
+        when(ovsdbQosRemovedCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
+
+        ovsdbQueueRemovedCommand = PowerMockito.mock(OvsdbQueueRemovedCommand.class, Mockito.CALLS_REAL_METHODS);
+        MemberModifier.field(OvsdbQueueRemovedCommand.class, "removedQueueRows").set(ovsdbQueueRemovedCommand,
+                Map.of(ROW_UUID, mock(Queue.class)));
+        when(ovsdbQueueRemovedCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
+    }
+
+    @Test
+    public void testQosExecuteIndexed() {
+        final InstanceIdentifier<QosEntries> qosIid = NODE_IID.augmentation(OvsdbNodeAugmentation.class)
+            .child(QosEntries.class, new QosEntriesKey(new Uri("qos")));
+        when(ovsdbConnectionInstance.getQos(ROW_UUID)).thenReturn(qosIid);
+
+        ovsdbQosRemovedCommand.execute(transaction);
+        verify(ovsdbConnectionInstance).removeQos(ROW_UUID);
+        verifyDeletedWithoutNode(qosIid);
+    }
+
+    @Test
+    public void testQosExecuteFromNode() {
+        mockNode(new OvsdbNodeAugmentationBuilder().setQosEntries(BindingMap.of(QOS_ENTRY)));
+
+        ovsdbQosRemovedCommand.execute(transaction);
+        verify(ovsdbConnectionInstance, never()).removeQos(ROW_UUID);
+        verifyDeleted(NODE_IID.augmentation(OvsdbNodeAugmentation.class).child(QosEntries.class, QOS_ENTRY.key()));
+    }
+
+    @Test
+    public void testQueueExecuteIndexed() {
+        final InstanceIdentifier<Queues> queueIid = NODE_IID.augmentation(OvsdbNodeAugmentation.class)
+            .child(Queues.class, new QueuesKey(new Uri("queue")));
+        when(ovsdbConnectionInstance.getQueue(ROW_UUID)).thenReturn(queueIid);
+
+        ovsdbQueueRemovedCommand.execute(transaction);
+        verify(ovsdbConnectionInstance).removeQueue(ROW_UUID);
+        verifyDeletedWithoutNode(queueIid);
+    }
+
+    @Test
+    public void testQueueExecuteFromNode() {
+        mockNode(new OvsdbNodeAugmentationBuilder().setQueues(BindingMap.of(QUEUE)));
+
+        ovsdbQueueRemovedCommand.execute(transaction);
+        verify(ovsdbConnectionInstance, never()).removeQueue(ROW_UUID);
+        verifyDeleted(NODE_IID.augmentation(OvsdbNodeAugmentation.class).child(Queues.class, QUEUE.key()));
+    }
+
+    private void mockNode(final OvsdbNodeAugmentationBuilder augmentation) {
+        final Node node = new NodeBuilder().setNodeId(NODE_ID).addAugmentation(augmentation.build()).build();
+        when(ovsdbConnectionInstance.getInstanceIdentifier()).thenReturn(NODE_IID);
+        when(ovsdbConnectionInstance.getNodeId()).thenReturn(NODE_ID);
+        PowerMockito.mockStatic(SouthboundUtil.class);
+        when(SouthboundUtil.readNode(transaction, NODE_IID)).thenReturn(Optional.of(node));
+    }
+
+    private void verifyDeletedWithoutNode(final InstanceIdentifier<?> iid) {
+        // Indexed entries are deleted without reading the node
+        verify(ovsdbConnectionInstance, never()).getInstanceIdentifier();
+        verifyDeleted(iid);
+        verifyNoMoreInteractions(transaction);
+    }
+
+    private void verifyDeleted(final InstanceIdentifier<?> iid) {
+        verify(transaction).delete(LogicalDatastoreType.OPERATIONAL, iid.toIdentifier());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.southbound.transactions.md;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.Column;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.TyperUtils;
+import org.opendaylight.ovsdb.schema.openvswitch.Bridge;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(TyperUtils.class)
+public class PortBridgeIndexTest {
+    private static final UUID BRIDGE1 = new UUID("00000000-0000-0000-0000-000000000001");
+    private static final UUID BRIDGE2 = new UUID("00000000-0000-0000-0000-000000000002");
+    private static final UUID MOVED_PORT = new UUID("00000000-0000-0000-0000-000000000003");
+    private static final UUID REMOVED_PORT = new UUID("00000000-0000-0000-0000-000000000004");
+    private static final UUID KEPT_PORT = new UUID("00000000-0000-0000-0000-000000000005");
+
+    private final Bridge updatedBridge1 = bridge(KEPT_PORT);
+    private final Bridge oldBridge1 = bridge(KEPT_PORT, MOVED_PORT);
+    private final Bridge updatedBridge2 = bridge(MOVED_PORT);
+    private final Bridge oldBridge2 = bridge(REMOVED_PORT);
+    private PortBridgeIndex index;
+
+    @Before
+    public void setUp() {
+        PowerMockito.mockStatic(TyperUtils.class);
+        when(TyperUtils.extractRowsUpdated(eq(Bridge.class), any(TableUpdates.class), any(DatabaseSchema.class)))
+            .thenReturn(Map.of(BRIDGE1, updatedBridge1, BRIDGE2, updatedBridge2));
+        when(TyperUtils.extractRowsOld(eq(Bridge.class), any(TableUpdates.class), any(DatabaseSchema.class)))
+            .thenReturn(Map.of(BRIDGE1, oldBridge1));
+        index = new PortBridgeIndex(mock(TableUpdates.class), mock(DatabaseSchema.class));
+    }
+
+    @Test
+    public void testGetBridge() {
+        assertSame(updatedBridge1, index.getBridge(KEPT_PORT));
+        assertSame(updatedBridge2, index.getBridge(MOVED_PORT));
+        assertNull(index.getBridge(REMOVED_PORT));
+    }
+
+    @Test
+    public void testGetFormerBridge() {
+        // The updated row of the former bridge is preferred
+        assertSame(updatedBridge1, index.getFormerBridge(MOVED_PORT));
+        assertNull(index.getFormerBridge(REMOVED_PORT));
+    }
+
+    @Test
+    public void testGetFormerBridgeRemoved() {
+        when(TyperUtils.extractRowsOld(eq(Bridge.class), any(TableUpdates.class), any(DatabaseSchema.class)))
+            .thenReturn(Map.of(BRIDGE2, oldBridge2));
+        when(TyperUtils.extractRowsUpdated(eq(Bridge.class), any(TableUpdates.class), any(DatabaseSchema.class)))
+            .thenReturn(Map.of());
+
+        // A bridge which has been removed along with its ports has no updated row
+        assertSame(oldBridge2, index.getFormerBridge(REMOVED_PORT));
+    }
+
+    @Test
+    public void testIndexBuiltOnce() {
+        index.getBridge(KEPT_PORT);
+        index.getFormerBridge(MOVED_PORT);
+        index.getBridge(MOVED_PORT);
+
+        PowerMockito.verifyStatic(TyperUtils.class);
+        TyperUtils.extractRowsUpdated(eq(Bridge.class), any(TableUpdates.class), any(DatabaseSchema.class));
+        PowerMockito.verifyStatic(TyperUtils.class);
+        TyperUtils.extractRowsOld(eq(Bridge.class), any(TableUpdates.class), any(DatabaseSchema.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Bridge bridge(final UUID... ports) {
+        final Column<GenericTableSchema, Set<UUID>> column = mock(Column.class);
+        when(column.getData()).thenReturn(Set.of(ports));
+        final Bridge bridge = mock(Bridge.class);
+        when(bridge.getPortsColumn()).thenReturn(column);
+        return bridge;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 OpenDaylight Project and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.southbound.transactions.md;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.ovsdb.southbound.SouthboundConstants;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyKey;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ShardedTransactionInvokerTest {
+    private static final InstanceIdentifier<Node> NODE_IID = InstanceIdentifier.create(NetworkTopology.class)
+        .child(Topology.class, new TopologyKey(SouthboundConstants.OVSDB_TOPOLOGY_ID))
+        .child(Node.class, new NodeKey(new NodeId("ovsdb://uuid/test")));
+
+    @Mock
+    private TransactionInvokerImpl shard0;
+    @Mock
+    private TransactionInvokerImpl shard1;
+    @Mock
+    private TransactionCommand command;
+
+    @Test
+    public void testInvokeNode() {
+        final ShardedTransactionInvoker invoker = new ShardedTransactionInvoker(List.of(shard0, shard1));
+        final OvsdbClient client = mock(OvsdbClient.class);
+        final TransactionInvokerImpl shard = invoker.shardOf(NODE_IID);
+        final TransactionInvokerImpl other = shard == shard0 ? shard1 : shard0;
+
+        invoker.invoke(command, NODE_IID, client);
+        invoker.invoke(command, NODE_IID, null);
+        verify(shard).invoke(command, client);
+        verify(shard).invoke(command, null);
+        verify(other, never()).invoke(any(), any());
+        assertSame(shard, invoker.shardOf(NODE_IID));
+    }
+
+    @Test
+    public void testReconnectOrdered() {
+        final ShardedTransactionInvoker invoker = new ShardedTransactionInvoker(List.of(shard0, shard1));
+        final TransactionCommand remove = mock(TransactionCommand.class);
+        final TransactionCommand add = mock(TransactionCommand.class);
+        final OvsdbClient oldClient = mock(OvsdbClient.class);
+        final OvsdbClient newClient = mock(OvsdbClient.class);
+
+        // The node of the old connection is removed, then the new connection of the same device writes it again
+        invoker.invoke(remove, NODE_IID, oldClient);
+        invoker.invoke(add, NODE_IID, newClient);
+
+        // Both end up on the same shard in invocation order, hence they are executed in that order
+        final TransactionInvokerImpl shard = invoker.shardOf(NODE_IID);
+        final TransactionInvokerImpl other = shard == shard0 ? shard1 : shard0;
+        final InOrder inOrder = inOrder(shard);
+        inOrder.verify(shard).invoke(remove, oldClient);
+        inOrder.verify(shard).invoke(add, newClient);
+        verify(other, never()).invoke(any(), any());
+    }
+
+    @Test
+    public void testInvokeWithoutNode() {
+        final ShardedTransactionInvoker invoker = new ShardedTransactionInvoker(List.of(shard0, shard1));
+        final OvsdbClient client = mock(OvsdbClient.class);
+        invoker.invoke(command);
+        invoker.invoke(command, client);
+        invoker.invoke(command, null, client);
+        verify(shard0).invoke(command);
+        verify(shard0, times(2)).invoke(command, client);
+        verify(shard1, never()).invoke(any());
+        verify(shard1, never()).invoke(any(), any());
+    }
+
+    @Test
+    public void testPausedConnectionCount() {
+        doReturn(1).when(shard0).getPausedConnectionCount();
+        doReturn(2).when(shard1).getPausedConnectionCount();
+        assertEquals(3, new ShardedTransactionInvoker(List.of(shard0, shard1)).getPausedConnectionCount());
+    }
+
+    @Test
+    public void testPausedNanos() {
+        doReturn(1000L).when(shard0).getPausedNanos();
+        doReturn(2000L).when(shard1).getPausedNanos();
+        assertEquals(3000L, new ShardedTransactionInvoker(List.of(shard0, shard1)).getPausedNanos());
+    }
+
+    @Test
+    public void testClose() throws InterruptedException {
+        try (ShardedTransactionInvoker invoker = new ShardedTransactionInvoker(List.of(shard0, shard1))) {
+            assertEquals(List.of(shard0, shard1), invoker.getShards());
+        }
+        verify(shard0).close();
+        verify(shard1).close();
+    }
+}
@@ -11,9 +11,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.powermock.reflect.Whitebox.getInternalState;
 
@@ -34,6 +36,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.binding.api.TransactionChain;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
 
 @RunWith(MockitoJUnitRunner.class)
 public class TransactionInvokerImplTest {
@@ -156,4 +159,75 @@ public class TransactionInvokerImplTest {
 
         verify(executor).shutdown();
     }
+
+    @Test
+    public void testFlowControl() throws InterruptedException {
+        final TransactionInvokerImpl invoker = new TransactionInvokerImpl(db, Collections.emptyList());
+        final OvsdbClient client = mock(OvsdbClient.class);
+
+        for (int i = 0; i < 999; i++) {
+            invoker.invoke(mock(TransactionCommand.class), client);
+        }
+        verify(client, never()).suspendReading();
+        invoker.invoke(mock(TransactionCommand.class), client);
+        verify(client).suspendReading();
+        assertEquals(1, invoker.getPausedConnectionCount());
+
+        final List<TransactionCommand> commands = invoker.extractCommandsFromQueue();
+        assertEquals(1000, commands.size());
+        for (TransactionCommand command : commands.subList(0, 499)) {
+            invoker.release(command);
+        }
+        verify(client, never()).resumeReading();
+        invoker.release(commands.get(499));
+        verify(client).resumeReading();
+        assertEquals(0, invoker.getPausedConnectionCount());
+        assertTrue(invoker.getPausedNanos() > 0);
+    }
+
+    @Test
+    public void testInvokeWhenFull() throws InterruptedException {
+        final TransactionInvokerImpl invoker = new TransactionInvokerImpl(db, Collections.emptyList());
+        final OvsdbClient client = mock(OvsdbClient.class);
+        for (int i = 0; i < 10000; i++) {
+            invoker.invoke(mock(TransactionCommand.class));
+        }
+
+        // Commands not associated with a device are rejected, commands from devices overflow the queue
+        invoker.invoke(mock(TransactionCommand.class));
+        final TransactionCommand sourced = mock(TransactionCommand.class);
+        invoker.invoke(sourced, client);
+        verify(client).suspendReading();
+
+        final List<TransactionCommand> commands = invoker.extractCommandsFromQueue();
+        assertEquals(10001, commands.size());
+        assertEquals(sourced.toString(), commands.get(10000).toString());
+    }
+
+    @Test
+    public void testMergeCommands() throws InterruptedException {
+        final TransactionInvokerImpl invoker = new TransactionInvokerImpl(db, Collections.emptyList());
+        final OvsdbClient client = mock(OvsdbClient.class);
+        final OvsdbClient other = mock(OvsdbClient.class);
+        final TransactionCommand first = mock(TransactionCommand.class);
+        doReturn(true).when(first).merge(any());
+        final TransactionCommand barrier = mock(TransactionCommand.class);
+
+        invoker.invoke(first, client);
+        for (int i = 0; i < 999; i++) {
+            invoker.invoke(mock(TransactionCommand.class), client);
+        }
+        invoker.invoke(mock(TransactionCommand.class), other);
+        invoker.invoke(barrier);
+        invoker.invoke(mock(TransactionCommand.class), client);
+        verify(client).suspendReading();
+
+        final List<TransactionCommand> commands = invoker.extractCommandsFromQueue();
+        assertEquals(4, commands.size());
+        assertSame(barrier, commands.get(2));
+        assertEquals(999, invoker.getMergedCommandCount());
+
+        invoker.release(commands.get(0));
+        verify(client).resumeReading();
+    }
 }